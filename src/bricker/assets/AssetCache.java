@@ -0,0 +1,144 @@
+package bricker.assets;
+
+import danogl.gui.rendering.ImageRenderable;
+import danogl.gui.rendering.Renderable;
+
+import java.awt.*;
+import java.io.File;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A game-wide registry of the images and sounds in use.
+ * Each asset is read from the underlying source only once, and every later request for it
+ * gets the same shared Renderable or SoundEffect instance.
+ * It also keeps an estimate of the memory held by the loaded assets.
+ *
+ * @author Amit Tzur and Zohar Mattatia
+ */
+public class AssetCache implements GameAssets {
+    // =========================== private constants =========================== //
+    /* bytes per pixel of a decoded ARGB image */
+    private static final int BYTES_PER_PIXEL = 4;
+    /* separator between the image path and its transparency flag in the cache key */
+    private static final char KEY_SEPARATOR = '|';
+
+    // =========================== fields =========================== //
+    /* the source the assets are actually read from */
+    private final GameAssets source;
+    /* loaded images, by path and transparency flag */
+    private final Map<String, Renderable> images = new HashMap<>();
+    /* loaded sounds, by path */
+    private final Map<String, SoundEffect> sounds = new HashMap<>();
+    /* estimated bytes held by the decoded images */
+    private long imageBytes = 0;
+    /* estimated bytes held by the loaded sounds */
+    private long soundBytes = 0;
+
+    /**
+     * Constructor for AssetCache.
+     *
+     * @param source The source the assets are actually read from.
+     */
+    public AssetCache(GameAssets source) {
+        this.source = source;
+    }
+
+    /**
+     * Returns the shared renderable of an image, reading it from the source on the first request.
+     *
+     * @param path                        The path of the image asset.
+     * @param useTopLeftPixelAsTransparent Whether the color of the top left pixel is treated as transparent.
+     * @return The shared renderable of the image.
+     */
+    @Override
+    public Renderable readImage(String path, boolean useTopLeftPixelAsTransparent) {
+        // the same file read with a different transparency flag is a different image
+        String key = path + KEY_SEPARATOR + useTopLeftPixelAsTransparent;
+        Renderable image = images.get(key);
+        if (image == null && !images.containsKey(key)) {
+            image = source.readImage(path, useTopLeftPixelAsTransparent);
+            images.put(key, image);
+            imageBytes += estimateImageBytes(image);
+        }
+        return image;
+    }
+
+    /**
+     * Drops an image from the cache, so the memory of its decoded pixels can be reclaimed once no game
+     * object holds it - for images that were copied elsewhere, such as the sprites of an atlas.
+     * A later request reads it from the source again.
+     *
+     * @param path                        The path of the image asset.
+     * @param useTopLeftPixelAsTransparent Whether the color of the top left pixel is treated as transparent.
+     */
+    @Override
+    public void releaseImage(String path, boolean useTopLeftPixelAsTransparent) {
+        String key = path + KEY_SEPARATOR + useTopLeftPixelAsTransparent;
+        if (images.containsKey(key)) {
+            imageBytes -= estimateImageBytes(images.remove(key));
+        }
+    }
+
+    /**
+     * Returns the shared sound effect of a sound, reading it from the source on the first request.
+     *
+     * @param path The path of the sound asset.
+     * @return The shared sound effect of the sound.
+     */
+    @Override
+    public SoundEffect readSound(String path) {
+        SoundEffect sound = sounds.get(path);
+        if (sound == null) {
+            sound = source.readSound(path);
+            sounds.put(path, sound);
+            // a wav file holds the samples as they are played, so its size approximates the loaded clip
+            soundBytes += new File(path).length();
+        }
+        return sound;
+    }
+
+    /**
+     * Getter for the number of distinct assets loaded so far.
+     *
+     * @return The number of loaded images and sounds.
+     */
+    public int getLoadedAssetsCount() {
+        return images.size() + sounds.size();
+    }
+
+    /**
+     * Getter for the estimated memory held by the loaded assets.
+     *
+     * @return The estimated number of bytes held by the decoded images and the loaded sounds.
+     */
+    public long getEstimatedBytes() {
+        return imageBytes + soundBytes;
+    }
+
+    /**
+     * Returns a one line report of the loaded assets and the memory they hold.
+     *
+     * @return The report string.
+     */
+    @Override
+    public String toString() {
+        return String.format("assets: %d images (%d bytes), %d sounds (%d bytes)",
+                images.size(), imageBytes, sounds.size(), soundBytes);
+    }
+
+    /**
+     * Estimates the memory held by a decoded image.
+     * Only images read from files are counted - other renderables hold no pixel data.
+     *
+     * @param image The renderable of the image.
+     * @return The estimated number of bytes of the decoded image.
+     */
+    private static long estimateImageBytes(Renderable image) {
+        if (!(image instanceof ImageRenderable)) {
+            return 0;
+        }
+        Image awtImage = ((ImageRenderable) image).getImage();
+        return (long) awtImage.getWidth(null) * awtImage.getHeight(null) * BYTES_PER_PIXEL;
+    }
+}
@@ -0,0 +1,157 @@
+package bricker.assets;
+
+import danogl.gui.rendering.Renderable;
+import danogl.util.Vector2;
+
+import java.awt.*;
+import java.awt.geom.AffineTransform;
+
+/**
+ * A sprite of a sprite atlas - an image scaled ahead of time into a region of the atlas image.
+ * Drawn at its size, it is copied from its region without scaling; drawn at any other size,
+ * its region is scaled like any other image.
+ *
+ * @author Amit Tzur and Zohar Mattatia
+ */
+class AtlasSprite implements Renderable {
+    // =========================== fields =========================== //
+    /* the atlas the sprite belongs to */
+    private final SpriteAtlas atlas;
+    /* the path of the image the sprite is scaled from - read again whenever the atlas is built */
+    private final String path;
+    /* whether the color of the top left pixel of the image is treated as transparent */
+    private final boolean useTopLeftPixelAsTransparent;
+    /* width of the sprite, in pixels */
+    private final int width;
+    /* height of the sprite, in pixels */
+    private final int height;
+    /* x coordinate of the sprite's region in the atlas image */
+    private int x = 0;
+    /* y coordinate of the sprite's region in the atlas image */
+    private int y = 0;
+
+    /**
+     * Constructor for AtlasSprite. The sprite is placed in the atlas when the atlas is built.
+     *
+     * @param atlas                        The atlas the sprite belongs to.
+     * @param path                         The path of the image the sprite is scaled from.
+     * @param useTopLeftPixelAsTransparent Whether the color of the top left pixel is treated as transparent.
+     * @param width                        Width of the sprite, in pixels.
+     * @param height                       Height of the sprite, in pixels.
+     */
+    AtlasSprite(SpriteAtlas atlas, String path, boolean useTopLeftPixelAsTransparent, int width, int height) {
+        this.atlas = atlas;
+        this.path = path;
+        this.useTopLeftPixelAsTransparent = useTopLeftPixelAsTransparent;
+        this.width = width;
+        this.height = height;
+    }
+
+    /**
+     * Draws the sprite from its region of the atlas.
+     *
+     * @param g                       The graphics to draw with.
+     * @param topLeftCorner           The top-left corner of the sprite, on the screen.
+     * @param dimensions              The dimensions of the sprite, on the screen.
+     * @param degreesCounterClockwise The rotation of the sprite around its center.
+     * @param isFlippedHorizontally   Whether the sprite is mirrored left to right.
+     * @param isFlippedVertically     Whether the sprite is mirrored top to bottom.
+     * @param opaqueness              The opaqueness of the sprite, between 0 and 1.
+     */
+    @Override
+    public void render(Graphics2D g, Vector2 topLeftCorner, Vector2 dimensions, double degreesCounterClockwise,
+                       boolean isFlippedHorizontally, boolean isFlippedVertically, double opaqueness) {
+        int left = Math.round(topLeftCorner.x());
+        int top = Math.round(topLeftCorner.y());
+        int right = left + Math.round(dimensions.x());
+        int bottom = top + Math.round(dimensions.y());
+
+        // the state of the graphics is saved only when it is changed
+        AffineTransform previousTransform = null;
+        Composite previousComposite = null;
+        if (degreesCounterClockwise != 0) {
+            previousTransform = g.getTransform();
+            g.rotate(-Math.toRadians(degreesCounterClockwise), (left + right) / 2.0, (top + bottom) / 2.0);
+        }
+        if (opaqueness < 1) {
+            previousComposite = g.getComposite();
+            g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, (float) opaqueness));
+        }
+        // a flipped sprite is drawn with the destination's edges swapped
+        g.drawImage(atlas.getImage(),
+                isFlippedHorizontally ? right : left, isFlippedVertically ? bottom : top,
+                isFlippedHorizontally ? left : right, isFlippedVertically ? top : bottom,
+                x, y, x + width, y + height, null);
+        if (previousComposite != null) {
+            g.setComposite(previousComposite);
+        }
+        if (previousTransform != null) {
+            g.setTransform(previousTransform);
+        }
+    }
+
+    /**
+     * Places the sprite's region in the atlas image.
+     *
+     * @param x The x coordinate of the region.
+     * @param y The y coordinate of the region.
+     */
+    void place(int x, int y) {
+        this.x = x;
+        this.y = y;
+    }
+
+    /**
+     * Getter for the path of the image the sprite is scaled from.
+     *
+     * @return The path of the image asset.
+     */
+    String getPath() {
+        return path;
+    }
+
+    /**
+     * Checks if the color of the top left pixel of the sprite's image is treated as transparent.
+     *
+     * @return The transparency flag the image is read with.
+     */
+    boolean isTopLeftPixelTransparent() {
+        return useTopLeftPixelAsTransparent;
+    }
+
+    /**
+     * Getter for the width of the sprite.
+     *
+     * @return The width, in pixels.
+     */
+    int getWidth() {
+        return width;
+    }
+
+    /**
+     * Getter for the height of the sprite.
+     *
+     * @return The height, in pixels.
+     */
+    int getHeight() {
+        return height;
+    }
+
+    /**
+     * Getter for the x coordinate of the sprite's region in the atlas image.
+     *
+     * @return The x coordinate.
+     */
+    int getX() {
+        return x;
+    }
+
+    /**
+     * Getter for the y coordinate of the sprite's region in the atlas image.
+     *
+     * @return The y coordinate.
+     */
+    int getY() {
+        return y;
+    }
+}
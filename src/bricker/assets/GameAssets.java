@@ -0,0 +1,54 @@
+package bricker.assets;
+
+import danogl.gui.rendering.Renderable;
+import danogl.util.Vector2;
+
+/**
+ * A source of the images and sounds used by the game objects and the brick strategies.
+ * Abstracts danogl's ImageReader and SoundReader so the game can be built with or without
+ * a window and an audio device.
+ *
+ * @author Amit Tzur and Zohar Mattatia
+ */
+public interface GameAssets {
+    /**
+     * Reads an image asset.
+     *
+     * @param path                        The path of the image asset.
+     * @param useTopLeftPixelAsTransparent Whether the color of the top left pixel is treated as transparent.
+     * @return The renderable of the image, or null if nothing should be drawn.
+     */
+    Renderable readImage(String path, boolean useTopLeftPixelAsTransparent);
+
+    /**
+     * Reads an image asset that is drawn at a known size.
+     * A source may prepare the image at that size ahead of time, so it isn't scaled on every draw;
+     * by default the image is read as it is.
+     *
+     * @param path                        The path of the image asset.
+     * @param useTopLeftPixelAsTransparent Whether the color of the top left pixel is treated as transparent.
+     * @param size                        The size the image is drawn at.
+     * @return The renderable of the image, or null if nothing should be drawn.
+     */
+    default Renderable readImage(String path, boolean useTopLeftPixelAsTransparent, Vector2 size) {
+        return readImage(path, useTopLeftPixelAsTransparent);
+    }
+
+    /**
+     * Tells the source an image read from it is no longer needed, so a source that keeps the images it
+     * read may drop it. The image is read again if it is requested again. Does nothing by default.
+     *
+     * @param path                        The path of the image asset.
+     * @param useTopLeftPixelAsTransparent Whether the color of the top left pixel is treated as transparent.
+     */
+    default void releaseImage(String path, boolean useTopLeftPixelAsTransparent) {
+    }
+
+    /**
+     * Reads a sound asset.
+     *
+     * @param path The path of the sound asset.
+     * @return The sound effect of the asset.
+     */
+    SoundEffect readSound(String path);
+}
@@ -0,0 +1,36 @@
+package bricker.assets;
+
+import danogl.gui.rendering.Renderable;
+
+/**
+ * Game assets for running the game without a window or an audio device.
+ * Nothing is read from disk: images are null (danogl does not draw a GameObject
+ * that has no renderable) and sounds are silent.
+ *
+ * @author Amit Tzur and Zohar Mattatia
+ */
+public class HeadlessAssets implements GameAssets {
+
+    /**
+     * Returns no renderable, since nothing is drawn in headless mode.
+     *
+     * @param path                        The path of the image asset (ignored).
+     * @param useTopLeftPixelAsTransparent Ignored.
+     * @return null.
+     */
+    @Override
+    public Renderable readImage(String path, boolean useTopLeftPixelAsTransparent) {
+        return null;
+    }
+
+    /**
+     * Returns a silent sound effect, since there is no audio device in headless mode.
+     *
+     * @param path The path of the sound asset (ignored).
+     * @return A sound effect that does nothing.
+     */
+    @Override
+    public SoundEffect readSound(String path) {
+        return SoundEffect.SILENT;
+    }
+}
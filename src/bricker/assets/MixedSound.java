@@ -0,0 +1,112 @@
+package bricker.assets;
+
+/**
+ * A sound effect played through a SoundMixer.
+ * Playing it only marks it as triggered - the mixer decides at the end of the frame whether it is
+ * actually played. It also keeps the end times of its voices - the clips of it still playing.
+ *
+ * @author Amit Tzur and Zohar Mattatia
+ */
+class MixedSound implements SoundEffect {
+    // =========================== fields =========================== //
+    /* the mixer the sound is played through */
+    private final SoundMixer mixer;
+    /* the sound that is actually played */
+    private final SoundEffect sound;
+    /* the priority of the sound - lower priority sounds are dropped first */
+    private final int priority;
+    /* the length of the clip, in seconds */
+    private final float voiceSeconds;
+    /* the end times of the voices of the sound that are still playing, in mixer time */
+    private final double[] voiceEnds;
+    /* number of voices of the sound that are still playing */
+    private int voices = 0;
+    /* whether the sound was triggered in the current frame */
+    private boolean isTriggered = false;
+
+    /**
+     * Constructor for MixedSound.
+     *
+     * @param mixer        The mixer the sound is played through.
+     * @param sound        The sound that is actually played.
+     * @param priority     The priority of the sound.
+     * @param maxVoices    Maximal number of voices of the sound playing at once.
+     * @param voiceSeconds The length of the clip, in seconds.
+     */
+    MixedSound(SoundMixer mixer, SoundEffect sound, int priority, int maxVoices, float voiceSeconds) {
+        this.mixer = mixer;
+        this.sound = sound;
+        this.priority = priority;
+        this.voiceSeconds = voiceSeconds;
+        this.voiceEnds = new double[maxVoices];
+    }
+
+    /**
+     * Triggers the sound - it is played at the end of the frame, if the mixer has a voice for it.
+     * Triggering it again in the same frame is merged into the first trigger.
+     */
+    @Override
+    public void play() {
+        mixer.trigger(this, !isTriggered);
+        isTriggered = true;
+    }
+
+    /**
+     * Getter for the priority of the sound.
+     *
+     * @return The priority.
+     */
+    int getPriority() {
+        return priority;
+    }
+
+    /**
+     * Getter for the number of voices of the sound that are still playing.
+     *
+     * @return The number of voices.
+     */
+    int getVoices() {
+        return voices;
+    }
+
+    /**
+     * Checks if the sound can start another voice.
+     *
+     * @return True if fewer voices than the maximum are playing.
+     */
+    boolean hasFreeVoice() {
+        return voices < voiceEnds.length;
+    }
+
+    /**
+     * Clears the trigger of the frame.
+     */
+    void clearTrigger() {
+        isTriggered = false;
+    }
+
+    /**
+     * Forgets the voices that ended by the given time.
+     *
+     * @param now The mixer time.
+     */
+    void expireVoices(double now) {
+        int kept = 0;
+        for (int i = 0; i < voices; i++) {
+            if (voiceEnds[i] > now) {
+                voiceEnds[kept++] = voiceEnds[i];
+            }
+        }
+        voices = kept;
+    }
+
+    /**
+     * Plays the sound as a new voice. Must have a free voice.
+     *
+     * @param now The mixer time.
+     */
+    void startVoice(double now) {
+        voiceEnds[voices++] = now + voiceSeconds;
+        sound.play();
+    }
+}
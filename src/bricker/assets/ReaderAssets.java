@@ -0,0 +1,53 @@
+package bricker.assets;
+
+import danogl.gui.ImageReader;
+import danogl.gui.SoundReader;
+import danogl.gui.rendering.Renderable;
+
+/**
+ * Game assets read from disk by danogl's ImageReader and SoundReader.
+ * This is the source of assets used when the game runs in a window.
+ *
+ * @author Amit Tzur and Zohar Mattatia
+ */
+public class ReaderAssets implements GameAssets {
+    // =========================== fields =========================== //
+    /* image reader given to us by the game manager */
+    private final ImageReader imageReader;
+    /* sound reader given to us by the game manager */
+    private final SoundReader soundReader;
+
+    /**
+     * Constructor for ReaderAssets.
+     *
+     * @param imageReader ImageReader for loading images.
+     * @param soundReader SoundReader for loading sounds.
+     */
+    public ReaderAssets(ImageReader imageReader, SoundReader soundReader) {
+        this.imageReader = imageReader;
+        this.soundReader = soundReader;
+    }
+
+    /**
+     * Reads an image asset using the image reader.
+     *
+     * @param path                        The path of the image asset.
+     * @param useTopLeftPixelAsTransparent Whether the color of the top left pixel is treated as transparent.
+     * @return The renderable of the image.
+     */
+    @Override
+    public Renderable readImage(String path, boolean useTopLeftPixelAsTransparent) {
+        return imageReader.readImage(path, useTopLeftPixelAsTransparent);
+    }
+
+    /**
+     * Reads a sound asset using the sound reader.
+     *
+     * @param path The path of the sound asset.
+     * @return The sound effect of the asset.
+     */
+    @Override
+    public SoundEffect readSound(String path) {
+        return soundReader.readSound(path)::play;
+    }
+}
@@ -0,0 +1,20 @@
+package bricker.assets;
+
+/**
+ * A sound effect that game objects can trigger.
+ * Game objects depend on this interface rather than on danogl's Sound directly,
+ * so the game logic can run without an audio device (see HeadlessAssets).
+ *
+ * @author Amit Tzur and Zohar Mattatia
+ */
+@FunctionalInterface
+public interface SoundEffect {
+    /* a sound effect that does nothing - used when there is no audio device */
+    SoundEffect SILENT = () -> {
+    };
+
+    /**
+     * Plays the sound effect.
+     */
+    void play();
+}
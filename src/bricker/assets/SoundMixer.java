@@ -0,0 +1,267 @@
+package bricker.assets;
+
+import danogl.gui.rendering.Renderable;
+
+import javax.sound.sampled.AudioFileFormat;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.UnsupportedAudioFileException;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A mixer between the game objects and the sounds of an asset source.
+ * The sounds it gives out don't play right away: the triggers of a frame are collected, and mixed
+ * once at its end. Repeated triggers of the same sound within a frame are merged into one,
+ * every sound has a cap on its voices playing at once, and the mixer caps the voices of all the sounds.
+ * When the caps are reached, the lower priority sounds are dropped first: the sounds of a frame are
+ * played from the highest priority down, and each priority level below the highest leaves one more
+ * of the mixer's voices free for the levels above it - so a frequent low priority sound never takes
+ * all the voices from a rarer, more significant one.
+ * So hundreds of pucks colliding at once start a few clips, not hundreds.
+ * A voice is counted as playing for the length of its clip, measured in the mixed frames' time.
+ *
+ * @author Amit Tzur and Zohar Mattatia
+ */
+public class SoundMixer implements GameAssets {
+    // =========================== public constants =========================== //
+    /* priority of sounds that are dropped first - frequent, repetitive ones */
+    public static final int LOW_PRIORITY = 0;
+    /* priority of sounds that weren't configured */
+    public static final int NORMAL_PRIORITY = 1;
+    /* priority of sounds that are dropped last - rare, significant ones */
+    public static final int HIGH_PRIORITY = 2;
+
+    // =========================== private constants =========================== //
+    /* default maximal number of voices of all the sounds playing at once */
+    private static final int DEFAULT_MAX_VOICES = 8;
+    /* default maximal number of voices of a single sound playing at once */
+    private static final int DEFAULT_MAX_VOICES_PER_SOUND = 3;
+    /* length of a clip whose length can't be read from its file, in seconds */
+    private static final float DEFAULT_VOICE_SECONDS = 0.25f;
+    /* initial capacity of the triggered sounds of a frame - it grows with the number of sounds */
+    private static final int INITIAL_PENDING_CAPACITY = 4;
+    /* growth factor of the triggered sounds of a frame */
+    private static final int GROWTH_FACTOR = 2;
+
+    // =========================== fields =========================== //
+    /* the source the assets are actually read from */
+    private final GameAssets source;
+    /* maximal number of voices of all the sounds playing at once */
+    private final int maxVoices;
+    /* the configured priority and voices cap of sounds, by path - read before the sounds are */
+    private final Map<String, int[]> settings = new HashMap<>();
+    /* the sounds given out by the mixer */
+    private final List<MixedSound> sounds = new ArrayList<>();
+    /* the sounds triggered in the current frame, each once */
+    private MixedSound[] pending = new MixedSound[INITIAL_PENDING_CAPACITY];
+    /* number of sounds triggered in the current frame */
+    private int pendingCount = 0;
+    /* the mixer time - the total time of the mixed frames, in seconds. A double, as the mixer outlives
+     the games - a float clock stops advancing by a frame's time after a few days of soak runs */
+    private double now = 0;
+    /* number of triggers */
+    private long triggers = 0;
+    /* number of triggers merged into an earlier trigger of the same sound in the frame */
+    private long coalesced = 0;
+    /* number of voices started */
+    private long played = 0;
+    /* number of sounds dropped because too many voices of the same sound were playing */
+    private long droppedBySoundCap = 0;
+    /* number of sounds dropped because too many voices were playing */
+    private long droppedByMixerCap = 0;
+
+    /**
+     * Constructor for SoundMixer, with the default voices cap.
+     *
+     * @param source The source the assets are actually read from.
+     */
+    public SoundMixer(GameAssets source) {
+        this(source, DEFAULT_MAX_VOICES);
+    }
+
+    /**
+     * Constructor for SoundMixer.
+     *
+     * @param source    The source the assets are actually read from.
+     * @param maxVoices Maximal number of voices of all the sounds playing at once.
+     */
+    public SoundMixer(GameAssets source, int maxVoices) {
+        this.source = source;
+        this.maxVoices = maxVoices;
+    }
+
+    /**
+     * Sets the priority and the voices cap of a sound. Must be called before the sound is read.
+     *
+     * @param path      The path of the sound asset.
+     * @param priority  The priority of the sound - lower priority sounds are dropped first.
+     * @param maxVoices Maximal number of voices of the sound playing at once.
+     */
+    public void configure(String path, int priority, int maxVoices) {
+        settings.put(path, new int[]{priority, maxVoices});
+    }
+
+    /**
+     * Reads an image asset from the source - images are not mixed.
+     *
+     * @param path                        The path of the image asset.
+     * @param useTopLeftPixelAsTransparent Whether the color of the top left pixel is treated as transparent.
+     * @return The renderable of the image.
+     */
+    @Override
+    public Renderable readImage(String path, boolean useTopLeftPixelAsTransparent) {
+        return source.readImage(path, useTopLeftPixelAsTransparent);
+    }
+
+    /**
+     * Reads a sound asset from the source, and returns a sound effect played through the mixer.
+     *
+     * @param path The path of the sound asset.
+     * @return The mixed sound effect.
+     */
+    @Override
+    public SoundEffect readSound(String path) {
+        int[] setting = settings.getOrDefault(path, new int[]{NORMAL_PRIORITY, DEFAULT_MAX_VOICES_PER_SOUND});
+        MixedSound sound = new MixedSound(this, source.readSound(path), setting[0], setting[1],
+                readClipSeconds(path));
+        sounds.add(sound);
+        return sound;
+    }
+
+    /**
+     * Mixes the sounds triggered in the frame that ended: ends the voices whose clips are over,
+     * and plays the triggered sounds by priority, as long as the voice caps allow.
+     * Called once at the end of every frame.
+     *
+     * @param deltaTime The time of the frame, in seconds.
+     */
+    public void mix(float deltaTime) {
+        now += deltaTime;
+        int activeVoices = 0;
+        for (MixedSound sound : sounds) {
+            sound.expireVoices(now);
+            activeVoices += sound.getVoices();
+        }
+        sortPendingByPriority();
+        for (int i = 0; i < pendingCount; i++) {
+            MixedSound sound = pending[i];
+            sound.clearTrigger();
+            if (!sound.hasFreeVoice()) {
+                droppedBySoundCap++;
+            } else if (activeVoices >= maxVoices - (HIGH_PRIORITY - sound.getPriority())) {
+                droppedByMixerCap++;
+            } else {
+                sound.startVoice(now);
+                activeVoices++;
+                played++;
+            }
+            pending[i] = null;
+        }
+        pendingCount = 0;
+    }
+
+    /**
+     * Records a trigger of a sound. Called by the sound when it is played.
+     *
+     * @param sound   The triggered sound.
+     * @param isFirst Whether it is the first trigger of the sound in the frame.
+     */
+    void trigger(MixedSound sound, boolean isFirst) {
+        triggers++;
+        if (!isFirst) {
+            coalesced++;
+            return;
+        }
+        if (pendingCount == pending.length) {
+            pending = Arrays.copyOf(pending, pending.length * GROWTH_FACTOR);
+        }
+        pending[pendingCount++] = sound;
+    }
+
+    /**
+     * Getter for the number of triggers of the mixed sounds.
+     *
+     * @return The number of triggers.
+     */
+    public long getTriggers() {
+        return triggers;
+    }
+
+    /**
+     * Getter for the number of triggers merged into an earlier trigger of the same sound in the frame.
+     *
+     * @return The number of merged triggers.
+     */
+    public long getCoalesced() {
+        return coalesced;
+    }
+
+    /**
+     * Getter for the number of voices started.
+     *
+     * @return The number of played sounds.
+     */
+    public long getPlayed() {
+        return played;
+    }
+
+    /**
+     * Getter for the number of sounds dropped by the voice caps.
+     *
+     * @return The number of dropped sounds.
+     */
+    public long getDropped() {
+        return droppedBySoundCap + droppedByMixerCap;
+    }
+
+    /**
+     * Returns a one line report of the mixer's counters.
+     *
+     * @return The report string.
+     */
+    @Override
+    public String toString() {
+        return String.format("sounds: triggers=%d coalesced=%d played=%d droppedBySoundCap=%d droppedByMixerCap=%d",
+                triggers, coalesced, played, droppedBySoundCap, droppedByMixerCap);
+    }
+
+    /**
+     * Sorts the sounds triggered in the frame from the highest priority to the lowest.
+     * An insertion sort - a frame triggers only a few distinct sounds.
+     */
+    private void sortPendingByPriority() {
+        for (int i = 1; i < pendingCount; i++) {
+            MixedSound sound = pending[i];
+            int j = i - 1;
+            while (j >= 0 && pending[j].getPriority() < sound.getPriority()) {
+                pending[j + 1] = pending[j];
+                j--;
+            }
+            pending[j + 1] = sound;
+        }
+    }
+
+    /**
+     * Reads the length of a clip from its file.
+     *
+     * @param path The path of the sound asset.
+     * @return The length of the clip in seconds, or a default length if it can't be read.
+     */
+    private static float readClipSeconds(String path) {
+        try {
+            AudioFileFormat format = AudioSystem.getAudioFileFormat(new File(path));
+            float frameRate = format.getFormat().getFrameRate();
+            if (format.getFrameLength() > 0 && frameRate > 0) {
+                return format.getFrameLength() / frameRate;
+            }
+        } catch (UnsupportedAudioFileException | IOException e) {
+            // fall back to the default length below
+        }
+        return DEFAULT_VOICE_SECONDS;
+    }
+}
@@ -0,0 +1,214 @@
+package bricker.assets;
+
+import danogl.gui.rendering.ImageRenderable;
+import danogl.gui.rendering.Renderable;
+import danogl.util.Vector2;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A single image holding all the sprites of a game, each scaled ahead of time to the size it is drawn at.
+ * danogl scales an image to its game object's size on every draw - the background to the window, the
+ * bricks to the width of the grid's columns. The images read through the atlas with a known size are
+ * given out as sprites of the atlas instead: the atlas is built once, after the game is created, by
+ * scaling every sprite into its own region of one image, and a sprite drawn at its size is then
+ * copied from its region pixel for pixel. The memory of the images drawn is that one image: a sprite keeps
+ * only the path of its image, which is read from the source to build the atlas and released back to it
+ * once packed, unless it is also read as it is. A later build reads the images again.
+ * The same image read at two sizes is two sprites. A sprite read after the atlas was built has the atlas
+ * built again before it is next drawn, with all the sprites.
+ * Images read without a size, and images that aren't read from files, are given out as they are.
+ *
+ * @author Amit Tzur and Zohar Mattatia
+ */
+public class SpriteAtlas implements GameAssets {
+    // =========================== private constants =========================== //
+    /* minimal width of the atlas - sprites are packed in rows of up to this width, or of the widest sprite */
+    private static final int MIN_ATLAS_WIDTH = 1024;
+    /* empty pixels around every sprite, so a scaled draw never blends in a neighboring sprite */
+    private static final int SPRITE_PADDING = 1;
+    /* bytes per pixel of the ARGB atlas */
+    private static final int BYTES_PER_PIXEL = 4;
+    /* separator between the parts of a sprite's key */
+    private static final char KEY_SEPARATOR = '|';
+
+    // =========================== fields =========================== //
+    /* the source the images are actually read from */
+    private final GameAssets source;
+    /* the sprites, by path, transparency flag and size */
+    private final Map<String, AtlasSprite> spritesByKey = new HashMap<>();
+    /* the sprites, in the order they were read */
+    private final List<AtlasSprite> sprites = new ArrayList<>();
+    /* the images read as they are, by path and transparency flag - they stay held by the source */
+    private final Set<String> unsizedImageKeys = new HashSet<>();
+    /* the atlas image - null until it is built */
+    private BufferedImage atlas = null;
+    /* whether sprites were read since the atlas was last built */
+    private boolean isStale = false;
+
+    /**
+     * Constructor for SpriteAtlas.
+     *
+     * @param source The source the images are actually read from.
+     */
+    public SpriteAtlas(GameAssets source) {
+        this.source = source;
+    }
+
+    /**
+     * Reads an image asset from the source, as it is - its size isn't known.
+     *
+     * @param path                        The path of the image asset.
+     * @param useTopLeftPixelAsTransparent Whether the color of the top left pixel is treated as transparent.
+     * @return The renderable of the image.
+     */
+    @Override
+    public Renderable readImage(String path, boolean useTopLeftPixelAsTransparent) {
+        unsizedImageKeys.add(path + KEY_SEPARATOR + useTopLeftPixelAsTransparent);
+        return source.readImage(path, useTopLeftPixelAsTransparent);
+    }
+
+    /**
+     * Reads an image asset as a sprite of the atlas, scaled to the size it is drawn at.
+     * The sprite is drawn from the atlas once it is built.
+     *
+     * @param path                        The path of the image asset.
+     * @param useTopLeftPixelAsTransparent Whether the color of the top left pixel is treated as transparent.
+     * @param size                        The size the image is drawn at.
+     * @return The sprite, or the image as it is if it isn't read from a file.
+     */
+    @Override
+    public Renderable readImage(String path, boolean useTopLeftPixelAsTransparent, Vector2 size) {
+        int width = Math.max(1, Math.round(size.x()));
+        int height = Math.max(1, Math.round(size.y()));
+        String key = path + KEY_SEPARATOR + useTopLeftPixelAsTransparent + KEY_SEPARATOR + width
+                + KEY_SEPARATOR + height;
+        AtlasSprite sprite = spritesByKey.get(key);
+        if (sprite != null) {
+            return sprite;
+        }
+        Renderable image = source.readImage(path, useTopLeftPixelAsTransparent);
+        if (!(image instanceof ImageRenderable)) {
+            return image;
+        }
+        sprite = new AtlasSprite(this, path, useTopLeftPixelAsTransparent, width, height);
+        spritesByKey.put(key, sprite);
+        sprites.add(sprite);
+        isStale = true;
+        return sprite;
+    }
+
+    /**
+     * Reads a sound asset from the source - sounds are not in the atlas.
+     *
+     * @param path The path of the sound asset.
+     * @return The sound effect of the asset.
+     */
+    @Override
+    public SoundEffect readSound(String path) {
+        return source.readSound(path);
+    }
+
+    /**
+     * Builds the atlas: packs the sprites into rows, tallest first, and scales each one into its region.
+     * Called once the game's objects are created, so the first frame doesn't build it.
+     * Does nothing if no sprite was read since the atlas was last built.
+     */
+    public void build() {
+        if (!isStale) {
+            return;
+        }
+        List<AtlasSprite> byHeight = new ArrayList<>(sprites);
+        byHeight.sort(Comparator.comparingInt(AtlasSprite::getHeight).reversed());
+        int atlasWidth = MIN_ATLAS_WIDTH;
+        for (AtlasSprite sprite : byHeight) {
+            atlasWidth = Math.max(atlasWidth, sprite.getWidth() + 2 * SPRITE_PADDING);
+        }
+
+        // shelf packing - a row is as tall as its first (tallest) sprite
+        int x = 0;
+        int rowTop = 0;
+        int rowHeight = 0;
+        for (AtlasSprite sprite : byHeight) {
+            int paddedWidth = sprite.getWidth() + 2 * SPRITE_PADDING;
+            if (x + paddedWidth > atlasWidth) {
+                rowTop += rowHeight;
+                x = 0;
+                rowHeight = 0;
+            }
+            sprite.place(x + SPRITE_PADDING, rowTop + SPRITE_PADDING);
+            x += paddedWidth;
+            rowHeight = Math.max(rowHeight, sprite.getHeight() + 2 * SPRITE_PADDING);
+        }
+
+        BufferedImage image = new BufferedImage(atlasWidth, Math.max(1, rowTop + rowHeight),
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+        graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+        for (AtlasSprite sprite : byHeight) {
+            Renderable source = this.source.readImage(sprite.getPath(), sprite.isTopLeftPixelTransparent());
+            if (source instanceof ImageRenderable) {
+                graphics.drawImage(((ImageRenderable) source).getImage(), sprite.getX(), sprite.getY(),
+                        sprite.getWidth(), sprite.getHeight(), null);
+            }
+        }
+        graphics.dispose();
+        this.atlas = image;
+        this.isStale = false;
+        releasePackedImages();
+    }
+
+    /**
+     * Getter for the atlas image, built first if sprites were read since it was last built.
+     *
+     * @return The atlas image.
+     */
+    BufferedImage getImage() {
+        build();
+        return atlas;
+    }
+
+    /**
+     * Getter for the memory held by the atlas image.
+     *
+     * @return The number of bytes of the atlas image, or 0 if it isn't built.
+     */
+    public long getBytes() {
+        return atlas == null ? 0 : (long) atlas.getWidth() * atlas.getHeight() * BYTES_PER_PIXEL;
+    }
+
+    /**
+     * Returns a one line report of the atlas.
+     *
+     * @return The report string.
+     */
+    @Override
+    public String toString() {
+        if (atlas == null) {
+            return String.format("atlas: %d sprites, not built", sprites.size());
+        }
+        return String.format("atlas: %d sprites, %dx%d (%d bytes)",
+                sprites.size(), atlas.getWidth(), atlas.getHeight(), getBytes());
+    }
+
+    /**
+     * Releases the images of the sprites back to the source, once they are packed into the atlas -
+     * except the images that are also read as they are, which game objects draw.
+     */
+    private void releasePackedImages() {
+        for (AtlasSprite sprite : sprites) {
+            if (!unsizedImageKeys.contains(sprite.getPath() + KEY_SEPARATOR + sprite.isTopLeftPixelTransparent())) {
+                source.releaseImage(sprite.getPath(), sprite.isTopLeftPixelTransparent());
+            }
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package bricker.benchmarks;
+
+/**
+ * A single benchmarked operation, run repeatedly by the BenchmarkRunner.
+ * Before every invocation the runner calls setUp, which is not timed, so an invocation can start
+ * from a fresh state (for example a new grid of bricks). Only run is timed.
+ *
+ * @author Amit Tzur and Zohar Mattatia
+ */
+@FunctionalInterface
+public interface Benchmark {
+
+    /**
+     * Prepares the state of the next invocation. Not timed.
+     * Does nothing by default.
+     */
+    default void setUp() {
+    }
+
+    /**
+     * Runs the benchmarked operation once. Timed.
+     *
+     * @return A value computed by the operation - consumed by the runner,
+     * so the JIT can't drop the operation as dead code.
+     */
+    Object run();
+
+    /**
+     * Number of operations a single invocation of run performs.
+     * Very short operations are looped inside run, so the timer's own cost doesn't dominate,
+     * and the time of an invocation is divided by this number.
+     *
+     * @return The number of operations per invocation - 1 by default.
+     */
+    default int operationsPerInvocation() {
+        return 1;
+    }
+}
@@ -0,0 +1,123 @@
+package bricker.benchmarks;
+
+import java.util.Locale;
+
+/**
+ * The measured result of a single benchmark with a single parameter value.
+ * Formats itself as a CSV row or a JSON object, so results of different releases can be compared
+ * by a script.
+ *
+ * @author Amit Tzur and Zohar Mattatia
+ */
+public class BenchmarkResult {
+    // =========================== public constants =========================== //
+    /* the header row matching toCsvRow */
+    public static final String CSV_HEADER =
+            "benchmark,param,iterations,operations,nsPerOpMean,nsPerOpMin,nsPerOpMax,opsPerSecond";
+
+    // =========================== private constants =========================== //
+    /* nanoseconds in a second */
+    private static final double NANOS_IN_SECOND = 1e9;
+
+    // =========================== fields =========================== //
+    /* name of the benchmark */
+    private final String name;
+    /* the parameter the benchmark ran with (grid size, number of pucks...) */
+    private final String param;
+    /* nanoseconds per operation of every measured iteration */
+    private final double[] iterationNanosPerOp;
+    /* total number of measured operations */
+    private final long operations;
+
+    /**
+     * Constructor for BenchmarkResult.
+     *
+     * @param name               Name of the benchmark.
+     * @param param              The parameter the benchmark ran with.
+     * @param iterationNanosPerOp Nanoseconds per operation of every measured iteration.
+     * @param operations         Total number of measured operations.
+     */
+    public BenchmarkResult(String name, String param, double[] iterationNanosPerOp, long operations) {
+        this.name = name;
+        this.param = param;
+        this.iterationNanosPerOp = iterationNanosPerOp;
+        this.operations = operations;
+    }
+
+    /**
+     * Gets the mean nanoseconds per operation over the measured iterations.
+     *
+     * @return The mean nanoseconds per operation.
+     */
+    public double getMeanNanosPerOp() {
+        double sum = 0;
+        for (double nanos : iterationNanosPerOp) {
+            sum += nanos;
+        }
+        return sum / iterationNanosPerOp.length;
+    }
+
+    /**
+     * Gets the nanoseconds per operation of the fastest measured iteration.
+     *
+     * @return The minimal nanoseconds per operation.
+     */
+    public double getMinNanosPerOp() {
+        double min = Double.MAX_VALUE;
+        for (double nanos : iterationNanosPerOp) {
+            min = Math.min(min, nanos);
+        }
+        return min;
+    }
+
+    /**
+     * Gets the nanoseconds per operation of the slowest measured iteration.
+     *
+     * @return The maximal nanoseconds per operation.
+     */
+    public double getMaxNanosPerOp() {
+        double max = 0;
+        for (double nanos : iterationNanosPerOp) {
+            max = Math.max(max, nanos);
+        }
+        return max;
+    }
+
+    /**
+     * Formats the result as a CSV row, matching CSV_HEADER.
+     *
+     * @return The CSV row.
+     */
+    public String toCsvRow() {
+        return String.format(Locale.ROOT, "%s,%s,%d,%d,%.2f,%.2f,%.2f,%.2f",
+                name, param, iterationNanosPerOp.length, operations,
+                getMeanNanosPerOp(), getMinNanosPerOp(), getMaxNanosPerOp(),
+                NANOS_IN_SECOND / getMeanNanosPerOp());
+    }
+
+    /**
+     * Formats the result as a JSON object.
+     *
+     * @return The JSON object.
+     */
+    public String toJson() {
+        return String.format(Locale.ROOT,
+                "{\"benchmark\": \"%s\", \"param\": \"%s\", \"iterations\": %d, \"operations\": %d, " +
+                        "\"nsPerOpMean\": %.2f, \"nsPerOpMin\": %.2f, \"nsPerOpMax\": %.2f, " +
+                        "\"opsPerSecond\": %.2f}",
+                name, param, iterationNanosPerOp.length, operations,
+                getMeanNanosPerOp(), getMinNanosPerOp(), getMaxNanosPerOp(),
+                NANOS_IN_SECOND / getMeanNanosPerOp());
+    }
+
+    /**
+     * Returns a one line, human readable report of the result.
+     *
+     * @return The report string.
+     */
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "%-28s %-10s %14.1f ns/op (min %.1f, max %.1f)",
+                name, param, getMeanNanosPerOp(), getMinNanosPerOp(), getMaxNanosPerOp());
+    }
+}
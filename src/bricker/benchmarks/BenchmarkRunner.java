@@ -0,0 +1,147 @@
+package bricker.benchmarks;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Runs benchmarks and writes their results to machine-readable files.
+ * Every benchmark is run for a number of warmup iterations, which let the JIT compile it,
+ * and then for a number of measured iterations. An iteration repeats the benchmark's invocations
+ * until its time budget is used, and at least once.
+ * Only the run method of an invocation is timed - its setUp isn't.
+ *
+ * @author Amit Tzur and Zohar Mattatia
+ */
+public class BenchmarkRunner {
+    // =========================== private constants =========================== //
+    /* nanoseconds in a millisecond */
+    private static final long NANOS_IN_MILLI = 1_000_000;
+
+    // =========================== fields =========================== //
+    /* number of warmup iterations of every benchmark */
+    private final int warmupIterations;
+    /* number of measured iterations of every benchmark */
+    private final int measuredIterations;
+    /* time budget of a single iteration, in nanoseconds */
+    private final long iterationNanos;
+    /* the results of the benchmarks run so far */
+    private final List<BenchmarkResult> results = new ArrayList<>();
+    /* consumes the values computed by the benchmarks, so the JIT can't drop them */
+    private int sink = 0;
+
+    /**
+     * Constructor for BenchmarkRunner.
+     *
+     * @param warmupIterations   Number of warmup iterations of every benchmark.
+     * @param measuredIterations Number of measured iterations of every benchmark.
+     * @param iterationMillis    Time budget of a single iteration, in milliseconds.
+     */
+    public BenchmarkRunner(int warmupIterations, int measuredIterations, long iterationMillis) {
+        this.warmupIterations = warmupIterations;
+        this.measuredIterations = measuredIterations;
+        this.iterationNanos = iterationMillis * NANOS_IN_MILLI;
+    }
+
+    /**
+     * Runs a benchmark, records its result and prints it.
+     *
+     * @param name      Name of the benchmark.
+     * @param param     The parameter the benchmark runs with.
+     * @param benchmark The benchmark.
+     * @return The result of the benchmark.
+     */
+    public BenchmarkResult run(String name, Object param, Benchmark benchmark) {
+        for (int i = 0; i < warmupIterations; i++) {
+            runIteration(benchmark);
+        }
+        double[] iterationNanosPerOp = new double[measuredIterations];
+        long operations = 0;
+        for (int i = 0; i < measuredIterations; i++) {
+            long[] iteration = runIteration(benchmark);
+            iterationNanosPerOp[i] = (double) iteration[0] / iteration[1];
+            operations += iteration[1];
+        }
+        BenchmarkResult result = new BenchmarkResult(name, String.valueOf(param), iterationNanosPerOp,
+                operations);
+        results.add(result);
+        System.out.println(result);
+        return result;
+    }
+
+    /**
+     * Runs a single iteration of a benchmark.
+     *
+     * @param benchmark The benchmark.
+     * @return The timed nanoseconds and the number of operations of the iteration.
+     */
+    private long[] runIteration(Benchmark benchmark) {
+        long timedNanos = 0;
+        long operations = 0;
+        long iterationStart = System.nanoTime();
+        do {
+            benchmark.setUp();
+            long start = System.nanoTime();
+            Object value = benchmark.run();
+            timedNanos += System.nanoTime() - start;
+            sink ^= System.identityHashCode(value);
+            operations += benchmark.operationsPerInvocation();
+        } while (System.nanoTime() - iterationStart < iterationNanos);
+        return new long[]{timedNanos, operations};
+    }
+
+    /**
+     * Getter for the results of the benchmarks run so far.
+     *
+     * @return The results, in the order the benchmarks were run.
+     */
+    public List<BenchmarkResult> getResults() {
+        return results;
+    }
+
+    /**
+     * Writes the results of the benchmarks run so far as a CSV file.
+     *
+     * @param path The path of the file.
+     * @throws IOException If the file can't be written.
+     */
+    public void writeCsv(Path path) throws IOException {
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(path, StandardCharsets.UTF_8))) {
+            writer.println(BenchmarkResult.CSV_HEADER);
+            for (BenchmarkResult result : results) {
+                writer.println(result.toCsvRow());
+            }
+        }
+    }
+
+    /**
+     * Writes the results of the benchmarks run so far as a JSON array.
+     *
+     * @param path The path of the file.
+     * @throws IOException If the file can't be written.
+     */
+    public void writeJson(Path path) throws IOException {
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(path, StandardCharsets.UTF_8))) {
+            writer.println("[");
+            for (int i = 0; i < results.size(); i++) {
+                writer.print("  " + results.get(i).toJson());
+                writer.println(i < results.size() - 1 ? "," : "");
+            }
+            writer.println("]");
+        }
+    }
+
+    /**
+     * Returns the value consumed from the benchmarks. Meaningless, but printing it guarantees
+     * the consumed values are live.
+     *
+     * @return The consumed value.
+     */
+    public int getSink() {
+        return sink;
+    }
+}
@@ -0,0 +1,405 @@
+package bricker.benchmarks;
+
+import bricker.assets.GameAssets;
+import bricker.assets.HeadlessAssets;
+import bricker.assets.SoundEffect;
+import bricker.brick_strategies.BrickRemovals;
+import bricker.brick_strategies.BricksStrategyFactory;
+import bricker.brick_strategies.CollisionStrategy;
+import bricker.brick_strategies.StrategyCodes;
+import bricker.events.GameEventBus;
+import bricker.gameobjects.BrickGrid;
+import bricker.gameobjects.BricksLayer;
+import bricker.gameobjects.LivesManager;
+import bricker.gameobjects.ObjectPool;
+import bricker.gameobjects.Puck;
+import bricker.input.KeyInput;
+import bricker.levels.ArrayLevel;
+import bricker.main.BrickerGame;
+import bricker.main.GameConstants;
+import bricker.main.GameOutcome;
+import bricker.main.GameRandom;
+import bricker.simulation.HeadlessSimulation;
+import danogl.GameObject;
+import danogl.collisions.GameObjectCollection;
+import danogl.util.Counter;
+import danogl.util.Vector2;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Random;
+
+/**
+ * The benchmarks of the game, run headless:
+ * building a level at several grid sizes, sampling brick strategies, resolving explosion chains
+ * on grids of exploding bricks, composing double strategies of each depth,
+ * and a full game tick with 1, 100 and 10,000 active pucks.
+ * The results are written as CSV and JSON files, named by the time of the run,
+ * so runs of different releases can be compared.
+ *
+ * @author Amit Tzur and Zohar Mattatia
+ */
+public class BrickerBenchmarks {
+    // =========================== private constants =========================== //
+    /* number of brick columns of the benchmarks that don't vary the grid size */
+    private static final int DEFAULT_BRICK_COLUMNS = 8;
+    /* number of brick rows of the benchmarks that don't vary the grid size */
+    private static final int DEFAULT_BRICK_ROWS = 7;
+    /* default directory of the result files */
+    private static final String DEFAULT_OUTPUT_DIRECTORY = "benchmark-results";
+    /* format of the time in the names of the result files */
+    private static final DateTimeFormatter RUN_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+    /* warmup iterations of every benchmark */
+    private static final int WARMUP_ITERATIONS = 3;
+    /* measured iterations of every benchmark */
+    private static final int MEASURED_ITERATIONS = 5;
+    /* time budget of a single iteration, in milliseconds */
+    private static final long ITERATION_MILLIS = 500;
+    /* the grid sizes of the level building and explosion benchmarks, as {columns, rows} */
+    private static final int[][] GRID_SIZES = {{8, 7}, {32, 28}, {128, 112}};
+    /* width of the window per brick column, so large grids still have room for their bricks */
+    private static final float WINDOW_WIDTH_PER_COLUMN = 40;
+    /* height of the window per brick row, below the bricks */
+    private static final float WINDOW_HEIGHT_PER_ROW = 25;
+    /* strategy samples per invocation of the sampling benchmark */
+    private static final int SAMPLES_PER_INVOCATION = 1000;
+    /* strategy weights where every brick explodes */
+    private static final double[] ALL_EXPLODING_WEIGHTS = {0, 0, 0, 1, 0, 0};
+    /* the numbers of active pucks of the game tick benchmark */
+    private static final int[] PUCK_COUNTS = {1, 100, 10_000};
+    /* dimensions of the benchmark's pucks */
+    private static final Vector2 PUCK_DIMENSIONS =
+            new Vector2(GameConstants.BALL_SIZE * 0.75f, GameConstants.BALL_SIZE * 0.75f);
+    /* seed of the benchmarks' games and puck placements, so every run is the same */
+    private static final long SEED = 42;
+    /* top of the band where the pucks are spawned (between the bricks and the paddle),
+     as a fraction of the window height */
+    private static final float PUCKS_BAND_TOP = 0.4f;
+    /* bottom of the band where the pucks are spawned, as a fraction of the window height */
+    private static final float PUCKS_BAND_BOTTOM = 0.8f;
+
+    /* the assets of all the benchmarks - nothing is read from disk */
+    private static final GameAssets ASSETS = new HeadlessAssets();
+
+    /**
+     * Private constructor - this class only holds the benchmarks.
+     */
+    private BrickerBenchmarks() {
+    }
+
+    /**
+     * Benchmarks building a whole level - dominated by creating the bricks and their strategies.
+     *
+     * @param runner The runner of the benchmark.
+     */
+    private static void benchmarkLevelBuild(BenchmarkRunner runner) {
+        for (int[] size : GRID_SIZES) {
+            int columns = size[0];
+            int rows = size[1];
+            Vector2 windowDimensions = windowFor(columns, rows);
+            runner.run("initializeLevel", columns + "x" + rows, new Benchmark() {
+                /* the game built by the next invocation */
+                private BrickerGame game;
+
+                @Override
+                public void setUp() {
+                    game = new BrickerGame(new GameObjectCollection(), ASSETS, KeyInput.NONE,
+                            windowDimensions, columns, rows, new GameRandom(SEED));
+                }
+
+                @Override
+                public Object run() {
+                    game.initialize();
+                    return game;
+                }
+            });
+        }
+    }
+
+    /**
+     * Benchmarks the throughput of sampling a brick strategy from the factory.
+     *
+     * @param runner The runner of the benchmark.
+     */
+    private static void benchmarkStrategySampling(BenchmarkRunner runner) {
+        BricksStrategyFactory factory = newFactory(new GameObjectCollection(), null, null,
+                GameConstants.DEFAULT_WINDOW_DIMENSIONS, BricksStrategyFactory.getDefaultStrategyWeights());
+        runner.run("getStrategy", "default", new Benchmark() {
+            @Override
+            public Object run() {
+                CollisionStrategy strategy = null;
+                for (int i = 0; i < SAMPLES_PER_INVOCATION; i++) {
+                    strategy = factory.getStrategy();
+                }
+                return strategy;
+            }
+
+            @Override
+            public int operationsPerInvocation() {
+                return SAMPLES_PER_INVOCATION;
+            }
+        });
+    }
+
+    /**
+     * Benchmarks resolving an explosion chain over a whole grid of exploding bricks,
+     * started by hitting the corner brick.
+     *
+     * @param runner The runner of the benchmark.
+     */
+    private static void benchmarkExplosionChain(BenchmarkRunner runner) {
+        GameObject hittingBall = new GameObject(Vector2.ZERO, PUCK_DIMENSIONS, null);
+        for (int[] size : GRID_SIZES) {
+            int columns = size[0];
+            int rows = size[1];
+            Vector2 windowDimensions = windowFor(columns, rows);
+            runner.run("explosionChain", columns + "x" + rows, new Benchmark() {
+                /* the grid of exploding bricks of the next invocation */
+                private BrickGrid grid;
+                /* the brick counter of the next invocation */
+                private Counter brickCounter;
+                /* the queue of the bricks removed by the next invocation */
+                private BrickRemovals brickRemovals;
+
+                @Override
+                public void setUp() {
+                    GameObjectCollection gameObjects = new GameObjectCollection();
+                    brickCounter = new Counter(columns * rows);
+                    brickRemovals = new BrickRemovals(gameObjects, brickCounter, new GameEventBus());
+                    grid = newGrid(columns, rows, windowDimensions);
+                    BricksStrategyFactory factory = newFactory(gameObjects, brickRemovals, grid,
+                            windowDimensions, ALL_EXPLODING_WEIGHTS);
+                    byte[] codes = new byte[columns * rows];
+                    for (int cell = 0; cell < codes.length; cell++) {
+                        codes[cell] = factory.sampleCode();
+                    }
+                    grid.populate(new ArrayLevel(columns, rows, codes), factory,
+                            new BricksLayer(grid, gameObjects, null));
+                    // the whole grid is in the view, as in the game
+                    grid.showRows(0, windowDimensions.y());
+                }
+
+                @Override
+                public Object run() {
+                    grid.hit(0, 0, hittingBall);
+                    // the chain's bricks are removed at the end of the tick, as in the game
+                    brickRemovals.flush();
+                    return brickCounter;
+                }
+            });
+        }
+    }
+
+    /**
+     * Benchmarks composing the double strategies of each depth - every code with 2 special behaviors,
+     * and every code with 3 - on a new factory, so none of them is cached yet.
+     *
+     * @param runner The runner of the benchmark.
+     */
+    private static void benchmarkDoubleStrategyComposition(BenchmarkRunner runner) {
+        int kinds = StrategyCodes.SPECIAL_KINDS;
+        byte[] pairCodes = new byte[kinds * kinds];
+        byte[] tripleCodes = new byte[kinds * kinds * kinds];
+        int pairs = 0;
+        int triples = 0;
+        for (int first = 0; first < kinds; first++) {
+            for (int second = 0; second < kinds; second++) {
+                pairCodes[pairs++] = StrategyCodes.of(first, second);
+                for (int third = 0; third < kinds; third++) {
+                    tripleCodes[triples++] = StrategyCodes.of(first, second, third);
+                }
+            }
+        }
+        for (byte[] codes : new byte[][]{pairCodes, tripleCodes}) {
+            int depth = StrategyCodes.specialsCount(codes[0]);
+            runner.run("doubleStrategyDepth", depth, new Benchmark() {
+                /* the factory of the next invocation */
+                private BricksStrategyFactory factory;
+
+                @Override
+                public void setUp() {
+                    factory = newFactory(new GameObjectCollection(), null, null,
+                            GameConstants.DEFAULT_WINDOW_DIMENSIONS,
+                            BricksStrategyFactory.getDefaultStrategyWeights());
+                }
+
+                @Override
+                public Object run() {
+                    CollisionStrategy strategy = null;
+                    for (byte code : codes) {
+                        strategy = factory.strategyFor(code);
+                    }
+                    return strategy;
+                }
+
+                @Override
+                public int operationsPerInvocation() {
+                    return codes.length;
+                }
+            });
+        }
+    }
+
+    /**
+     * Benchmarks a full game tick - updating all the game objects and the game rules -
+     * with a given number of active pucks, on a full grid of a running game.
+     * Before every tick the benchmark's pucks that fell out of the window are spawned again, so the number
+     * of pucks stays the same, and once a brick was hit or the game ended the game is reset on its objects.
+     * The pucks of the game's own puck bricks are spawned at the end of a tick, and removed by that reset
+     * before the next one - so every measured tick updates exactly the benchmark's pucks.
+     *
+     * @param runner The runner of the benchmark.
+     */
+    private static void benchmarkGameTick(BenchmarkRunner runner) {
+        Vector2 windowDimensions = GameConstants.DEFAULT_WINDOW_DIMENSIONS;
+        for (int puckCount : PUCK_COUNTS) {
+            GameObjectCollection gameObjects = new GameObjectCollection();
+            BrickerGame game = new BrickerGame(gameObjects, ASSETS, KeyInput.NONE, windowDimensions,
+                    DEFAULT_BRICK_COLUMNS, DEFAULT_BRICK_ROWS, new GameRandom(SEED));
+            game.initialize();
+            int fullGridBricks = game.getRemainingBricks();
+            Random random = new Random(SEED);
+            // the pool is filled up front and only acquired from while it isn't empty
+            ObjectPool<Puck> pucks = new ObjectPool<>(puckCount, () -> null);
+            Puck[] benchmarkPucks = new Puck[puckCount];
+            for (int i = 0; i < puckCount; i++) {
+                benchmarkPucks[i] = new Puck(Vector2.ZERO, null, SoundEffect.SILENT, gameObjects,
+                        windowDimensions, PUCK_DIMENSIONS, pucks, game.getBrickGrid(), game.getEvents());
+                pucks.release(benchmarkPucks[i]);
+            }
+
+            runner.run("gameTick", puckCount + " pucks", new Benchmark() {
+                /* the outcome of the last tick */
+                private GameOutcome outcome = GameOutcome.RUNNING;
+
+                @Override
+                public void setUp() {
+                    if (outcome != GameOutcome.RUNNING || game.getRemainingBricks() < fullGridBricks) {
+                        // the reset removes every puck of the game, so the benchmark's pucks are taken out first
+                        for (Puck puck : benchmarkPucks) {
+                            if (gameObjects.removeGameObject(puck)) {
+                                pucks.release(puck);
+                            }
+                        }
+                        game.reset(SEED);
+                        outcome = GameOutcome.RUNNING;
+                    }
+                    // the pool holds exactly the pucks that are not in the game
+                    while (pucks.size() > 0) {
+                        Puck puck = pucks.acquire();
+                        double angle = random.nextDouble() * 2 * Math.PI;
+                        puck.reset(randomPuckPosition(random, windowDimensions),
+                                (float) Math.cos(angle) * GameConstants.BALL_SPEED,
+                                (float) Math.sin(angle) * GameConstants.BALL_SPEED);
+                        gameObjects.addGameObject(puck);
+                    }
+                }
+
+                @Override
+                public Object run() {
+                    gameObjects.update(HeadlessSimulation.DEFAULT_DELTA_TIME);
+                    outcome = game.update();
+                    return outcome;
+                }
+            });
+        }
+    }
+
+    /**
+     * Gets a random position for a puck, in the band between the bricks and the paddle.
+     *
+     * @param random           The random source.
+     * @param windowDimensions Dimensions of the game window.
+     * @return The top-left corner of the puck.
+     */
+    private static Vector2 randomPuckPosition(Random random, Vector2 windowDimensions) {
+        float bandHeight = (PUCKS_BAND_BOTTOM - PUCKS_BAND_TOP) * windowDimensions.y();
+        return new Vector2(random.nextFloat() * (windowDimensions.x() - PUCK_DIMENSIONS.x()),
+                PUCKS_BAND_TOP * windowDimensions.y() + random.nextFloat() * bandHeight);
+    }
+
+    /**
+     * Gets a window large enough for a grid of bricks.
+     *
+     * @param columns Number of brick columns.
+     * @param rows    Number of brick rows.
+     * @return The dimensions of the window.
+     */
+    private static Vector2 windowFor(int columns, int rows) {
+        Vector2 defaultWindow = GameConstants.DEFAULT_WINDOW_DIMENSIONS;
+        return new Vector2(Math.max(defaultWindow.x(), columns * WINDOW_WIDTH_PER_COLUMN),
+                defaultWindow.y() + rows * WINDOW_HEIGHT_PER_ROW);
+    }
+
+    /**
+     * Creates a grid of bricks laid out across a window, the way the game lays it out.
+     *
+     * @param columns          Number of brick columns.
+     * @param rows             Number of brick rows.
+     * @param windowDimensions Dimensions of the window.
+     * @return The grid, without bricks.
+     */
+    private static BrickGrid newGrid(int columns, int rows, Vector2 windowDimensions) {
+        float padding = GameConstants.STANDARD_PADDING;
+        float brickWidth = (windowDimensions.x() - padding * (columns + 1)) / columns;
+        return new BrickGrid(rows, columns, padding, padding, brickWidth, WINDOW_HEIGHT_PER_ROW - padding,
+                padding, new GameEventBus());
+    }
+
+    /**
+     * Creates a strategy factory with a new lives manager.
+     *
+     * @param gameObjects      The collection the strategies add and remove objects from.
+     * @param brickRemovals    The queue the strategies put the removed bricks in, or null for a new one.
+     * @param grid             The grid of the exploding bricks and the pucks, or null for a new grid
+     *                         of the default size.
+     * @param windowDimensions Dimensions of the window.
+     * @param weights          The strategy weights.
+     * @return The factory.
+     */
+    private static BricksStrategyFactory newFactory(GameObjectCollection gameObjects,
+                                                    BrickRemovals brickRemovals,
+                                                    BrickGrid grid,
+                                                    Vector2 windowDimensions,
+                                                    double[] weights) {
+        LivesManager livesManager = new LivesManager(gameObjects, Vector2.ZERO, ASSETS, new GameEventBus());
+        BrickRemovals removals = brickRemovals != null
+                ? brickRemovals
+                : new BrickRemovals(gameObjects, new Counter(0), new GameEventBus());
+        return new BricksStrategyFactory(gameObjects,
+                removals,
+                ASSETS, KeyInput.NONE,
+                grid != null ? grid : newGrid(DEFAULT_BRICK_COLUMNS, DEFAULT_BRICK_ROWS, windowDimensions),
+                livesManager, windowDimensions, new GameRandom(SEED), new GameEventBus(), weights);
+    }
+
+    /**
+     * Runs all the benchmarks and writes their results.
+     * Arguments (optional): the directory of the result files.
+     *
+     * @param args Command-line arguments
+     * @throws IOException If the result files can't be written.
+     */
+    public static void main(String[] args) throws IOException {
+        Path outputDirectory = Paths.get(args.length >= 1 ? args[0] : DEFAULT_OUTPUT_DIRECTORY);
+        BenchmarkRunner runner = new BenchmarkRunner(WARMUP_ITERATIONS, MEASURED_ITERATIONS, ITERATION_MILLIS);
+
+        benchmarkLevelBuild(runner);
+        benchmarkStrategySampling(runner);
+        benchmarkExplosionChain(runner);
+        benchmarkDoubleStrategyComposition(runner);
+        benchmarkGameTick(runner);
+
+        Files.createDirectories(outputDirectory);
+        String runName = "bricker-" + LocalDateTime.now().format(RUN_TIME_FORMAT);
+        Path csv = outputDirectory.resolve(runName + ".csv");
+        Path json = outputDirectory.resolve(runName + ".json");
+        runner.writeCsv(csv);
+        runner.writeJson(json);
+        System.out.println("results written to " + csv + " and " + json + " (" + runner.getSink() + ")");
+    }
+}
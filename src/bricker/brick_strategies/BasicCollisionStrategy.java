@@ -1,42 +1,68 @@
 package bricker.brick_strategies;
 
+import bricker.gameobjects.ObjectPool;
 import danogl.GameObject;
 import danogl.collisions.GameObjectCollection;
 import danogl.collisions.Layer;
-import danogl.util.Counter;
+
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * A basic collision strategy that removes the brick from the game upon collision.
+ * The brick is queued, and removed with the other bricks hit in the tick at its end.
  * Extends the CollisionStrategy interface.
  *
  * @author Amit Tzur and Zohar Mattatia
  */
 public class BasicCollisionStrategy implements CollisionStrategy {
     protected final GameObjectCollection gameObjects;
-    private final Counter brickCounter;
+    private final BrickRemovals brickRemovals;
 
     /**
      * Constructor for BasicCollisionStrategy.
      *
-     * @param gameObjects  The collection of game objects in the game.
-     * @param brickCounter A counter tracking the number of bricks remaining.
+     * @param gameObjects   The collection of game objects in the game.
+     * @param brickRemovals Queue of the bricks to remove at the end of the tick.
      */
-    public BasicCollisionStrategy(GameObjectCollection gameObjects, Counter brickCounter) {
+    public BasicCollisionStrategy(GameObjectCollection gameObjects, BrickRemovals brickRemovals) {
         this.gameObjects = gameObjects;
-        this.brickCounter = brickCounter;
+        this.brickRemovals = brickRemovals;
     }
 
     /**
-     * Handles the collision event by removing the firstObject from the game
-     * and decrementing the firstObject counter.
+     * Handles the collision event by queueing the firstObject for removal from the game.
+     * The brick counter is decremented when the queue is flushed, at the end of the tick.
      *
      * @param firstObject  The firstObject game object that was collided with.
      * @param secondObject The other game object involved in the collision.
      */
     @Override
     public void onCollision(GameObject firstObject, GameObject secondObject) {
-        if (gameObjects.removeGameObject(firstObject, Layer.STATIC_OBJECTS)) {
-            brickCounter.decrement();
+        brickRemovals.enqueue(firstObject);
+    }
+
+    /**
+     * Removes all the objects of a type from the default layer, and releases them to their pool.
+     * For the reset of strategies whose objects are pooled. The objects are collected first,
+     * so the layer isn't changed while it is walked.
+     *
+     * @param type The type of the removed objects.
+     * @param pool The pool the removed objects are released to.
+     * @param <T>  The type of the removed objects.
+     */
+    protected <T extends GameObject> void removeAll(Class<T> type, ObjectPool<T> pool) {
+        List<T> found = new ArrayList<>();
+        for (GameObject gameObject : gameObjects.objectsInLayer(Layer.DEFAULT)) {
+            if (type.isInstance(gameObject)) {
+                found.add(type.cast(gameObject));
+            }
+        }
+        for (T object : found) {
+            // releasing only on an actual removal, so an object never enters the pool twice
+            if (gameObjects.removeGameObject(object, Layer.DEFAULT)) {
+                pool.release(object);
+            }
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,105 @@
+package bricker.brick_strategies;
+
+import bricker.events.GameEventBus;
+import bricker.events.GameEventType;
+import bricker.gameobjects.Brick;
+import bricker.gameobjects.BrickGrid;
+import danogl.GameObject;
+import danogl.collisions.GameObjectCollection;
+import danogl.util.Counter;
+
+import java.util.Arrays;
+
+/**
+ * Queues the bricks removed by the collision strategies, and removes them all at the end of the tick.
+ * An explosion chain or a double strategy removes many bricks in a single tick - queueing them keeps
+ * the game object collection unchanged while the collisions are dispatched, and the brick counter
+ * is updated once per tick rather than once per brick.
+ * A brick queued more than once - by each behavior of a double strategy - is counted once.
+ * Every removed brick is published as an event, and so is the removal of the last brick.
+ *
+ * @author Amit Tzur and Zohar Mattatia
+ */
+public class BrickRemovals {
+    // =========================== private constants =========================== //
+    /* initial capacity of the queue - it grows with the most bricks removed in a tick */
+    private static final int INITIAL_CAPACITY = 16;
+    /* growth factor of the queue */
+    private static final int GROWTH_FACTOR = 2;
+
+    // =========================== fields =========================== //
+    /* the collection the bricks are removed from */
+    private final GameObjectCollection gameObjects;
+    /* counter of the bricks left in the game */
+    private final Counter brickCounter;
+    /* the bus the removals are published on */
+    private final GameEventBus events;
+    /* the bricks queued for removal */
+    private GameObject[] pending = new GameObject[INITIAL_CAPACITY];
+    /* number of bricks queued for removal */
+    private int pendingCount = 0;
+
+    /**
+     * Constructor for BrickRemovals.
+     *
+     * @param gameObjects  The collection the bricks are removed from.
+     * @param brickCounter Counter of the bricks left in the game.
+     * @param events       The bus the removals are published on.
+     */
+    public BrickRemovals(GameObjectCollection gameObjects, Counter brickCounter, GameEventBus events) {
+        this.gameObjects = gameObjects;
+        this.brickCounter = brickCounter;
+        this.events = events;
+    }
+
+    /**
+     * Queues a brick for removal at the end of the tick.
+     *
+     * @param brick The brick.
+     */
+    public void enqueue(GameObject brick) {
+        if (pendingCount == pending.length) {
+            pending = Arrays.copyOf(pending, pending.length * GROWTH_FACTOR);
+        }
+        pending[pendingCount++] = brick;
+    }
+
+    /**
+     * Removes all the queued bricks from the bricks layer, and decreases the brick counter
+     * once by the number of bricks removed. Called at the end of every tick.
+     * Publishes a brick destroyed event for every removed brick, and a bricks cleared event
+     * if no bricks are left.
+     *
+     * @return The number of bricks removed.
+     */
+    public int flush() {
+        int removed = 0;
+        for (int i = 0; i < pendingCount; i++) {
+            // a brick queued again was already removed, so it isn't counted again
+            GameObject brick = pending[i];
+            if (gameObjects.removeGameObject(brick, BrickGrid.BRICKS_LAYER)) {
+                removed++;
+                int cell = brick instanceof Brick ? ((Brick) brick).getCell() : -1;
+                events.publish(GameEventType.BRICK_DESTROYED, cell);
+            }
+            pending[i] = null;
+        }
+        pendingCount = 0;
+        if (removed > 0) {
+            brickCounter.increaseBy(-removed);
+            if (brickCounter.value() <= 0) {
+                events.publish(GameEventType.BRICKS_CLEARED, 0);
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Getter for the number of bricks queued for removal.
+     *
+     * @return The number of queued bricks.
+     */
+    public int getPendingCount() {
+        return pendingCount;
+    }
+}
@@ -1,134 +1,288 @@
 package bricker.brick_strategies;
 
-import bricker.gameobjects.Brick;
+import bricker.assets.GameAssets;
+import bricker.events.GameEventBus;
+import bricker.gameobjects.BrickGrid;
 import bricker.gameobjects.LivesManager;
+import bricker.input.KeyInput;
+import bricker.main.GameRandom;
 import danogl.collisions.GameObjectCollection;
-import danogl.gui.ImageReader;
-import danogl.gui.SoundReader;
-import danogl.gui.UserInputListener;
-import danogl.util.Counter;
 import danogl.util.Vector2;
 
 import java.util.Random;
 
 /**
- * Factory class to generate different brick collision strategies.
- * This class randomly selects and returns a collision strategy
- * based on the provided sample space.
+ * Factory class to generate the brick collision strategies of a level.
+ * A single factory is created per level. It randomly selects a behavior for each brick
+ * from a sampling table that is precomputed once from the strategy weights,
+ * and hands out shared strategy instances - the strategies hold no per-brick state,
+ * so all the bricks with the same behavior share the same strategy object.
  *
  * @author Amit Tzur and Zohar Mattatia
  */
 public class BricksStrategyFactory {
 
-    // =========================== private constats =========================== //
-    /* double strategies counter to avoid more than 2 for the same brick */
-    private static final int SET_DOUBLE_STRATEGY_COUNTER = 1;
-    /* index for pucks strategy to be chosen 1/10 chance */
-    private static final int PUCKS_STRATEGY_INDEX = 1;
-    /* index for extra paddle strategy to be chosen in 1/10 chance */
-    private static final int EXTRA_PADDLE_STRATEGY_INDEX = 2;
-    /* index for explode strategy to be chosen in 1/10 chance */
-    private static final int EXPLODE_STRATEGY_INDEX = 3;
-    /* index for extra life strategy to be chosen in 1/10 chance */
-    private static final int LIVES_STRATEGY_INDEX = 4;
-    /* index for double strategy to be chosen in 1/10 chance */
-    private static final int DOUBLE_STRATEGY_INDEX = 5;
+    // =========================== public constants =========================== //
+    /* weight index of the basic strategy */
+    public static final int BASIC_WEIGHT_INDEX = 0;
+    /* weight index of the pucks strategy */
+    public static final int PUCKS_WEIGHT_INDEX = 1;
+    /* weight index of the extra paddle strategy */
+    public static final int EXTRA_PADDLE_WEIGHT_INDEX = 2;
+    /* weight index of the explode strategy */
+    public static final int EXPLODE_WEIGHT_INDEX = 3;
+    /* weight index of the extra life strategy */
+    public static final int LIVES_WEIGHT_INDEX = 4;
+    /* weight index of the double strategy */
+    public static final int DOUBLE_WEIGHT_INDEX = 5;
+
+    // =========================== private constants =========================== //
+    /* default weights: 5/10 basic, and 1/10 for each of the 4 special strategies and the double one -
+     private, so no caller changes the distribution of every game */
+    private static final double[] DEFAULT_STRATEGY_WEIGHTS = {5, 1, 1, 1, 1, 1};
+    /* chance of a double strategy to hold a nested double strategy (one of its 5 options),
+     which gives it a third special behavior */
+    private static final double NESTED_DOUBLE_PROBABILITY = 1.0 / 5;
+    /* number of special behaviors of a double strategy without a nested one */
+    private static final int DOUBLE_SPECIALS = 2;
 
     // =========================== fields =========================== //
     /* game objects is needed to add/remove objects from the game */
     private final GameObjectCollection gameObjects;
-    /* brick counter to keep track of remaining bricks */
-    private final Counter brickCounter;
-    /* image reader to read images for the strategies */
-    private final ImageReader imageReader;
-    /* sound reader to read sounds for the strategies */
-    private final SoundReader soundReader;
-    /* user input listener to handle user inputs */
-    private final UserInputListener inputListener;
-    /* 2D array representing the grid of bricks */
-    private final Brick[][] bricksGrid; //
-    /* lives manager to manage player's lives */
-    private final LivesManager livesManager;
-    /* random number generator for strategy selection */
-    private static final Random RANDOM = new Random();
-    /* window dimensions for paddle placement */
-    private final Vector2 windowDimensions;
+    /* queue of the bricks to remove at the end of the tick */
+    private final BrickRemovals brickRemovals;
+    /* random stream of the strategy selection - the game's layout stream */
+    private final Random random;
+    /* the shared basic strategy */
+    private final CollisionStrategy basicStrategy;
+    /* the shared special strategies, by special behavior kind */
+    private final CollisionStrategy[] specialStrategies;
+    /* shared strategies by code - built on the first request of each code */
+    private final CollisionStrategy[] strategiesByCode = new CollisionStrategy[StrategyCodes.CODES];
+    /* the codes of the sampling table */
+    private final byte[] tableCodes;
+    /* the cumulative probabilities of the sampling table, matching tableCodes */
+    private final double[] tableCumulative;
+    /* number of entries filled in the sampling table while building it */
+    private int tableSize = 0;
 
     /**
-     * Constructor for BricksStrategyFactory.
+     * Constructor for BricksStrategyFactory, with the default strategy weights.
      *
      * @param gameObjects      The collection of game objects in the game.
-     * @param brickCounter     Counter to keep track of remaining bricks.
-     * @param imageReader      ImageReader for loading images.
-     * @param soundReader      SoundReader for loading sounds.
-     * @param inputListener    UserInputListener for handling user inputs.
-     * @param bricksGrid       2D array representing the grid of bricks.
+     * @param brickRemovals    Queue of the bricks to remove at the end of the tick.
+     * @param assets           Source of the images and sounds.
+     * @param inputListener    Keyboard state for handling user inputs.
+     * @param bricksGrid       The grid of bricks.
      * @param livesManager     LivesManager to manage player's lives.
      * @param windowDimensions Dimensions of the game window.
+     * @param random           The game's source of randomness.
+     * @param events           The bus the strategies publish their events on.
+     */
+    public BricksStrategyFactory(GameObjectCollection gameObjects,
+                                 BrickRemovals brickRemovals,
+                                 GameAssets assets,
+                                 KeyInput inputListener,
+                                 BrickGrid bricksGrid,
+                                 LivesManager livesManager,
+                                 Vector2 windowDimensions,
+                                 GameRandom random,
+                                 GameEventBus events) {
+        this(gameObjects, brickRemovals, assets, inputListener, bricksGrid, livesManager, windowDimensions,
+                random, events, DEFAULT_STRATEGY_WEIGHTS);
+    }
+
+    /**
+     * Constructor for BricksStrategyFactory.
+     * Creates the shared strategies and precomputes the sampling table.
      *
+     * @param gameObjects      The collection of game objects in the game.
+     * @param brickRemovals    Queue of the bricks to remove at the end of the tick.
+     * @param assets           Source of the images and sounds.
+     * @param inputListener    Keyboard state for handling user inputs.
+     * @param bricksGrid       The grid of bricks.
+     * @param livesManager     LivesManager to manage player's lives.
+     * @param windowDimensions Dimensions of the game window.
+     * @param random           The game's source of randomness.
+     * @param events           The bus the strategies publish their events on.
+     * @param strategyWeights  Relative weights of the strategies, indexed by the *_WEIGHT_INDEX constants.
      */
     public BricksStrategyFactory(GameObjectCollection gameObjects,
-                                 Counter brickCounter,
-                                 ImageReader imageReader,
-                                 SoundReader soundReader,
-                                 UserInputListener inputListener,
-                                 Brick[][] bricksGrid,
+                                 BrickRemovals brickRemovals,
+                                 GameAssets assets,
+                                 KeyInput inputListener,
+                                 BrickGrid bricksGrid,
                                  LivesManager livesManager,
-                                 Vector2 windowDimensions) {
+                                 Vector2 windowDimensions,
+                                 GameRandom random,
+                                 GameEventBus events,
+                                 double[] strategyWeights) {
 
         this.gameObjects = gameObjects;
-        this.brickCounter = brickCounter;
-        this.imageReader = imageReader;
-        this.soundReader = soundReader;
-        this.inputListener = inputListener;
-        this.bricksGrid = bricksGrid;
-        this.livesManager = livesManager;
-        this.windowDimensions = windowDimensions;
+        this.brickRemovals = brickRemovals;
+        this.random = random.layout();
+
+        this.basicStrategy = new BasicCollisionStrategy(gameObjects, brickRemovals);
+        this.specialStrategies = new CollisionStrategy[StrategyCodes.SPECIAL_KINDS];
+        specialStrategies[StrategyCodes.PUCKS] =
+                new PuckStrategy(gameObjects, brickRemovals, assets, windowDimensions, bricksGrid,
+                        random.puckAngles(), events);
+        specialStrategies[StrategyCodes.EXTRA_PADDLE] =
+                new ExtraPaddleStrategy(gameObjects, brickRemovals, assets, inputListener, windowDimensions,
+                        bricksGrid.getSolidBodies());
+        specialStrategies[StrategyCodes.EXPLODE] =
+                new ExplodingBrickStrategy(gameObjects, brickRemovals, bricksGrid, assets, events);
+        specialStrategies[StrategyCodes.EXTRA_LIFE] =
+                new RecoverLifeStrategy(gameObjects, brickRemovals, assets, livesManager, windowDimensions);
+
+        // one entry for the basic code, one per single special, and one per ordered pair and triple
+        int kinds = StrategyCodes.SPECIAL_KINDS;
+        int tableLength = 1 + kinds + kinds * kinds + kinds * kinds * kinds;
+        this.tableCodes = new byte[tableLength];
+        this.tableCumulative = new double[tableLength];
+        buildSamplingTable(strategyWeights);
+    }
+
+    /**
+     * Resets the shared strategies for a game that starts over on the same objects - the objects they
+     * added are removed from the game. The strategies themselves are kept, and so are the double
+     * strategies, which only combine the special ones.
+     */
+    public void reset() {
+        for (CollisionStrategy strategy : specialStrategies) {
+            strategy.reset();
+        }
+    }
+
+    /**
+     * Gets the default strategy weights: 5/10 basic, and 1/10 for each of the 4 special strategies and
+     * the double one.
+     *
+     * @return A copy of the default weights, indexed by the *_WEIGHT_INDEX constants.
+     */
+    public static double[] getDefaultStrategyWeights() {
+        return DEFAULT_STRATEGY_WEIGHTS.clone();
     }
 
     /**
-     * Generates and returns a collision strategy based on a random selection
-     * from the provided strategy sample space.
-     * The sample space defines the range of strategies to choose from.
-     * Since double strategy can be set only twice per brick, the factory
-     * ensures that the double strategy is only included in the selection
-     * when appropriate by setting the strategySampleSpace parameter to be 4 (excluding double)
-     * or 10 when including double and also the basic strategy.
+     * Randomly selects a behavior from the sampling table and returns its shared strategy.
      *
-     * @param strategySampleSpace The range of strategies to choose from.
      * @return A CollisionStrategy instance.
      */
-    public CollisionStrategy getStrategy(final int strategySampleSpace) {
-        /* randomly choose a strategy from the sample space */
-        int chosenStrategy = RANDOM.nextInt(strategySampleSpace) + 1; // to ensure 1-based indexing
-
-        return switch (chosenStrategy) {
-            case PUCKS_STRATEGY_INDEX -> // 1. Puck
-                    new PuckStrategy(gameObjects, brickCounter, imageReader, soundReader, windowDimensions);
-
-            case EXTRA_PADDLE_STRATEGY_INDEX -> // 2. Extra Paddle
-                    new ExtraPaddleStrategy(gameObjects, brickCounter, imageReader, inputListener,
-                            windowDimensions);
-
-            case EXPLODE_STRATEGY_INDEX -> // 3. Exploding
-                    new ExplodingBrickStrategy(gameObjects, brickCounter, bricksGrid, soundReader);
-
-            case LIVES_STRATEGY_INDEX -> // 4. Extra Life
-                    new RecoverLifeStrategy(gameObjects, brickCounter,
-                            imageReader, livesManager, windowDimensions);
-
-            case DOUBLE_STRATEGY_INDEX -> // 5. Double Strategy
-                    new DoubleStrategy(gameObjects, brickCounter,
-                            imageReader, soundReader,
-                            inputListener, bricksGrid,
-                            livesManager, SET_DOUBLE_STRATEGY_COUNTER,
-                            windowDimensions);
-
-            default -> new BasicCollisionStrategy(gameObjects, brickCounter); // 6-10. Basic strategy
-        };
+    public CollisionStrategy getStrategy() {
+        return strategyFor(sampleCode());
     }
 
-}
+    /**
+     * Randomly selects a behavior code from the sampling table.
+     * Binary searches the cumulative probabilities, so the cost doesn't depend on the weights.
+     *
+     * @return The code of the selected behavior, as defined in StrategyCodes.
+     */
+    public byte sampleCode() {
+        double sample = random.nextDouble();
+        int low = 0;
+        int high = tableSize - 1;
+        // find the first entry whose cumulative probability is above the sample
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (tableCumulative[middle] > sample) {
+                high = middle;
+            } else {
+                low = middle + 1;
+            }
+        }
+        return tableCodes[low];
+    }
+
+    /**
+     * Returns the shared strategy of a behavior code, creating it on its first request.
+     *
+     * @param code The code of the behavior, as defined in StrategyCodes.
+     * @return The shared CollisionStrategy of the code.
+     */
+    public CollisionStrategy strategyFor(byte code) {
+        int index = StrategyCodes.index(code);
+        CollisionStrategy strategy = strategiesByCode[index];
+        if (strategy == null) {
+            strategy = createStrategy(code);
+            strategiesByCode[index] = strategy;
+        }
+        return strategy;
+    }
+
+    /**
+     * Creates the strategy of a behavior code.
+     * Codes with two or three special behaviors are double strategies over the shared special ones.
+     *
+     * @param code The code of the behavior.
+     * @return A new CollisionStrategy for the code.
+     */
+    private CollisionStrategy createStrategy(byte code) {
+        int specialsCount = StrategyCodes.specialsCount(code);
+        if (specialsCount == 0) {
+            return basicStrategy;
+        }
+        if (specialsCount == 1) {
+            return specialStrategies[StrategyCodes.specialKind(code, 0)];
+        }
+        CollisionStrategy[] strategies = new CollisionStrategy[specialsCount];
+        for (int i = 0; i < specialsCount; i++) {
+            strategies[i] = specialStrategies[StrategyCodes.specialKind(code, i)];
+        }
+        return new DoubleStrategy(gameObjects, brickRemovals, strategies);
+    }
+
+    /**
+     * Precomputes the cumulative sampling table over all the behavior codes.
+     * A double strategy chooses each of its two behaviors uniformly among the 4 special strategies
+     * and a nested double strategy; only one nested double is allowed, and it adds 2 behaviors instead
+     * of 1 - so a double strategy has 3 special behaviors with probability p + (1 - p) * p.
+     *
+     * @param strategyWeights Relative weights of the strategies, indexed by the *_WEIGHT_INDEX constants.
+     */
+    private void buildSamplingTable(double[] strategyWeights) {
+        double totalWeight = 0;
+        for (double weight : strategyWeights) {
+            totalWeight += weight;
+        }
+        int kinds = StrategyCodes.SPECIAL_KINDS;
+
+        addTableEntry(StrategyCodes.BASIC, strategyWeights[BASIC_WEIGHT_INDEX] / totalWeight);
+        for (int kind = 0; kind < kinds; kind++) {
+            addTableEntry(StrategyCodes.of(kind), strategyWeights[PUCKS_WEIGHT_INDEX + kind] / totalWeight);
+        }
 
+        double doubleProbability = strategyWeights[DOUBLE_WEIGHT_INDEX] / totalWeight;
+        double tripleProbability =
+                NESTED_DOUBLE_PROBABILITY + (1 - NESTED_DOUBLE_PROBABILITY) * NESTED_DOUBLE_PROBABILITY;
+        double pairEntryProbability = doubleProbability * (1 - tripleProbability) / Math.pow(kinds,
+                DOUBLE_SPECIALS);
+        double tripleEntryProbability = doubleProbability * tripleProbability / Math.pow(kinds,
+                StrategyCodes.MAX_SPECIALS);
+        for (int first = 0; first < kinds; first++) {
+            for (int second = 0; second < kinds; second++) {
+                addTableEntry(StrategyCodes.of(first, second), pairEntryProbability);
+                for (int third = 0; third < kinds; third++) {
+                    addTableEntry(StrategyCodes.of(first, second, third), tripleEntryProbability);
+                }
+            }
+        }
+        // guard against rounding, so every sample in [0, 1) falls inside the table
+        tableCumulative[tableSize - 1] = 1;
+    }
 
+    /**
+     * Appends an entry to the cumulative sampling table.
+     *
+     * @param code        The code of the entry.
+     * @param probability The probability of the entry.
+     */
+    private void addTableEntry(byte code, double probability) {
+        double previous = tableSize == 0 ? 0 : tableCumulative[tableSize - 1];
+        tableCodes[tableSize] = code;
+        tableCumulative[tableSize] = previous + probability;
+        tableSize++;
+    }
 
+}
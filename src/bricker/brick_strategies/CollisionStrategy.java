@@ -4,4 +4,11 @@ import danogl.GameObject;
 
 public interface CollisionStrategy {
     void onCollision(GameObject firstObject, GameObject secondObject);
+
+    /**
+     * Resets the strategy for a game that starts over on the same objects - removes from the game
+     * the objects it added. Strategies that add nothing have nothing to reset.
+     */
+    default void reset() {
+    }
 }
@@ -1,12 +1,14 @@
 package bricker.brick_strategies;
 
+import bricker.assets.GameAssets;
+import bricker.assets.SoundEffect;
+import bricker.events.GameEventBus;
+import bricker.events.GameEventType;
+import bricker.gameobjects.Brick;
+import bricker.gameobjects.BrickGrid;
+import bricker.main.GameConstants;
 import danogl.GameObject;
 import danogl.collisions.GameObjectCollection;
-import danogl.gui.Sound;
-import danogl.gui.SoundReader;
-import danogl.util.Counter;
-import danogl.util.Vector2;
-import bricker.gameobjects.Brick;
 
 /**
  * A collision strategy that causes a brick to explode,
@@ -16,32 +18,34 @@ import bricker.gameobjects.Brick;
  * @author Amit Tzur and Zohar Mattatia
  */
 public class ExplodingBrickStrategy extends BasicCollisionStrategy implements CollisionStrategy {
-    // =========================== private constants =========================== //
-    /* Path to the explosion sound asset */
-    private static final String EXPLOSION_SOUND = "assets/explosion.wav";
     // =========================== fields =========================== //
     /* Sound effect for the explosion */
-    private final Sound explosionSound;
-    /* 2D array representing the grid of bricks */
-    private final Brick[][] bricksGrid;
+    private final SoundEffect explosionSound;
+    /* the grid of bricks */
+    private final BrickGrid bricksGrid;
+    /* the bus the explosions are published on */
+    private final GameEventBus events;
 
     /**
      * Constructor for ExplodingBrickStrategy.
      * Here we initialize the explosion sound and the bricks grid.
      *
-     * @param gameObjects  The collection of game objects in the game.
-     * @param brickCounter Counter to keep track of remaining bricks.
-     * @param bricksGrid   2D array representing the grid of bricks.
-     * @param soundReader  SoundReader for loading sounds.
+     * @param gameObjects   The collection of game objects in the game.
+     * @param brickRemovals Queue of the bricks to remove at the end of the tick.
+     * @param bricksGrid    The grid of bricks.
+     * @param assets        Source of the sounds.
+     * @param events        The bus the explosions are published on.
      */
     ExplodingBrickStrategy(GameObjectCollection gameObjects,
-                           Counter brickCounter,
-                           Brick[][] bricksGrid,
-                           SoundReader soundReader) {
+                           BrickRemovals brickRemovals,
+                           BrickGrid bricksGrid,
+                           GameAssets assets,
+                           GameEventBus events) {
 
-        super(gameObjects, brickCounter);
-        this.explosionSound = soundReader.readSound(EXPLOSION_SOUND);
+        super(gameObjects, brickRemovals);
+        this.explosionSound = assets.readSound(GameConstants.EXPLOSION_SOUND);
         this.bricksGrid = bricksGrid;
+        this.events = events;
     }
 
     /**
@@ -60,44 +64,11 @@ public class ExplodingBrickStrategy extends BasicCollisionStrategy implements Co
         // handling neighboring bricks explosion -
         // THIS IS ACCORDING TO THE ASSIGNMENT DESCRIPTION
         if (!(firstObject instanceof Brick)) return;
+        events.publish(GameEventType.BRICK_EXPLODED, ((Brick) firstObject).getCell());
 
-        // get the brick's coordinates in the grid
-        Vector2 brickCoordinates = ((Brick) firstObject).getBrickCoordinateInBricksGrid();
-        int row = (int) brickCoordinates.x();
-        int col = (int) brickCoordinates.y();
-
-        //mark that our brick is exploded
-        if (bricksGrid[row][col] != null) {
-            bricksGrid[row][col] = null;
-        } else {
-            return; //if already processed in another chain, we do nothing.
-        }
-
-        // check all four neighboring bricks (up, down, left, right)
-        int[][] directions = {{-1, 0}, {1, 0}, {0, -1}, {0, 1}};
-        for (int[] dir : directions) {
-            int newRow = row + dir[0];
-            int newCol = col + dir[1];
-
-            // if the neighbor brick exists, trigger its collision
-            if (isValidCoordinate(newRow, newCol)) {
-                Brick neighborBrick = bricksGrid[newRow][newCol];
-                if (neighborBrick != null) {
-                    neighborBrick.onCollisionEnter(firstObject, null);
-                }
-            }
-        }
-    }
-
-    /**
-     * Helper method to check if the given coordinates are valid in the bricks grid.
-     *
-     * @param row The row index to check.
-     * @param col The column index to check.
-     * @return True if the coordinates are valid, false otherwise.
-     */
-    private boolean isValidCoordinate(int row, int col) {
-        return row >= 0 && row < bricksGrid.length && col >= 0 && col < bricksGrid[0].length;
+        // the grid hits the neighbors iteratively - an exploding neighbor joins the same chain
+        // instead of recursing back into this method
+        bricksGrid.explode(((Brick) firstObject).getCell(), firstObject);
     }
 }
 
@@ -1,19 +1,20 @@
 package bricker.brick_strategies;
 
+import bricker.assets.GameAssets;
 import bricker.gameobjects.ExtraPaddle;
+import bricker.gameobjects.Paddle;
+import bricker.gameobjects.SolidBodies;
+import bricker.input.KeyInput;
 import bricker.main.GameConstants;
 import danogl.GameObject;
 import danogl.collisions.GameObjectCollection;
-import danogl.gui.ImageReader;
-import danogl.gui.UserInputListener;
 import danogl.gui.rendering.Renderable;
-import danogl.util.Counter;
 import danogl.util.Vector2;
 
 /**
  * A collision strategy that adds an extra paddle to the game upon brick collision.
  * The extra paddle allows the player to have an additional paddle controlled by the same input.
- * There can be only one extra paddle at a time.
+ * There can be only one extra paddle at a time - the strategy holds the single extra paddle of its game.
  * Extends the BasicCollisionStrategy.
  * Implements CollisionStrategy interface.
  *
@@ -23,34 +24,40 @@ public class ExtraPaddleStrategy extends BasicCollisionStrategy implements Colli
     // =========================== fields =========================== //
     /* game objects is needed to add/remove objects from the game */
     private final GameObjectCollection gameObjects;
-    /* image reader to read images for the strategies */
-    private final ImageReader imageReader;
+    /* image of the extra paddle */
+    private final Renderable paddleImage;
     /* user input listener to handle user inputs */
-    private final UserInputListener inputListener;
+    private final KeyInput inputListener;
     /* window dimensions for paddle placement */
     private final Vector2 windowDimensions;
+    /* the bodies the balls are swept against - the extra paddle joins them while it is in the game */
+    private final SolidBodies solidBodies;
+    /* the extra paddle of the game - created on the first activation, and reused after it is removed */
+    private ExtraPaddle extraPaddle;
 
     /**
      * Constructor for ExtraPaddleStrategy.
      *
      * @param gameObjects      The collection of game objects in the game.
-     * @param brickCounter     Counter to keep track of remaining bricks.
-     * @param imageReader      ImageReader for loading images.
-     * @param inputListener    UserInputListener for handling user inputs.
+     * @param brickRemovals    Queue of the bricks to remove at the end of the tick.
+     * @param assets           Source of the images.
+     * @param inputListener    Keyboard state for handling user inputs.
      * @param windowDimensions The dimensions of the game window.
-     *
+     * @param solidBodies      The bodies the balls are swept against.
      */
     public ExtraPaddleStrategy(GameObjectCollection gameObjects,
-                               Counter brickCounter,
-                               ImageReader imageReader,
-                               UserInputListener inputListener,
-                               Vector2 windowDimensions) {
+                               BrickRemovals brickRemovals,
+                               GameAssets assets,
+                               KeyInput inputListener,
+                               Vector2 windowDimensions,
+                               SolidBodies solidBodies) {
 
-        super(gameObjects, brickCounter);
+        super(gameObjects, brickRemovals);
         this.gameObjects = gameObjects;
-        this.imageReader = imageReader;
+        this.paddleImage = assets.readImage(GameConstants.PADDLE_IMAGE, true, Paddle.PADDLE_DIMENSIONS);
         this.inputListener = inputListener;
         this.windowDimensions = windowDimensions;
+        this.solidBodies = solidBodies;
     }
 
     /**
@@ -62,14 +69,20 @@ public class ExtraPaddleStrategy extends BasicCollisionStrategy implements Colli
     @Override
     public void onCollision(GameObject firstObject, GameObject secondObject) {
         super.onCollision(firstObject, secondObject);
-        Renderable paddleImage = imageReader.readImage(GameConstants.PADDLE_IMAGE, true);
-        // this method creates and adds the extra paddle to the game
-        // iff there is less than 1 extra paddle currently
-        ExtraPaddle.createExtraPaddle(
-                gameObjects,
-                windowDimensions,
-                paddleImage,
-                inputListener
-        );
+        if (extraPaddle == null) {
+            extraPaddle = new ExtraPaddle(paddleImage, inputListener, gameObjects, windowDimensions, solidBodies);
+        }
+        // adds the extra paddle to the game iff it isn't in the game currently
+        extraPaddle.activate();
+    }
+
+    /**
+     * Removes the extra paddle from the game, if it is in it. It is kept for the next activation.
+     */
+    @Override
+    public void reset() {
+        if (extraPaddle != null) {
+            extraPaddle.deactivate();
+        }
     }
 }
\ No newline at end of file
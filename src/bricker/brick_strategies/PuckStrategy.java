@@ -1,21 +1,25 @@
 package bricker.brick_strategies;
 
+import bricker.assets.GameAssets;
+import bricker.assets.SoundEffect;
+import bricker.events.GameEventBus;
+import bricker.events.GameEventType;
+import bricker.gameobjects.BrickGrid;
+import bricker.gameobjects.ObjectPool;
 import bricker.gameobjects.Puck;
+import bricker.gameobjects.PuckSwarm;
 import bricker.main.GameConstants;
 import danogl.GameObject;
 import danogl.collisions.GameObjectCollection;
 import danogl.collisions.Layer;
-import danogl.gui.ImageReader;
-import danogl.gui.Sound;
-import danogl.gui.SoundReader;
 import danogl.gui.rendering.Renderable;
-import danogl.util.Counter;
 import danogl.util.Vector2;
 
 import java.util.Random;
 
 /**
  * A collision strategy that spawns pucks upon brick collision.
+ * In swarm mode the pucks are spawned into a single swarm of the level, instead of as game objects.
  * Extends the BasicCollisionStrategy.
  *
  * @author Zohar Mattatia and Amit Tzur
@@ -28,35 +32,57 @@ public class PuckStrategy extends BasicCollisionStrategy implements CollisionStr
     private static final float PUCK_SIZE = GameConstants.BALL_SIZE * 0.75f;
     /* Number of pucks to spawn upon collision */
     private static final int NUMBER_OF_PUCKS = 2;
+    /* Maximal number of removed pucks kept for reuse */
+    private static final int PUCK_POOL_CAPACITY = 64;
+    /* Dimensions of the puck */
+    private static final Vector2 PUCK_DIMENSIONS = new Vector2(PUCK_SIZE, PUCK_SIZE);
 
     // =========================== fields =========================== ///
     /* Image for the puck */
     private final Renderable puckImage;
     /* Sound effect for puck collision */
-    private final Sound collisionSound;
+    private final SoundEffect collisionSound;
     /* Dimensions of the game window - to manage puck behavior */
     private final Vector2 windowDimensions;
+    /* The grid of bricks the pucks collide with */
+    private final BrickGrid brickGrid;
+    /* Pool of removed pucks, reused for the next spawns */
+    private final ObjectPool<Puck> puckPool;
+    /* Random stream of the pucks' angles */
+    private final Random puckAngles;
+    /* The bus the spawned and removed pucks are published on */
+    private final GameEventBus events;
+    /* The swarm the pucks are spawned into in swarm mode - null until the first spawn, or out of it */
+    private PuckSwarm swarm = null;
 
 
     /**
      * Constructor for PuckStrategy.
-     * Here we initialize the puck image, collision sound, and puck size.
+     * Here we initialize the puck image, collision sound, and the pool of pucks.
      *
      * @param gameObjects      The collection of game objects in the game.
-     * @param brickCounter     Counter to keep track of remaining bricks.
-     * @param imageReader      ImageReader for loading images.
-     * @param soundReader      SoundReader for loading sounds.
+     * @param brickRemovals    Queue of the bricks to remove at the end of the tick.
+     * @param assets           Source of the images and sounds.
      * @param windowDimensions The dimensions of the game window.
+     * @param brickGrid        The grid of bricks the pucks collide with.
+     * @param puckAngles       Random stream of the pucks' angles.
+     * @param events           The bus the spawned and removed pucks are published on.
      */
     public PuckStrategy(GameObjectCollection gameObjects,
-                        Counter brickCounter,
-                        ImageReader imageReader,
-                        SoundReader soundReader,
-                        Vector2 windowDimensions) {
-        super(gameObjects, brickCounter);
-        this.puckImage = imageReader.readImage(PUCK_IMAGE, true);
-        this.collisionSound = soundReader.readSound(GameConstants.BALL_COLLISION_SOUND);
+                        BrickRemovals brickRemovals,
+                        GameAssets assets,
+                        Vector2 windowDimensions,
+                        BrickGrid brickGrid,
+                        Random puckAngles,
+                        GameEventBus events) {
+        super(gameObjects, brickRemovals);
+        this.puckImage = assets.readImage(PUCK_IMAGE, true, PUCK_DIMENSIONS);
+        this.collisionSound = assets.readSound(GameConstants.BALL_COLLISION_SOUND);
         this.windowDimensions = windowDimensions;
+        this.brickGrid = brickGrid;
+        this.puckAngles = puckAngles;
+        this.events = events;
+        this.puckPool = new ObjectPool<>(PUCK_POOL_CAPACITY, this::createPuck);
     }
 
     /**
@@ -70,9 +96,8 @@ public class PuckStrategy extends BasicCollisionStrategy implements CollisionStr
         super.onCollision(firstObject, secondObject);
 
         Vector2 brickCenter = firstObject.getCenter();
-        Vector2 puckDimensions = new Vector2(PUCK_SIZE, PUCK_SIZE);
         Vector2 topLeftOfPuck =
-                brickCenter.subtract(puckDimensions.mult(GameConstants.HALF_FACTOR));
+                brickCenter.subtract(PUCK_DIMENSIONS.mult(GameConstants.HALF_FACTOR));
 
         for (int i = 0; i < NUMBER_OF_PUCKS; i++) {
             addPuck(topLeftOfPuck);
@@ -80,32 +105,62 @@ public class PuckStrategy extends BasicCollisionStrategy implements CollisionStr
     }
 
     /**
-     * Adds a puck to the game at the specified position with random velocity.
-     *
-     * @param topLeftOfPuck The top-left position where the puck will be placed.
+     * Removes the pucks of the game - the pucks go back to the pool, and the swarm is emptied.
      */
-    private void addPuck(Vector2 topLeftOfPuck) {
-
-
-        Puck puck = new Puck(topLeftOfPuck, puckImage, collisionSound,
-                gameObjects, windowDimensions, new Vector2(PUCK_SIZE, PUCK_SIZE));
-        puck.setVelocity(randomVelocityUpper());
-        super.gameObjects.addGameObject(puck, Layer.DEFAULT);
+    @Override
+    public void reset() {
+        removeAll(Puck.class, puckPool);
+        if (swarm != null) {
+            swarm.clear();
+        }
     }
 
     /**
-     * Generates a random velocity vector for the puck in the upper half-plane.
+     * Adds a puck to the game at the specified position, with a random velocity in the upper
+     * half-plane drawn from the puck angles stream.
+     * The puck is taken from the pool when a removed one is available, or spawned into the swarm
+     * in swarm mode.
      *
-     * @return A Vector2 representing the random velocity.
+     * @param topLeftOfPuck The top-left position where the puck will be placed.
      */
-    private Vector2 randomVelocityUpper() {
-        Random random = new Random();
-        double angle = random.nextDouble() * Math.PI;
+    private void addPuck(Vector2 topLeftOfPuck) {
+        double angle = puckAngles.nextDouble() * Math.PI;
         // Calculate velocity components based on the angle, which should be upwards
         float velocityX = (float) Math.cos(angle) * GameConstants.BALL_SPEED;
         float velocityY = (float) Math.sin(angle) * GameConstants.BALL_SPEED;
         // Math.sin(angle) in our range (0..π) is non-negative,
         // so we must negate the Y component to make the puck go up
-        return new Vector2(velocityX, -velocityY);
+        if (PuckSwarm.ENABLED) {
+            getSwarm().spawn(topLeftOfPuck.x(), topLeftOfPuck.y(), velocityX, -velocityY);
+        } else {
+            Puck puck = puckPool.acquire();
+            puck.reset(topLeftOfPuck, velocityX, -velocityY);
+            super.gameObjects.addGameObject(puck, Layer.DEFAULT);
+        }
+        events.publish(GameEventType.PUCK_SPAWNED, 0);
+    }
+
+    /**
+     * Gets the swarm of the level, creating it and adding it to the game on the first spawn.
+     *
+     * @return The swarm.
+     */
+    private PuckSwarm getSwarm() {
+        if (swarm == null) {
+            swarm = new PuckSwarm(puckImage, PUCK_DIMENSIONS, windowDimensions, brickGrid, collisionSound, events);
+            super.gameObjects.addGameObject(swarm, Layer.DEFAULT);
+        }
+        return swarm;
+    }
+
+    /**
+     * Creates a new puck, for when the pool has no removed puck to reuse.
+     * The puck is placed by reset when it is spawned.
+     *
+     * @return A new puck.
+     */
+    private Puck createPuck() {
+        return new Puck(Vector2.ZERO, puckImage, collisionSound,
+                gameObjects, windowDimensions, PUCK_DIMENSIONS, puckPool, brickGrid, events);
     }
 }
@@ -1,13 +1,13 @@
 package bricker.brick_strategies;
 
+import bricker.assets.GameAssets;
 import bricker.gameobjects.FallingHeart;
 import bricker.gameobjects.LivesManager;
+import bricker.gameobjects.ObjectPool;
 import bricker.main.GameConstants;
 import danogl.collisions.GameObjectCollection;
 import danogl.collisions.Layer;
-import danogl.gui.ImageReader;
 import danogl.gui.rendering.Renderable;
-import danogl.util.Counter;
 import danogl.util.Vector2;
 
 /**
@@ -19,6 +19,10 @@ import danogl.util.Vector2;
  */
 public class RecoverLifeStrategy extends BasicCollisionStrategy implements CollisionStrategy {
 
+    // ============================ private constants =========================== //
+    /* Maximal number of removed hearts kept for reuse */
+    private static final int HEART_POOL_CAPACITY = 16;
+
     // ============================ fields =========================== //
     /* Image for the heart */
     private final Renderable heartImage;
@@ -26,6 +30,8 @@ public class RecoverLifeStrategy extends BasicCollisionStrategy implements Colli
     private final LivesManager livesManager;
     /* Dimensions of the game window - to know when the heart has "fallen out" of the screen */
     private final Vector2 windowDimensions;
+    /* Pool of removed hearts, reused for the next drops */
+    private final ObjectPool<FallingHeart> heartPool;
 
     /* heart dimensions vector */
     public static final Vector2 HEART_DIMENSIONS = new Vector2(GameConstants.HEART_WIDTH,
@@ -33,23 +39,24 @@ public class RecoverLifeStrategy extends BasicCollisionStrategy implements Colli
 
     /**
      * Constructor for RecoverLifeStrategy.
-     * Here we initialize the heart image and lives manager.
+     * Here we initialize the heart image, lives manager and the pool of hearts.
      *
      * @param gameObjects      The collection of game objects in the game.
-     * @param brickCounter     Counter to keep track of remaining bricks.
-     * @param imageReader      ImageReader for loading images.
+     * @param brickRemovals    Queue of the bricks to remove at the end of the tick.
+     * @param assets           Source of the images.
      * @param livesManager     LivesManager for managing player lives.
      * @param windowDimensions The dimensions of the game window.
      */
     public RecoverLifeStrategy(GameObjectCollection gameObjects,
-                               Counter brickCounter,
-                               ImageReader imageReader,
+                               BrickRemovals brickRemovals,
+                               GameAssets assets,
                                LivesManager livesManager,
                                Vector2 windowDimensions) {
-        super(gameObjects, brickCounter);
+        super(gameObjects, brickRemovals);
         this.livesManager = livesManager;
-        this.heartImage = imageReader.readImage(GameConstants.HEART_IMAGE_PATH, true);
+        this.heartImage = assets.readImage(GameConstants.HEART_IMAGE_PATH, true, HEART_DIMENSIONS);
         this.windowDimensions = windowDimensions;
+        this.heartPool = new ObjectPool<>(HEART_POOL_CAPACITY, this::createHeart);
     }
 
     /**
@@ -63,17 +70,36 @@ public class RecoverLifeStrategy extends BasicCollisionStrategy implements Colli
         super.onCollision(firstObject, secondObject);
 
         Vector2 brickCenter = firstObject.getCenter();
-        Vector2 heartDims = HEART_DIMENSIONS;
-        Vector2 heartTopLeft = brickCenter.subtract(heartDims.mult(GameConstants.HALF_FACTOR));
-        // Create and add the falling heart to the game
-        FallingHeart fallingHeart = new FallingHeart(
+        Vector2 heartTopLeft = brickCenter.subtract(HEART_DIMENSIONS.mult(GameConstants.HALF_FACTOR));
+        // Take a falling heart from the pool and add it to the game
+        FallingHeart fallingHeart = heartPool.acquire();
+        fallingHeart.reset(heartTopLeft);
+        this.gameObjects.addGameObject(fallingHeart, Layer.DEFAULT);
+    }
+
+    /**
+     * Removes the falling hearts of the game, back to the pool.
+     */
+    @Override
+    public void reset() {
+        removeAll(FallingHeart.class, heartPool);
+    }
+
+    /**
+     * Creates a new falling heart, for when the pool has no removed heart to reuse.
+     * The heart is placed by reset when it is dropped.
+     *
+     * @return A new falling heart.
+     */
+    private FallingHeart createHeart() {
+        return new FallingHeart(
                 gameObjects,
-                heartTopLeft,
-                heartDims,
+                Vector2.ZERO,
+                HEART_DIMENSIONS,
                 this.heartImage,
                 this.livesManager,
-                windowDimensions);
-        this.gameObjects.addGameObject(fallingHeart, Layer.DEFAULT);
+                windowDimensions,
+                heartPool);
     }
 
 }
@@ -0,0 +1,96 @@
+package bricker.brick_strategies;
+
+/**
+ * Helper class for encoding the collision behavior of a brick in a single byte.
+ * A brick has the basic behavior plus zero to three special behaviors
+ * (a double strategy holds two or three of them). The code of a brick is laid out as:
+ * bits 0-1 - the number of special behaviors,
+ * bits 2-3, 4-5, 6-7 - the kind of the first, second and third special behavior.
+ * The basic strategy is therefore code 0. Levels use the otherwise unused code EMPTY for cells without a brick.
+ *
+ * @author Amit Tzur and Zohar Mattatia
+ */
+public final class StrategyCodes {
+    // =========================== public constants =========================== //
+    /* special behavior kind - spawning pucks */
+    public static final int PUCKS = 0;
+    /* special behavior kind - adding an extra paddle */
+    public static final int EXTRA_PADDLE = 1;
+    /* special behavior kind - exploding the neighboring bricks */
+    public static final int EXPLODE = 2;
+    /* special behavior kind - dropping a heart that recovers a life */
+    public static final int EXTRA_LIFE = 3;
+    /* number of special behavior kinds */
+    public static final int SPECIAL_KINDS = 4;
+    /* maximum number of special behaviors a brick can have */
+    public static final int MAX_SPECIALS = 3;
+    /* number of distinct codes */
+    public static final int CODES = 256;
+    /* the code of the basic strategy */
+    public static final byte BASIC = 0;
+    /* the code of a cell without a brick - a code never produced by of(),
+     since it has no special behaviors but a non-zero first kind */
+    public static final byte EMPTY = 0b100;
+
+    // =========================== private constants =========================== //
+    /* number of bits of the count and of each kind */
+    private static final int FIELD_BITS = 2;
+    /* mask of a 2 bits field */
+    private static final int FIELD_MASK = 0b11;
+    /* mask of an unsigned byte */
+    private static final int BYTE_MASK = 0xFF;
+
+    /**
+     * Private constructor - this class only holds static helpers.
+     */
+    private StrategyCodes() {
+    }
+
+    /**
+     * Encodes a brick behavior with the given special behaviors.
+     *
+     * @param kinds The kinds of the special behaviors - zero to three of them.
+     * @return The code of the behavior.
+     */
+    public static byte of(int... kinds) {
+        if (kinds.length > MAX_SPECIALS) {
+            throw new IllegalArgumentException("A brick has at most " + MAX_SPECIALS + " special behaviors");
+        }
+        int code = kinds.length;
+        for (int i = 0; i < kinds.length; i++) {
+            code |= (kinds[i] & FIELD_MASK) << (FIELD_BITS * (i + 1));
+        }
+        return (byte) code;
+    }
+
+    /**
+     * Gets the number of special behaviors of a code.
+     *
+     * @param code The code of the behavior.
+     * @return The number of special behaviors - 0 for the basic strategy.
+     */
+    public static int specialsCount(byte code) {
+        return code & FIELD_MASK;
+    }
+
+    /**
+     * Gets the kind of one of the special behaviors of a code.
+     *
+     * @param code  The code of the behavior.
+     * @param index The index of the special behavior, below specialsCount(code).
+     * @return The kind of the special behavior.
+     */
+    public static int specialKind(byte code, int index) {
+        return ((code & BYTE_MASK) >> (FIELD_BITS * (index + 1))) & FIELD_MASK;
+    }
+
+    /**
+     * Gets the code as an index in the range [0, CODES), for tables indexed by code.
+     *
+     * @param code The code of the behavior.
+     * @return The unsigned value of the code.
+     */
+    public static int index(byte code) {
+        return code & BYTE_MASK;
+    }
+}
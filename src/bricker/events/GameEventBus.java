@@ -0,0 +1,150 @@
+package bricker.events;
+
+import java.util.Arrays;
+
+/**
+ * The bus of a game's events: the game objects and the strategies publish what happened to them,
+ * and the game rules, the display and the statistics subscribe to the types of events they need.
+ * The events of a tick are kept in a ring of parallel arrays - a type and an int value per event -
+ * and are delivered to the subscribers once, in the order they were published, when the game
+ * dispatches them at the end of the tick. Publishing stores two array elements and never allocates:
+ * the ring is allocated up front, and grows only if a single tick publishes more events than ever before.
+ * <p>
+ * The whole game runs on a single thread, so the ring has a single producer and a single consumer
+ * and needs no locks or atomic cursors - the bus is not thread safe, and must not be published to from
+ * another thread. A listener may publish events while it handles one - they are delivered in the same
+ * dispatch, after the events published before them.
+ *
+ * @author Amit Tzur and Zohar Mattatia
+ */
+public class GameEventBus {
+    // =========================== private constants =========================== //
+    /* default capacity of the ring - a power of two */
+    private static final int DEFAULT_CAPACITY = 256;
+    /* growth factor of the ring - keeps its capacity a power of two */
+    private static final int GROWTH_FACTOR = 2;
+    /* the types of the events, by ordinal */
+    private static final GameEventType[] TYPES = GameEventType.values();
+
+    // =========================== fields =========================== //
+    /* the subscribers of every event type, by the type's ordinal */
+    private final GameEventListener[][] listeners = new GameEventListener[TYPES.length][0];
+    /* the types of the published events, by their sequence number masked to the ring */
+    private GameEventType[] types;
+    /* the values of the published events, matching types */
+    private int[] values;
+    /* mask of a sequence number to its index in the ring - the capacity minus one */
+    private int mask;
+    /* sequence number of the next event to publish */
+    private long published = 0;
+    /* sequence number of the next event to deliver */
+    private long delivered = 0;
+
+    /**
+     * Constructor for GameEventBus, with the default capacity.
+     */
+    public GameEventBus() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructor for GameEventBus.
+     *
+     * @param capacity The initial number of events the ring holds - rounded up to a power of two.
+     */
+    public GameEventBus(int capacity) {
+        int size = Integer.highestOneBit(Math.max(1, capacity - 1)) << 1;
+        this.types = new GameEventType[size];
+        this.values = new int[size];
+        this.mask = size - 1;
+    }
+
+    /**
+     * Subscribes a listener to events of the given types.
+     * Subscribing is done while the game is created - it is not meant for the per-frame path.
+     *
+     * @param listener   The listener.
+     * @param eventTypes The types of the events the listener gets.
+     */
+    public void subscribe(GameEventListener listener, GameEventType... eventTypes) {
+        for (GameEventType type : eventTypes) {
+            GameEventListener[] current = listeners[type.ordinal()];
+            GameEventListener[] updated = Arrays.copyOf(current, current.length + 1);
+            updated[current.length] = listener;
+            listeners[type.ordinal()] = updated;
+        }
+    }
+
+    /**
+     * Publishes an event, to be delivered on the next dispatch.
+     *
+     * @param type  The type of the event.
+     * @param value The value of the event, as defined by its type.
+     */
+    public void publish(GameEventType type, int value) {
+        if (published - delivered == types.length) {
+            grow();
+        }
+        int index = (int) published & mask;
+        types[index] = type;
+        values[index] = value;
+        published++;
+    }
+
+    /**
+     * Delivers all the published events to their subscribers, in the order they were published.
+     * Called once at the end of every tick.
+     *
+     * @return The number of events delivered.
+     */
+    public int dispatch() {
+        int count = 0;
+        // reads the published sequence every round - a listener may publish more events
+        while (delivered < published) {
+            int index = (int) delivered & mask;
+            GameEventType type = types[index];
+            int value = values[index];
+            // advanced before the delivery, so a nested dispatch never delivers this event again
+            delivered++;
+            count++;
+            for (GameEventListener listener : listeners[type.ordinal()]) {
+                listener.onEvent(type, value);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Drops the events published and not delivered yet - for a game that starts over.
+     * The subscriptions are kept.
+     */
+    public void clear() {
+        delivered = published;
+    }
+
+    /**
+     * Getter for the number of events published and not delivered yet.
+     *
+     * @return The number of pending events.
+     */
+    public int getPendingCount() {
+        return (int) (published - delivered);
+    }
+
+    /**
+     * Grows the ring, keeping the pending events in their sequence order.
+     */
+    private void grow() {
+        int size = types.length * GROWTH_FACTOR;
+        GameEventType[] grownTypes = new GameEventType[size];
+        int[] grownValues = new int[size];
+        int grownMask = size - 1;
+        for (long sequence = delivered; sequence < published; sequence++) {
+            grownTypes[(int) sequence & grownMask] = types[(int) sequence & mask];
+            grownValues[(int) sequence & grownMask] = values[(int) sequence & mask];
+        }
+        this.types = grownTypes;
+        this.values = grownValues;
+        this.mask = grownMask;
+    }
+}
@@ -0,0 +1,18 @@
+package bricker.events;
+
+/**
+ * A subscriber of the game's event bus.
+ *
+ * @author Amit Tzur and Zohar Mattatia
+ */
+@FunctionalInterface
+public interface GameEventListener {
+
+    /**
+     * Handles an event the listener subscribed to.
+     *
+     * @param type  The type of the event.
+     * @param value The value of the event, as defined by its type.
+     */
+    void onEvent(GameEventType type, int value);
+}
@@ -0,0 +1,28 @@
+package bricker.events;
+
+/**
+ * The types of the game events published on the game's event bus.
+ * Every event carries a single int value, whose meaning depends on its type.
+ *
+ * @author Amit Tzur and Zohar Mattatia
+ */
+public enum GameEventType {
+    /* a brick was removed from the game - the value is the index of its cell, or -1 outside a grid */
+    BRICK_DESTROYED,
+    /* the brick counter reached zero - the value is unused */
+    BRICKS_CLEARED,
+    /* a brick exploded - the value is the index of its cell */
+    BRICK_EXPLODED,
+    /* an explosion chain was resolved - the value is the number of bricks that exploded in it */
+    EXPLOSION_CHAIN_FINISHED,
+    /* the main ball fell below the window - the value is unused */
+    BALL_LOST,
+    /* the player lost a life - the value is the number of lives left */
+    LIFE_LOST,
+    /* the player gained a life - the value is the number of lives left */
+    LIFE_GAINED,
+    /* a puck was added to the game - the value is unused */
+    PUCK_SPAWNED,
+    /* a puck fell out of the game - the value is unused */
+    PUCK_REMOVED
+}
@@ -1,9 +1,13 @@
 package bricker.gameobjects;
 
+import bricker.assets.SoundEffect;
+import bricker.events.GameEventBus;
+import bricker.events.GameEventType;
 import bricker.main.GameConstants;
+import bricker.profiling.FramePhase;
+import bricker.profiling.FrameProfiler;
 import danogl.GameObject;
 import danogl.collisions.Collision;
-import danogl.gui.Sound;
 import danogl.gui.rendering.Renderable;
 import danogl.util.Vector2;
 
@@ -11,13 +15,27 @@ import danogl.util.Vector2;
  * A class representing a ball in the game.
  * Extends the GameObject class and includes collision handling with sound effect.
  * The parent class for all ball-like objects in the game - the standard ball and the puck.
+ * A ball checks its own collisions with the bricks, through the brick grid, every time it moves -
+ * along its whole move from its previous position, so it can't pass through a brick, a wall or a paddle.
+ * Its per-frame path doesn't allocate - velocities are set component by component.
+ * The main ball also reports its own fall below the play area, as a ball lost event.
  *
  * @author Amit Tzur and Zohar Mattatia
  */
 public class Ball extends GameObject {
     //============================ fields =========================== //
     /* Sound effect for ball collision */
-    private final Sound collisionSound;
+    private final SoundEffect collisionSound;
+    /* The grid of bricks the ball collides with */
+    private final BrickGrid brickGrid;
+    /* The bus the ball's fall is published on - null for a ball whose fall isn't reported */
+    private GameEventBus fallEvents = null;
+    /* The height below which the ball's center is lost */
+    private float fallLine = Float.POSITIVE_INFINITY;
+    /* The left edge of the ball before its last move */
+    private float previousX;
+    /* The top edge of the ball before its last move */
+    private float previousY;
 
     /**
      * Constructor for Ball.
@@ -26,17 +44,55 @@ public class Ball extends GameObject {
      * @param renderable     The visual representation of the ball.
      * @param collisionSound The sound effect to play upon collision.
      * @param ballDimensions The dimensions of the ball.
+     * @param brickGrid      The grid of bricks the ball collides with.
      */
     public Ball(Vector2 topLeftCorner,
                 Renderable renderable,
-                Sound collisionSound,
-                Vector2 ballDimensions) {
+                SoundEffect collisionSound,
+                Vector2 ballDimensions,
+                BrickGrid brickGrid) {
         super(topLeftCorner, ballDimensions, renderable);
         this.collisionSound = collisionSound;
+        this.brickGrid = brickGrid;
         // Set the ball tag for identification when hitting the extra paddle
         this.setTag(GameConstants.BALL_TAG);
     }
 
+    /**
+     * Makes the ball publish a ball lost event on every update that ends with its center below a line.
+     *
+     * @param fallLine The height below which the ball's center is lost.
+     * @param events   The bus the fall is published on.
+     */
+    public void reportFallsBelow(float fallLine, GameEventBus events) {
+        this.fallLine = fallLine;
+        this.fallEvents = events;
+    }
+
+    /**
+     * Moves the ball, and then resolves its collisions with the bricks it reached along the move.
+     * If the ball reports its falls and it fell below its fall line, the fall is published.
+     * Overrides the update method from GameObject.
+     *
+     * @param deltaTime The time elapsed since the last update.
+     */
+    @Override
+    public void update(float deltaTime) {
+        // recorded component by component, without keeping or allocating a vector
+        Vector2 topLeft = getTopLeftCorner();
+        previousX = topLeft.x();
+        previousY = topLeft.y();
+        super.update(deltaTime);
+        long profileStart = FrameProfiler.phaseStart();
+        brickGrid.resolveCollisions(this, previousX, previousY, deltaTime);
+        FrameProfiler.phaseEnd(FramePhase.COLLISIONS, profileStart);
+        // the center's height, read without allocating the center vector
+        if (fallEvents != null
+                && getTopLeftCorner().y() + getDimensions().y() * GameConstants.HALF_FACTOR > fallLine) {
+            fallEvents.publish(GameEventType.BALL_LOST, 0);
+        }
+    }
+
     /**
      * Handles the collision event by reflecting the ball's velocity and playing a sound effect.
      * Overrides the onCollisionEnter method from GameObject.
@@ -46,10 +102,45 @@ public class Ball extends GameObject {
      */
     @Override
     public void onCollisionEnter(GameObject other, Collision collision) {
+        long profileStart = FrameProfiler.phaseStart();
         super.onCollisionEnter(other, collision);
-        Vector2 newVel = getVelocity().flipped(collision.getNormal());
-        setVelocity(newVel);
+        Vector2 normal = collision.getNormal();
+        reflect(normal.x(), normal.y());
         collisionSound.play();
+        FrameProfiler.phaseEnd(FramePhase.COLLISIONS, profileStart);
+    }
+
+    /**
+     * Bounces the ball off a surface it hit, and plays the collision sound effect.
+     * Used for the collisions that are resolved by the game rather than by danogl (the bricks).
+     * The velocity is reflected only if the ball moves into the surface, so hitting two bricks
+     * on the same side in one frame doesn't cancel the bounce.
+     *
+     * @param normalX The x component of the surface's unit normal, pointing towards the ball.
+     * @param normalY The y component of the surface's unit normal, pointing towards the ball.
+     */
+    public void bounce(float normalX, float normalY) {
+        Vector2 velocity = getVelocity();
+        if (velocity.x() * normalX + velocity.y() * normalY < 0) {
+            reflect(normalX, normalY);
+        }
+        collisionSound.play();
+    }
+
+    /**
+     * Reflects the ball's velocity around a surface normal, like Vector2.flipped,
+     * but in place - without allocating a new velocity vector.
+     *
+     * @param normalX The x component of the surface's unit normal.
+     * @param normalY The y component of the surface's unit normal.
+     */
+    private void reflect(float normalX, float normalY) {
+        Vector2 velocity = getVelocity();
+        float velocityAlongNormal = velocity.x() * normalX + velocity.y() * normalY;
+        float reflectedX = velocity.x() - 2 * velocityAlongNormal * normalX;
+        float reflectedY = velocity.y() - 2 * velocityAlongNormal * normalY;
+        transform().setVelocityX(reflectedX);
+        transform().setVelocityY(reflectedY);
     }
 
 }
@@ -1,6 +1,7 @@
 package bricker.gameobjects;
 
-import bricker.brick_strategies.CollisionStrategy;
+import bricker.profiling.FramePhase;
+import bricker.profiling.FrameProfiler;
 import danogl.GameObject;
 import danogl.collisions.Collision;
 import danogl.gui.rendering.Renderable;
@@ -9,39 +10,39 @@ import danogl.util.Vector2;
 /**
  * A class representing a brick in the game.
  * Extends the GameObject class and includes collision handling.
+ * The state of the brick - whether it was hit, and its collision strategy - is held by the brick grid,
+ * by the brick's cell, so the game object itself is only used for drawing the brick.
  *
  * @author Amit Tzur and Zohar Mattatia
  */
 public class Brick extends GameObject {
     //============================ fields =========================== //
-    /* Collision strategy for handling brick collisions */
-    private final CollisionStrategy collisionStrategy;
-    /* The brick's coordinate in the bricks grid */
-    private final Vector2 brickCoordinateInBricksGrid;
-    /* Flag to indicate if the brick has been destroyed */
-    private boolean isDestroyed = false;
+    /* The grid the brick belongs to */
+    private final BrickGrid brickGrid;
+    /* The index of the brick's cell in the grid */
+    private final int cell;
 
     /**
      * Constructor for Brick.
      *
-     * @param topLeftCorner               The top-left corner position of the brick.
-     * @param dimensions                  The dimensions of the brick.
-     * @param renderable                  The visual representation of the brick.
-     * @param collisionStrategy           The strategy to handle collisions with this brick.
-     * @param brickCoordinateInBricksGrid The brick's coordinate in the bricks grid.
+     * @param topLeftCorner The top-left corner position of the brick.
+     * @param dimensions    The dimensions of the brick.
+     * @param renderable    The visual representation of the brick.
+     * @param brickGrid     The grid the brick belongs to.
+     * @param cell          The index of the brick's cell in the grid.
      */
     public Brick(Vector2 topLeftCorner,
                  Vector2 dimensions,
                  Renderable renderable,
-                 CollisionStrategy collisionStrategy,
-                 Vector2 brickCoordinateInBricksGrid) {
+                 BrickGrid brickGrid,
+                 int cell) {
         super(topLeftCorner, dimensions, renderable);
-        this.brickCoordinateInBricksGrid = brickCoordinateInBricksGrid;
-        this.collisionStrategy = collisionStrategy;
+        this.brickGrid = brickGrid;
+        this.cell = cell;
     }
 
     /**
-     * Handles the collision event by delegating to the collision strategy.
+     * Handles the collision event by hitting the brick.
      * Overrides the onCollisionEnter method from GameObject.
      *
      * @param other     The other game object involved in the collision.
@@ -49,26 +50,39 @@ public class Brick extends GameObject {
      */
     @Override
     public void onCollisionEnter(GameObject other, Collision collision) {
-        // to prevent multiple collisions on the same brick and thus multiple strategy activations
-        // where it is not intended
-        if (this.isDestroyed) {
-            return;
-        }
+        long profileStart = FrameProfiler.phaseStart();
         super.onCollisionEnter(other, collision);
-        // mark the brick as destroyed after the basic collision handling, where it is removed from the game
-        this.isDestroyed = true;
-        collisionStrategy.onCollision(this, other);
+        hit(other);
+        FrameProfiler.phaseEnd(FramePhase.COLLISIONS, profileStart);
     }
 
     /**
-     * Gets the brick's coordinate in the bricks grid.
-     * Used by the exploding brick strategy to identify neighboring bricks.
+     * Hits the brick: the grid takes it out of the game and activates its collision strategy.
+     * A brick that was already hit is not activated again.
+     *
+     * @param other The game object that hit the brick.
+     */
+    public void hit(GameObject other) {
+        brickGrid.hit(brickGrid.rowOf(cell), brickGrid.columnOf(cell), other);
+    }
+
+    /**
+     * Gets the index of the brick's cell in the grid.
+     *
+     * @return The index of the cell.
+     */
+    public int getCell() {
+        return cell;
+    }
+
+    /**
+     * Gets the brick's coordinate in the bricks grid, derived from its cell.
      * A Method for accessing a brick’s position in the grid (row and column)
      * - as instructed in the assignment.
      *
-     * @return The brick's coordinate in the bricks grid.
+     * @return The brick's coordinate in the bricks grid, as (row, column).
      */
     public Vector2 getBrickCoordinateInBricksGrid() {
-        return brickCoordinateInBricksGrid;
+        return new Vector2(brickGrid.rowOf(cell), brickGrid.columnOf(cell));
     }
 }
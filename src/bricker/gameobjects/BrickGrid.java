@@ -0,0 +1,721 @@
+package bricker.gameobjects;
+
+import bricker.brick_strategies.BricksStrategyFactory;
+import bricker.brick_strategies.StrategyCodes;
+import bricker.events.GameEventBus;
+import bricker.events.GameEventType;
+import bricker.levels.Level;
+import danogl.GameObject;
+import danogl.collisions.Layer;
+import danogl.util.Vector2;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * This class is responsible for the grid of bricks in the game.
+ * It knows the geometry of the grid (where each row and column is), holds the state of the bricks,
+ * and resolves the collisions of balls with the bricks.
+ * The bricks are placed in their own layer, which danogl does not check for collisions.
+ * Instead, every time a ball moves, its bounding box is mapped straight to the few cells it covers,
+ * so the cost of the collision check grows with the number of balls, not with the number of bricks.
+ * It also resolves explosion chains, with an explicit worklist of exploding cells rather than recursion.
+ * <p>
+ * The state of the bricks is held in primitive arrays, indexed by cell (row after row):
+ * a bit per cell for the bricks that weren't hit yet, and the behavior code of each cell in the level.
+ * The row and column of a cell are derived from its index.
+ * Brick game objects exist only to draw the bricks of the rows near the view - they are created
+ * through a BrickMaterializer as the rows come into the view, and removed as the rows leave it.
+ * So a tall level costs memory and per-frame work by its visible size, and a few bits per hidden brick.
+ *
+ * @author Amit Tzur and Zohar Mattatia
+ */
+public class BrickGrid {
+    // =========================== public constants =========================== //
+    /* the layer of the bricks - drawn above the walls, and not collided by danogl */
+    public static final int BRICKS_LAYER = Layer.STATIC_OBJECTS + 1;
+
+    // =========================== private constants =========================== //
+    /* number of rows above and below the view that are kept materialized, so bricks exist before they show */
+    private static final int RESIDENT_MARGIN_ROWS = 2;
+    /* initial capacity of the explosion worklist - it grows with the longest chain */
+    private static final int INITIAL_EXPLOSION_QUEUE_CAPACITY = 64;
+    /* growth factor of the explosion worklist and of the resident rows */
+    private static final int GROWTH_FACTOR = 2;
+    /* maximal number of bounces off bricks in a single move - the rest of the move stops at the last one */
+    private static final int MAX_SWEEP_STEPS = 4;
+    /* difference of contact times within which bricks are reached together - at a corner between them */
+    private static final float SIMULTANEOUS_CONTACT_TIME = 1e-4f;
+
+    // =========================== fields =========================== //
+    /* number of rows in the grid */
+    private final int rows;
+    /* number of columns in the grid */
+    private final int columns;
+    /* x coordinate of the left edge of the first column */
+    private final float left;
+    /* y coordinate of the top edge of the first row */
+    private final float top;
+    /* width of a brick */
+    private final float brickWidth;
+    /* height of a brick */
+    private final float brickHeight;
+    /* horizontal distance between the left edges of two adjacent columns */
+    private final float columnPitch;
+    /* vertical distance between the top edges of two adjacent rows */
+    private final float rowPitch;
+    /* the cells whose brick wasn't hit yet */
+    private final BitSet aliveCells;
+    /* the cells that have already exploded - a cell explodes at most once */
+    private final BitSet explodedCells;
+    /* the bus the finished explosion chains are published on */
+    private final GameEventBus events;
+    /* the walls and paddles the balls are swept against, along with the bricks */
+    private final SolidBodies solidBodies = new SolidBodies();
+    /* the swept contact test, reused for every brick */
+    private final SweptContact contact = new SweptContact();
+    /* the behavior code of every cell */
+    private Level layout;
+    /* resolves the behavior codes to their shared collision strategies */
+    private BricksStrategyFactory strategies;
+    /* creates and removes the brick game objects */
+    private BrickMaterializer materializer;
+    /* the brick game objects of the resident rows - row r is in the slot of row r % residentCapacity */
+    private Brick[] residentBricks = new Brick[0];
+    /* number of rows the resident bricks array has room for */
+    private int residentCapacity = 0;
+    /* the first resident row */
+    private int firstResidentRow = 0;
+    /* the last resident row - below the first row while none are resident */
+    private int lastResidentRow = -1;
+    /* worklist of exploding cells whose neighbors are still to be hit */
+    private int[] explosionQueue = new int[INITIAL_EXPLOSION_QUEUE_CAPACITY];
+    /* index of the next cell to take from the explosion worklist */
+    private int explosionQueueHead = 0;
+    /* index where the next exploding cell is put in the explosion worklist */
+    private int explosionQueueTail = 0;
+    /* whether an explosion chain is currently being resolved */
+    private boolean isResolvingExplosion = false;
+    /* the x component of the normal of the first brick contact found */
+    private float contactNormalX;
+    /* the y component of the normal of the first brick contact found */
+    private float contactNormalY;
+    /* the first column covered by the last swept move */
+    private int sweptFirstColumn;
+    /* the last column covered by the last swept move */
+    private int sweptLastColumn;
+    /* the first row covered by the last swept move */
+    private int sweptFirstRow;
+    /* the last row covered by the last swept move */
+    private int sweptLastRow;
+
+    /**
+     * Constructor for BrickGrid.
+     * The grid has no bricks until it is populated.
+     *
+     * @param rows        Number of rows in the grid.
+     * @param columns     Number of columns in the grid.
+     * @param left        X coordinate of the left edge of the first column.
+     * @param top         Y coordinate of the top edge of the first row.
+     * @param brickWidth  Width of a brick.
+     * @param brickHeight Height of a brick.
+     * @param gap         Space between two adjacent bricks.
+     * @param events      The bus the finished explosion chains are published on.
+     */
+    public BrickGrid(int rows,
+                     int columns,
+                     float left,
+                     float top,
+                     float brickWidth,
+                     float brickHeight,
+                     float gap,
+                     GameEventBus events) {
+        this.rows = rows;
+        this.columns = columns;
+        this.left = left;
+        this.top = top;
+        this.brickWidth = brickWidth;
+        this.brickHeight = brickHeight;
+        this.columnPitch = brickWidth + gap;
+        this.rowPitch = brickHeight + gap;
+        this.aliveCells = new BitSet(rows * columns);
+        this.explodedCells = new BitSet(rows * columns);
+        this.events = events;
+    }
+
+    /**
+     * Fills the grid with the bricks of a level - a brick in every cell that isn't empty.
+     * No brick game object is created until showRows is called.
+     *
+     * @param layout       The behavior code of every cell - of the grid's size.
+     * @param strategies   Resolves the behavior codes to their collision strategies.
+     * @param materializer Creates and removes the brick game objects.
+     * @return The number of bricks in the grid.
+     */
+    public int populate(Level layout, BricksStrategyFactory strategies, BrickMaterializer materializer) {
+        this.strategies = strategies;
+        this.materializer = materializer;
+        return fill(layout);
+    }
+
+    /**
+     * Fills the grid again with the bricks of a level, of the grid's size, for a game that starts over -
+     * with the strategies and materializer it was populated with.
+     * The brick game objects of the resident rows are kept where the new level has a brick, created
+     * where it has a brick that was destroyed, and removed where it has none.
+     *
+     * @param layout The behavior code of every cell.
+     * @return The number of bricks in the grid.
+     */
+    public int repopulate(Level layout) {
+        explodedCells.clear();
+        int bricks = fill(layout);
+        for (int row = firstResidentRow; row <= lastResidentRow; row++) {
+            int slot = residentSlot(row);
+            for (int column = 0; column < columns; column++) {
+                Brick brick = residentBricks[slot + column];
+                boolean isAlive = aliveCells.get(row * columns + column);
+                if (brick == null && isAlive) {
+                    residentBricks[slot + column] = materializer.materialize(row, column);
+                } else if (brick != null && !isAlive) {
+                    materializer.dematerialize(brick);
+                    residentBricks[slot + column] = null;
+                }
+            }
+        }
+        return bricks;
+    }
+
+    /**
+     * Gets the top-left corner of a cell - where the brick of the cell is placed.
+     *
+     * @param row    The row of the cell.
+     * @param column The column of the cell.
+     * @return The top-left corner of the cell.
+     */
+    public Vector2 cellTopLeft(int row, int column) {
+        return new Vector2(left + column * columnPitch, top + row * rowPitch);
+    }
+
+    /**
+     * Gets the x coordinate of the left edge of a column's cells, without allocating.
+     *
+     * @param column The column.
+     * @return The left edge of the column.
+     */
+    public float cellLeft(int column) {
+        return left + column * columnPitch;
+    }
+
+    /**
+     * Gets the y coordinate of the top edge of a row's cells, without allocating.
+     *
+     * @param row The row.
+     * @return The top edge of the row.
+     */
+    public float cellTop(int row) {
+        return top + row * rowPitch;
+    }
+
+    /**
+     * Gets the number of rows in the grid.
+     *
+     * @return The number of rows.
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * Gets the number of columns in the grid.
+     *
+     * @return The number of columns.
+     */
+    public int getColumns() {
+        return columns;
+    }
+
+    /**
+     * Gets the dimensions of the area the grid's cells cover - from the first cell's top-left corner
+     * to the last cell's bottom-right corner.
+     *
+     * @return The dimensions of the grid.
+     */
+    public Vector2 getGridDimensions() {
+        return new Vector2(cellLeft(columns - 1) + brickWidth - left, cellTop(rows - 1) + brickHeight - top);
+    }
+
+    /**
+     * Gets the dimensions of a brick in the grid.
+     *
+     * @return The dimensions of a brick.
+     */
+    public Vector2 getBrickDimensions() {
+        return new Vector2(brickWidth, brickHeight);
+    }
+
+    /**
+     * Gets the index of a cell - its position in the grid, row after row.
+     *
+     * @param row    The row of the cell.
+     * @param column The column of the cell.
+     * @return The index of the cell.
+     */
+    public int cellOf(int row, int column) {
+        return row * columns + column;
+    }
+
+    /**
+     * Gets the row of a cell.
+     *
+     * @param cell The index of the cell.
+     * @return The row of the cell.
+     */
+    public int rowOf(int cell) {
+        return cell / columns;
+    }
+
+    /**
+     * Gets the column of a cell.
+     *
+     * @param cell The index of the cell.
+     * @return The column of the cell.
+     */
+    public int columnOf(int cell) {
+        return cell % columns;
+    }
+
+    /**
+     * Gets the walls and paddles the balls are swept against, along with the bricks.
+     *
+     * @return The solid bodies.
+     */
+    public SolidBodies getSolidBodies() {
+        return solidBodies;
+    }
+
+    /**
+     * Checks if a cell holds a brick that wasn't hit yet.
+     *
+     * @param cell The index of the cell.
+     * @return True if the cell's brick is still in the game.
+     */
+    public boolean isAlive(int cell) {
+        return aliveCells.get(cell);
+    }
+
+    /**
+     * Checks if the given coordinates are inside the grid.
+     *
+     * @param row    The row index to check.
+     * @param column The column index to check.
+     * @return True if the coordinates are valid, false otherwise.
+     */
+    public boolean isValidCell(int row, int column) {
+        return row >= 0 && row < rows && column >= 0 && column < columns;
+    }
+
+    /**
+     * Keeps materialized the bricks of the rows that overlap the view, and a margin of rows around it.
+     * The bricks of rows that entered the range are created, and those of rows that left it are removed
+     * from the game. Does nothing if the range didn't change.
+     *
+     * @param viewTop    The top edge of the view.
+     * @param viewBottom The bottom edge of the view.
+     */
+    public void showRows(float viewTop, float viewBottom) {
+        int first = Math.max(0, (int) Math.floor((viewTop - top) / rowPitch) - RESIDENT_MARGIN_ROWS);
+        int last = Math.min(rows - 1, (int) Math.floor((viewBottom - top) / rowPitch) + RESIDENT_MARGIN_ROWS);
+        if (first == firstResidentRow && last == lastResidentRow) {
+            return;
+        }
+        if (last - first + 1 > residentCapacity) {
+            growResidentRows(Math.max(last - first + 1, residentCapacity * GROWTH_FACTOR));
+        }
+        for (int row = firstResidentRow; row <= lastResidentRow; row++) {
+            if (row < first || row > last) {
+                evictRow(row);
+            }
+        }
+        for (int row = first; row <= last; row++) {
+            if (row < firstResidentRow || row > lastResidentRow) {
+                materializeRow(row);
+            }
+        }
+        firstResidentRow = first;
+        lastResidentRow = last;
+    }
+
+    /**
+     * Hits the brick of a cell, if it wasn't hit yet: takes it out of the grid and activates
+     * the collision strategy of its code.
+     *
+     * @param row    The row of the cell.
+     * @param column The column of the cell.
+     * @param other  The game object that hit the brick.
+     */
+    public void hit(int row, int column, GameObject other) {
+        hitCell(row * columns + column, other);
+    }
+
+    /**
+     * Explodes a cell - hits the bricks in the four neighboring cells (up, down, left, right).
+     * A neighbor that explodes as well is added to the current chain, and the whole chain is resolved
+     * in a single pass over an explicit worklist, so a large connected region of exploding bricks
+     * doesn't recurse once per brick. When the chain is resolved, it is published with its length.
+     *
+     * @param cell           The index of the exploding cell.
+     * @param explodingBrick The exploding brick - passed to the strategies of the hit neighbors.
+     */
+    public void explode(int cell, GameObject explodingBrick) {
+        // if already processed in another chain, we do nothing
+        if (explodedCells.get(cell)) {
+            return;
+        }
+        explodedCells.set(cell);
+        if (explosionQueueTail == explosionQueue.length) {
+            explosionQueue = Arrays.copyOf(explosionQueue, explosionQueue.length * GROWTH_FACTOR);
+        }
+        explosionQueue[explosionQueueTail++] = cell;
+        // a neighbor exploding during the chain is picked up by the loop below
+        if (isResolvingExplosion) {
+            return;
+        }
+
+        isResolvingExplosion = true;
+        while (explosionQueueHead < explosionQueueTail) {
+            int explodingCell = explosionQueue[explosionQueueHead++];
+            int explodingRow = explodingCell / columns;
+            int explodingColumn = explodingCell % columns;
+            hitNeighbor(explodingRow - 1, explodingColumn, explodingBrick);
+            hitNeighbor(explodingRow + 1, explodingColumn, explodingBrick);
+            hitNeighbor(explodingRow, explodingColumn - 1, explodingBrick);
+            hitNeighbor(explodingRow, explodingColumn + 1, explodingBrick);
+        }
+        events.publish(GameEventType.EXPLOSION_CHAIN_FINISHED, explosionQueueTail);
+        explosionQueueHead = 0;
+        explosionQueueTail = 0;
+        isResolvingExplosion = false;
+    }
+
+    /**
+     * Hits the brick in a neighboring cell of an exploding brick, if there is one.
+     *
+     * @param row            The row of the neighboring cell.
+     * @param column         The column of the neighboring cell.
+     * @param explodingBrick The exploding brick.
+     */
+    private void hitNeighbor(int row, int column, GameObject explodingBrick) {
+        if (isValidCell(row, column)) {
+            hitCell(row * columns + column, explodingBrick);
+        }
+    }
+
+    /**
+     * Hits the brick of a cell, if it wasn't hit yet. The strategy gets the cell's brick game object -
+     * and a cell outside the resident rows, reached by a puck or an explosion, gets one created for it,
+     * which the strategy removes right away.
+     *
+     * @param cell  The index of the cell.
+     * @param other The game object that hit the brick.
+     */
+    private void hitCell(int cell, GameObject other) {
+        if (!aliveCells.get(cell)) {
+            return;
+        }
+        aliveCells.clear(cell);
+        int row = cell / columns;
+        int column = cell % columns;
+        Brick brick;
+        if (row >= firstResidentRow && row <= lastResidentRow) {
+            int slot = residentSlot(row) + column;
+            brick = residentBricks[slot];
+            residentBricks[slot] = null;
+        } else {
+            brick = materializer.materialize(row, column);
+        }
+        strategies.strategyFor(layout.codeAt(row, column)).onCollision(brick, other);
+    }
+
+    /**
+     * Sets the alive cells to the cells of a level that aren't empty.
+     *
+     * @param layout The behavior code of every cell.
+     * @return The number of bricks in the grid.
+     */
+    private int fill(Level layout) {
+        this.layout = layout;
+        aliveCells.clear();
+        for (int row = 0; row < rows; row++) {
+            for (int column = 0; column < columns; column++) {
+                if (layout.codeAt(row, column) != StrategyCodes.EMPTY) {
+                    aliveCells.set(row * columns + column);
+                }
+            }
+        }
+        return aliveCells.cardinality();
+    }
+
+    /**
+     * Gets the index in the resident bricks of the first cell of a resident row.
+     *
+     * @param row The row.
+     * @return The index of the row's first cell in the resident bricks.
+     */
+    private int residentSlot(int row) {
+        return (row % residentCapacity) * columns;
+    }
+
+    /**
+     * Makes room for more resident rows, keeping the bricks of the current resident rows.
+     *
+     * @param capacity The new number of rows.
+     */
+    private void growResidentRows(int capacity) {
+        Brick[] oldBricks = residentBricks;
+        int oldCapacity = residentCapacity;
+        residentBricks = new Brick[capacity * columns];
+        residentCapacity = capacity;
+        for (int row = firstResidentRow; row <= lastResidentRow; row++) {
+            System.arraycopy(oldBricks, (row % oldCapacity) * columns, residentBricks, residentSlot(row), columns);
+        }
+    }
+
+    /**
+     * Creates the brick game objects of a row, when it comes into the view.
+     *
+     * @param row The row.
+     */
+    private void materializeRow(int row) {
+        int slot = residentSlot(row);
+        for (int column = 0; column < columns; column++) {
+            residentBricks[slot + column] = aliveCells.get(row * columns + column)
+                    ? materializer.materialize(row, column)
+                    : null;
+        }
+    }
+
+    /**
+     * Removes the brick game objects of a row from the game, when it leaves the view.
+     *
+     * @param row The row.
+     */
+    private void evictRow(int row) {
+        int slot = residentSlot(row);
+        for (int column = 0; column < columns; column++) {
+            Brick brick = residentBricks[slot + column];
+            if (brick != null) {
+                materializer.dematerialize(brick);
+                residentBricks[slot + column] = null;
+            }
+        }
+    }
+
+    /**
+     * Resolves the collisions of a ball (or puck) with the bricks, along its whole move in the frame.
+     * The move is swept against the bricks in the cells its path covers, so a fast ball or a long frame
+     * never carries a ball over a brick: the ball is put back at the point it first reached a brick,
+     * bounces off it, the brick is hit - which triggers its collision strategy - and the rest of the move
+     * goes on in the new direction. Bricks reached at the same time - at a corner between two of them -
+     * are all hit. A ball that would cross a wall or a paddle is stopped at it instead, for danogl to
+     * resolve that collision. Called by the ball every time it moves; doesn't allocate.
+     *
+     * @param ball      The ball to check, at the end of its move.
+     * @param fromX     The left edge of the ball at the start of its move.
+     * @param fromY     The top edge of the ball at the start of its move.
+     * @param deltaTime The time of the move.
+     */
+    public void resolveCollisions(Ball ball, float fromX, float fromY, float deltaTime) {
+        Vector2 dimensions = ball.getDimensions();
+        float width = dimensions.x();
+        float height = dimensions.y();
+        float remainingTime = deltaTime;
+        for (int step = 0; step < MAX_SWEEP_STEPS; step++) {
+            Vector2 topLeft = ball.getTopLeftCorner();
+            float deltaX = topLeft.x() - fromX;
+            float deltaY = topLeft.y() - fromY;
+            if (deltaX == 0 && deltaY == 0 && step > 0) {
+                return;
+            }
+            float contactTime = findFirstBrickContact(fromX, fromY, deltaX, deltaY, width, height);
+
+            if (solidBodies.sweep(fromX, fromY, deltaX, deltaY, width, height)) {
+                float moveLength = (float) Math.sqrt(deltaX * deltaX + deltaY * deltaY);
+                float crossingTime = solidBodies.getCrossingTime(moveLength);
+                if (crossingTime < contactTime) {
+                    ball.transform().setTopLeftCornerX(fromX + deltaX * crossingTime);
+                    ball.transform().setTopLeftCornerY(fromY + deltaY * crossingTime);
+                    return;
+                }
+            }
+            if (contactTime > 1) {
+                return;
+            }
+
+            // back to the contact point, bouncing off the brick and hitting every brick reached there
+            float contactX = fromX + deltaX * contactTime;
+            float contactY = fromY + deltaY * contactTime;
+            ball.bounce(contactNormalX, contactNormalY);
+            hitBricksAt(contactTime, fromX, fromY, deltaX, deltaY, width, height, ball);
+
+            // the rest of the move, in the new direction - the last step stops at the contact
+            remainingTime *= 1 - contactTime;
+            float toX = contactX;
+            float toY = contactY;
+            if (step + 1 < MAX_SWEEP_STEPS) {
+                Vector2 velocity = ball.getVelocity();
+                toX += velocity.x() * remainingTime;
+                toY += velocity.y() * remainingTime;
+            }
+            ball.transform().setTopLeftCornerX(toX);
+            ball.transform().setTopLeftCornerY(toY);
+            fromX = contactX;
+            fromY = contactY;
+        }
+    }
+
+    /**
+     * Sweeps the move of a box that isn't a ball game object - a puck of a swarm - against the bricks,
+     * and hits every brick it reaches first. The box itself isn't moved or bounced: the caller does that
+     * with the contact's time and normal. Doesn't allocate.
+     *
+     * @param fromX  The left edge of the box at the start of the move.
+     * @param fromY  The top edge of the box at the start of the move.
+     * @param deltaX The x component of the move.
+     * @param deltaY The y component of the move.
+     * @param width  The width of the box.
+     * @param height The height of the box.
+     * @param other  The game object passed to the strategies of the hit bricks.
+     * @return The fraction of the move at which the box reaches the first brick, or more than 1 if it
+     * reaches none. The normal of the contact is read with getContactNormalX and getContactNormalY.
+     */
+    public float sweepAndHit(float fromX, float fromY, float deltaX, float deltaY, float width, float height,
+                             GameObject other) {
+        float contactTime = findFirstBrickContact(fromX, fromY, deltaX, deltaY, width, height);
+        if (contactTime <= 1) {
+            hitBricksAt(contactTime, fromX, fromY, deltaX, deltaY, width, height, other);
+        }
+        return contactTime;
+    }
+
+    /**
+     * Gets the x component of the normal of the last brick contact found by a sweep.
+     *
+     * @return The x component of the normal, pointing from the brick towards the moving box.
+     */
+    public float getContactNormalX() {
+        return contactNormalX;
+    }
+
+    /**
+     * Gets the y component of the normal of the last brick contact found by a sweep.
+     *
+     * @return The y component of the normal, pointing from the brick towards the moving box.
+     */
+    public float getContactNormalY() {
+        return contactNormalY;
+    }
+
+    /**
+     * Finds the first brick a move reaches, among the bricks in the cells its path covers.
+     * The normal of the contact is kept in the contact normal fields.
+     *
+     * @param fromX  The left edge of the ball at the start of the move.
+     * @param fromY  The top edge of the ball at the start of the move.
+     * @param deltaX The x component of the move.
+     * @param deltaY The y component of the move.
+     * @param width  The width of the ball.
+     * @param height The height of the ball.
+     * @return The fraction of the move at which the ball reaches the first brick, or more than 1 if it
+     * reaches none.
+     */
+    private float findFirstBrickContact(float fromX, float fromY, float deltaX, float deltaY,
+                                        float width, float height) {
+        float contactTime = Float.POSITIVE_INFINITY;
+        setSweptCells(fromX, fromY, deltaX, deltaY, width, height);
+        for (int row = sweptFirstRow; row <= sweptLastRow; row++) {
+            for (int column = sweptFirstColumn; column <= sweptLastColumn; column++) {
+                if (!aliveCells.get(row * columns + column) || !findBrickContact(row, column,
+                        fromX, fromY, deltaX, deltaY, width, height)) {
+                    continue;
+                }
+                if (contact.getTime() < contactTime) {
+                    contactTime = contact.getTime();
+                    contactNormalX = contact.getNormalX();
+                    contactNormalY = contact.getNormalY();
+                }
+            }
+        }
+        return contactTime;
+    }
+
+    /**
+     * Hits every brick a move reaches at a given time - the cells covered by its path are those
+     * of the last search for the first contact.
+     *
+     * @param contactTime The fraction of the move at which the bricks are reached.
+     * @param fromX       The left edge of the ball at the start of the move.
+     * @param fromY       The top edge of the ball at the start of the move.
+     * @param deltaX      The x component of the move.
+     * @param deltaY      The y component of the move.
+     * @param width       The width of the ball.
+     * @param height      The height of the ball.
+     * @param other       The game object that reached the bricks.
+     */
+    private void hitBricksAt(float contactTime, float fromX, float fromY, float deltaX, float deltaY,
+                             float width, float height, GameObject other) {
+        for (int row = sweptFirstRow; row <= sweptLastRow; row++) {
+            for (int column = sweptFirstColumn; column <= sweptLastColumn; column++) {
+                int cell = row * columns + column;
+                if (aliveCells.get(cell)
+                        && findBrickContact(row, column, fromX, fromY, deltaX, deltaY, width, height)
+                        && contact.getTime() <= contactTime + SIMULTANEOUS_CONTACT_TIME) {
+                    hitCell(cell, other);
+                }
+            }
+        }
+    }
+
+    /**
+     * Sweeps a move against the brick of a cell.
+     *
+     * @param row    The row of the cell.
+     * @param column The column of the cell.
+     * @param fromX  The left edge of the ball at the start of the move.
+     * @param fromY  The top edge of the ball at the start of the move.
+     * @param deltaX The x component of the move.
+     * @param deltaY The y component of the move.
+     * @param width  The width of the ball.
+     * @param height The height of the ball.
+     * @return True if the move reaches the brick - the contact is kept in the swept contact test.
+     */
+    private boolean findBrickContact(int row, int column, float fromX, float fromY, float deltaX, float deltaY,
+                                     float width, float height) {
+        float brickMinX = left + column * columnPitch;
+        float brickMinY = top + row * rowPitch;
+        return contact.find(fromX, fromY, deltaX, deltaY, width, height,
+                brickMinX, brickMinY, brickMinX + brickWidth, brickMinY + brickHeight);
+    }
+
+    /**
+     * Sets the range of cells covered by the bounding box of a move - the box of the ball
+     * at its start, at its end, and everything between them.
+     *
+     * @param fromX  The left edge of the ball at the start of the move.
+     * @param fromY  The top edge of the ball at the start of the move.
+     * @param deltaX The x component of the move.
+     * @param deltaY The y component of the move.
+     * @param width  The width of the ball.
+     * @param height The height of the ball.
+     */
+    private void setSweptCells(float fromX, float fromY, float deltaX, float deltaY, float width, float height) {
+        float minX = Math.min(fromX, fromX + deltaX);
+        float minY = Math.min(fromY, fromY + deltaY);
+        float maxX = Math.max(fromX, fromX + deltaX) + width;
+        float maxY = Math.max(fromY, fromY + deltaY) + height;
+        sweptFirstColumn = Math.max(0, (int) Math.floor((minX - left) / columnPitch));
+        sweptLastColumn = Math.min(columns - 1, (int) Math.floor((maxX - left) / columnPitch));
+        sweptFirstRow = Math.max(0, (int) Math.floor((minY - top) / rowPitch));
+        sweptLastRow = Math.min(rows - 1, (int) Math.floor((maxY - top) / rowPitch));
+    }
+}
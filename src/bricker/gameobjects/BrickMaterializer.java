@@ -0,0 +1,28 @@
+package bricker.gameobjects;
+
+/**
+ * Creates the brick game objects of a brick grid on demand.
+ * The grid holds the state of all of its bricks, and has game objects only for the rows near the view
+ * and for the cells that balls and explosions reach outside of them.
+ *
+ * @author Amit Tzur and Zohar Mattatia
+ */
+public interface BrickMaterializer {
+
+    /**
+     * Creates the brick of a cell and adds it to the game.
+     *
+     * @param row    The row of the cell.
+     * @param column The column of the cell.
+     * @return The brick of the cell.
+     */
+    Brick materialize(int row, int column);
+
+    /**
+     * Removes a brick that wasn't hit from the game, when its row leaves the view.
+     * The brick is created again if its row comes back into the view.
+     *
+     * @param brick The brick.
+     */
+    void dematerialize(Brick brick);
+}
@@ -0,0 +1,62 @@
+package bricker.gameobjects;
+
+import danogl.collisions.GameObjectCollection;
+import danogl.gui.rendering.Renderable;
+import danogl.util.Vector2;
+
+/**
+ * Materializes the bricks of a grid as game objects in the bricks layer of a game object collection.
+ * All the bricks share the same image and dimensions; a brick only knows its grid and its cell.
+ *
+ * @author Amit Tzur and Zohar Mattatia
+ */
+public class BricksLayer implements BrickMaterializer {
+    // =========================== fields =========================== //
+    /* the grid the bricks belong to */
+    private final BrickGrid brickGrid;
+    /* the collection the bricks are added to */
+    private final GameObjectCollection gameObjects;
+    /* the image of a brick */
+    private final Renderable brickImage;
+    /* the dimensions of a brick */
+    private final Vector2 brickDimensions;
+
+    /**
+     * Constructor for BricksLayer.
+     *
+     * @param brickGrid   The grid the bricks belong to.
+     * @param gameObjects The collection the bricks are added to.
+     * @param brickImage  The image of a brick.
+     */
+    public BricksLayer(BrickGrid brickGrid, GameObjectCollection gameObjects, Renderable brickImage) {
+        this.brickGrid = brickGrid;
+        this.gameObjects = gameObjects;
+        this.brickImage = brickImage;
+        this.brickDimensions = brickGrid.getBrickDimensions();
+    }
+
+    /**
+     * Creates the brick of a cell and adds it to the bricks layer.
+     *
+     * @param row    The row of the cell.
+     * @param column The column of the cell.
+     * @return The brick of the cell.
+     */
+    @Override
+    public Brick materialize(int row, int column) {
+        Brick brick = new Brick(brickGrid.cellTopLeft(row, column), brickDimensions, brickImage,
+                brickGrid, brickGrid.cellOf(row, column));
+        gameObjects.addGameObject(brick, BrickGrid.BRICKS_LAYER);
+        return brick;
+    }
+
+    /**
+     * Removes a brick that wasn't hit from the bricks layer.
+     *
+     * @param brick The brick.
+     */
+    @Override
+    public void dematerialize(Brick brick) {
+        gameObjects.removeGameObject(brick, BrickGrid.BRICKS_LAYER);
+    }
+}
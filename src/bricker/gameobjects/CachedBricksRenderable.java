@@ -0,0 +1,235 @@
+package bricker.gameobjects;
+
+import bricker.events.GameEventListener;
+import bricker.events.GameEventType;
+import danogl.gui.rendering.Renderable;
+import danogl.util.Vector2;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+
+/**
+ * Draws all the bricks of a grid at once, from images of the grid cached off screen.
+ * The bricks never move and all share the same image, so instead of danogl drawing every brick
+ * game object on every frame, the grid is painted once into chunk images - bands of rows - and a single
+ * game object covering the grid draws the chunks in the view with one image copy each.
+ * When a brick is destroyed only its cell is cleared from its chunk, so the cost of a frame depends on
+ * the bricks destroyed since the last one, not on the bricks in the grid. Chunks are painted when they
+ * first come into the view and dropped when they leave it, so a tall level never keeps all of its rows
+ * in images.
+ * The brick game objects are still created by the grid, without a renderable of their own.
+ * Rotation and flipping are ignored - the grid is never rotated or flipped.
+ * Subscribed to the destroyed bricks on the game's event bus.
+ *
+ * @author Amit Tzur and Zohar Mattatia
+ */
+public class CachedBricksRenderable implements Renderable, GameEventListener {
+    // =========================== private constants =========================== //
+    /* number of rows in a chunk image */
+    private static final int CHUNK_ROWS = 32;
+    /* number of chunks beyond each edge of the view that are kept painted */
+    private static final int CHUNK_MARGIN = 1;
+    /* initial capacity of the cleared cells queue - it grows with the most bricks destroyed in a frame */
+    private static final int INITIAL_CLEARED_CAPACITY = 16;
+    /* growth factor of the cleared cells queue */
+    private static final int GROWTH_FACTOR = 2;
+
+    // =========================== fields =========================== //
+    /* the grid of the bricks */
+    private final BrickGrid brickGrid;
+    /* the image of a brick */
+    private final Renderable brickImage;
+    /* height of the view, in screen pixels - chunks outside it are not drawn */
+    private final float viewHeight;
+    /* dimensions of a brick */
+    private final Vector2 brickDimensions;
+    /* width of the grid, in pixels */
+    private final float gridWidth;
+    /* height of the grid, in pixels */
+    private final float gridHeight;
+    /* vertical distance between the top edges of two adjacent chunks, in pixels */
+    private final float chunkPitch;
+    /* the painted chunk images, by chunk index - null for chunks that aren't painted */
+    private final BufferedImage[] chunks;
+    /* graphics of the painted chunk images, set up to clear cells - matching chunks */
+    private final Graphics2D[] chunkGraphics;
+    /* the first painted chunk - above the last chunk while none are painted */
+    private int firstPaintedChunk = Integer.MAX_VALUE;
+    /* the last painted chunk - below the first chunk while none are painted */
+    private int lastPaintedChunk = -1;
+    /* the cells destroyed since the last frame, still painted in their chunks */
+    private int[] clearedCells = new int[INITIAL_CLEARED_CAPACITY];
+    /* number of cells destroyed since the last frame */
+    private int clearedCount = 0;
+
+    /**
+     * Constructor for CachedBricksRenderable.
+     * Nothing is painted until the first frame is drawn.
+     *
+     * @param brickGrid  The grid of the bricks.
+     * @param brickImage The image of a brick.
+     * @param viewHeight Height of the view, in screen pixels.
+     */
+    public CachedBricksRenderable(BrickGrid brickGrid, Renderable brickImage, float viewHeight) {
+        this.brickGrid = brickGrid;
+        this.brickImage = brickImage;
+        this.viewHeight = viewHeight;
+        this.brickDimensions = brickGrid.getBrickDimensions();
+        Vector2 gridDimensions = brickGrid.getGridDimensions();
+        this.gridWidth = gridDimensions.x();
+        this.gridHeight = gridDimensions.y();
+        this.chunkPitch = brickGrid.cellTop(CHUNK_ROWS) - brickGrid.cellTop(0);
+        int chunkCount = (brickGrid.getRows() + CHUNK_ROWS - 1) / CHUNK_ROWS;
+        this.chunks = new BufferedImage[chunkCount];
+        this.chunkGraphics = new Graphics2D[chunkCount];
+    }
+
+    /**
+     * Queues the cell of a destroyed brick to be cleared from its chunk before the next frame is drawn.
+     *
+     * @param type  The type of the event - a destroyed brick.
+     * @param value The index of the destroyed brick's cell.
+     */
+    @Override
+    public void onEvent(GameEventType type, int value) {
+        if (type != GameEventType.BRICK_DESTROYED || value < 0) {
+            return;
+        }
+        if (clearedCount == clearedCells.length) {
+            clearedCells = Arrays.copyOf(clearedCells, clearedCells.length * GROWTH_FACTOR);
+        }
+        clearedCells[clearedCount++] = value;
+    }
+
+    /**
+     * Drops all the painted chunks and the queued cells, for a grid that was populated again.
+     * The chunks are painted again as they come into the view.
+     */
+    public void reset() {
+        clearedCount = 0;
+        dropChunksOutside(0, -1);
+        firstPaintedChunk = Integer.MAX_VALUE;
+        lastPaintedChunk = -1;
+    }
+
+    /**
+     * Draws the chunks of the grid that are in the view, after clearing the destroyed cells from them.
+     * Chunks coming into the view are painted, and chunks far from it are dropped.
+     *
+     * @param g                       The graphics to draw with.
+     * @param topLeftCorner           The top-left corner of the grid, on the screen.
+     * @param dimensions              The dimensions of the grid, on the screen.
+     * @param degreesCounterClockwise Ignored.
+     * @param isFlippedHorizontally   Ignored.
+     * @param isFlippedVertically     Ignored.
+     * @param opaqueness              The opaqueness of the bricks, between 0 and 1.
+     */
+    @Override
+    public void render(Graphics2D g, Vector2 topLeftCorner, Vector2 dimensions, double degreesCounterClockwise,
+                       boolean isFlippedHorizontally, boolean isFlippedVertically, double opaqueness) {
+        clearDestroyedCells();
+        if (chunks.length == 0) {
+            return;
+        }
+        float scaleX = dimensions.x() / gridWidth;
+        float scaleY = dimensions.y() / gridHeight;
+        float screenChunkPitch = chunkPitch * scaleY;
+        int firstChunk = Math.max(0, (int) Math.floor(-topLeftCorner.y() / screenChunkPitch));
+        int lastChunk = Math.min(chunks.length - 1,
+                (int) Math.floor((viewHeight - topLeftCorner.y()) / screenChunkPitch));
+        dropChunksOutside(firstChunk - CHUNK_MARGIN, lastChunk + CHUNK_MARGIN);
+
+        Composite previousComposite = g.getComposite();
+        if (opaqueness < 1) {
+            g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, (float) opaqueness));
+        }
+        for (int chunk = firstChunk; chunk <= lastChunk; chunk++) {
+            BufferedImage image = chunks[chunk];
+            if (image == null) {
+                image = paintChunk(chunk);
+            }
+            g.drawImage(image,
+                    Math.round(topLeftCorner.x()),
+                    Math.round(topLeftCorner.y() + chunk * screenChunkPitch),
+                    Math.round(image.getWidth() * scaleX),
+                    Math.round(image.getHeight() * scaleY),
+                    null);
+        }
+        g.setComposite(previousComposite);
+    }
+
+    /**
+     * Clears the cells destroyed since the last frame from their chunks, if they are painted.
+     */
+    private void clearDestroyedCells() {
+        for (int i = 0; i < clearedCount; i++) {
+            int cell = clearedCells[i];
+            int row = brickGrid.rowOf(cell);
+            int chunk = row / CHUNK_ROWS;
+            if (chunkGraphics[chunk] == null) {
+                continue;
+            }
+            float x = brickGrid.cellLeft(brickGrid.columnOf(cell)) - brickGrid.cellLeft(0);
+            float y = brickGrid.cellTop(row) - brickGrid.cellTop(chunk * CHUNK_ROWS);
+            int minX = (int) Math.floor(x);
+            int minY = (int) Math.floor(y);
+            chunkGraphics[chunk].fillRect(minX, minY,
+                    (int) Math.ceil(x + brickDimensions.x()) - minX,
+                    (int) Math.ceil(y + brickDimensions.y()) - minY);
+        }
+        clearedCount = 0;
+    }
+
+    /**
+     * Paints a chunk image with the bricks of its rows that weren't destroyed.
+     *
+     * @param chunk The index of the chunk.
+     * @return The chunk image.
+     */
+    private BufferedImage paintChunk(int chunk) {
+        int firstRow = chunk * CHUNK_ROWS;
+        int lastRow = Math.min(brickGrid.getRows(), firstRow + CHUNK_ROWS) - 1;
+        float chunkTop = brickGrid.cellTop(firstRow);
+        float gridLeft = brickGrid.cellLeft(0);
+        int height = (int) Math.ceil(brickGrid.cellTop(lastRow) + brickDimensions.y() - chunkTop);
+        BufferedImage image = new BufferedImage(Math.max(1, (int) Math.ceil(gridWidth)), Math.max(1, height),
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = image.createGraphics();
+        for (int row = firstRow; row <= lastRow; row++) {
+            for (int column = 0; column < brickGrid.getColumns(); column++) {
+                if (brickGrid.isAlive(brickGrid.cellOf(row, column))) {
+                    Vector2 brickTopLeft = new Vector2(brickGrid.cellLeft(column) - gridLeft,
+                            brickGrid.cellTop(row) - chunkTop);
+                    brickImage.render(graphics, brickTopLeft, brickDimensions, 0, false, false, 1);
+                }
+            }
+        }
+        // from now on the graphics only clear destroyed cells
+        graphics.setComposite(AlphaComposite.Clear);
+        chunks[chunk] = image;
+        chunkGraphics[chunk] = graphics;
+        firstPaintedChunk = Math.min(firstPaintedChunk, chunk);
+        lastPaintedChunk = Math.max(lastPaintedChunk, chunk);
+        return image;
+    }
+
+    /**
+     * Drops the painted chunks outside a range of chunks.
+     *
+     * @param first The first chunk to keep.
+     * @param last  The last chunk to keep.
+     */
+    private void dropChunksOutside(int first, int last) {
+        for (int chunk = firstPaintedChunk; chunk <= lastPaintedChunk; chunk++) {
+            if ((chunk < first || chunk > last) && chunks[chunk] != null) {
+                chunkGraphics[chunk].dispose();
+                chunkGraphics[chunk] = null;
+                chunks[chunk] = null;
+            }
+        }
+        // the painted chunks are within the kept range now, or none are painted
+        firstPaintedChunk = Math.max(firstPaintedChunk, Math.max(0, first));
+        lastPaintedChunk = Math.min(lastPaintedChunk, Math.min(chunks.length - 1, last));
+    }
+}
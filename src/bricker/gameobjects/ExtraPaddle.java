@@ -1,18 +1,21 @@
 package bricker.gameobjects;
 
+import bricker.input.KeyInput;
 import bricker.main.GameConstants;
+import bricker.profiling.FramePhase;
+import bricker.profiling.FrameProfiler;
 import danogl.GameObject;
 import danogl.collisions.Collision;
 import danogl.collisions.GameObjectCollection;
 import danogl.collisions.Layer;
-import danogl.gui.UserInputListener;
 import danogl.gui.rendering.Renderable;
 import danogl.util.Vector2;
 
 /**
  * A class representing an extra paddle in the game.
  * Extends the Paddle class and includes collision handling to remove itself after a set number of collisions.
- * Ensures that only one extra paddle exists at a time.
+ * A game has a single extra paddle, held by its extra paddle strategy, which activates it again
+ * after it was removed - so there is at most one extra paddle at a time, with no state shared between games.
  *
  * @author Amit Tzur and Zohar Mattatia
  */
@@ -25,63 +28,66 @@ public class ExtraPaddle extends Paddle {
     private static final int MAX_COLLISIONS = 4;
 
     //============================ fields =========================== //
-    /* Static counter to track the number of active extra paddles */
-    private static int activeExtraPaddles = 0;
+    /* Whether the extra paddle is currently in the game */
+    private boolean isActive = false;
     /* Counter to track the number of collisions for this extra paddle */
     private int collisionCounter = 0;
     /* Collection of game objects in the game */
     private final GameObjectCollection gameObjects;
+    /* The bodies the balls are swept against - the paddle is one of them while it is in the game */
+    private final SolidBodies solidBodies;
 
 
+    /* The center of the extra paddle when it is activated - the center of the window */
+    private final Vector2 activationCenter;
+
     /**
      * Constructor for the ExtraPaddle class.
      * Overloaded to include GameObjectCollection for removal upon reaching max collisions.
-     * Works only through the static createExtraPaddle method to ensure single instance.
+     * The paddle is not added to the game until it is activated.
      *
-     * @param topLeftCorner    The top-left corner of the paddle.
      * @param renderable       The renderable object for the paddle.
      * @param inputListener    The user input listener.
      * @param gameObjects      The collection of game objects in the game.
      * @param windowDimensions The dimensions of the game window.
+     * @param solidBodies      The bodies the balls are swept against.
      */
-    private ExtraPaddle(Vector2 topLeftCorner,
-                        Renderable renderable,
-                        UserInputListener inputListener,
-                        GameObjectCollection gameObjects,
-                        Vector2 windowDimensions) {
-        super(topLeftCorner, renderable, inputListener, windowDimensions);
+    public ExtraPaddle(Renderable renderable,
+                       KeyInput inputListener,
+                       GameObjectCollection gameObjects,
+                       Vector2 windowDimensions,
+                       SolidBodies solidBodies) {
+        super(Vector2.ZERO, renderable, inputListener, windowDimensions);
         this.gameObjects = gameObjects;
+        this.solidBodies = solidBodies;
+        // centering according to instruction
+        this.activationCenter = windowDimensions.mult(GameConstants.HALF_FACTOR);
+        setTag(TAG);
     }
 
     /**
-     * Static method to create and add an extra paddle to the game.
+     * Adds the extra paddle to the game, at the center of the window, unless it is already in the game.
      * Ensures that only one extra paddle exists at a time.
-     *
-     * @param gameObjects      The collection of game objects in the game.
-     * @param windowDimensions The dimensions of the game window.
-     * @param image            The renderable image for the paddle.
-     * @param inputListener    The user input listener.
      */
-    public static void createExtraPaddle(GameObjectCollection gameObjects,
-                                         Vector2 windowDimensions,
-                                         Renderable image,
-                                         UserInputListener inputListener) {
-
-        // Check if one already exists
-        if (activeExtraPaddles > 0) {
-            return; // Don't create a new one
+    public void activate() {
+        // Check if it already exists
+        if (isActive) {
+            return; // Don't add it again
         }
+        collisionCounter = 0;
+        setCenter(activationCenter);
+        gameObjects.addGameObject(this, Layer.DEFAULT);
+        solidBodies.add(this);
+        isActive = true;
+    }
 
-        // creating and centering according to instruction
-        Vector2 location = new Vector2(windowDimensions.x() * GameConstants.HALF_FACTOR,
-                windowDimensions.y() * GameConstants.HALF_FACTOR);
-
-        ExtraPaddle extraPaddle = new ExtraPaddle(location, image,
-                inputListener, gameObjects, windowDimensions);
-        extraPaddle.setTag(TAG);
-        extraPaddle.setCenter(location);
-        gameObjects.addGameObject(extraPaddle, Layer.DEFAULT);
-        activeExtraPaddles++;
+    /**
+     * Checks if the extra paddle is currently in the game.
+     *
+     * @return True if the extra paddle is in the game, false otherwise.
+     */
+    public boolean isActive() {
+        return isActive;
     }
 
     /**
@@ -94,25 +100,38 @@ public class ExtraPaddle extends Paddle {
      */
     @Override
     public void onCollisionEnter(GameObject other, Collision collision) {
+        long profileStart = FrameProfiler.phaseStart();
         super.onCollisionEnter(other, collision);
 
         // only count collisions with the ball (the puck also has the BALL_TAG)
         if (other.getTag().equals(GameConstants.BALL_TAG)) {
-            collisionCounter++;
+            countHit();
         }
+        FrameProfiler.phaseEnd(FramePhase.COLLISIONS, profileStart);
+    }
+
+    /**
+     * Counts a hit of a ball or a puck, and removes the paddle after reaching the maximum allowed collisions.
+     * Called on the collisions danogl resolves, and by the puck swarm, whose pucks it doesn't.
+     */
+    void countHit() {
+        collisionCounter++;
         // remove the extra paddle after reaching max collisions
         if (collisionCounter >= MAX_COLLISIONS) {
-            gameObjects.removeGameObject(this, Layer.DEFAULT);
-            // reset the static counter to allow new extra paddles
-            activeExtraPaddles = 0;
+            deactivate();
         }
     }
 
     /**
-     * Resets the static counter for active extra paddles.
-     * Useful for testing purposes to ensure a clean state.
+     * Removes the extra paddle from the game, if it is in the game, so it can be activated again.
+     * Called when it reached the maximal collisions, and when the game starts over.
      */
-    public static void resetCounter() {
-        activeExtraPaddles = 0;
+    public void deactivate() {
+        if (!isActive) {
+            return;
+        }
+        gameObjects.removeGameObject(this, Layer.DEFAULT);
+        solidBodies.remove(this);
+        isActive = false;
     }
 }
\ No newline at end of file
@@ -1,6 +1,8 @@
 package bricker.gameobjects;
 
 import bricker.main.GameConstants;
+import bricker.profiling.FramePhase;
+import bricker.profiling.FrameProfiler;
 import danogl.GameObject;
 import danogl.collisions.Collision;
 import danogl.collisions.GameObjectCollection;
@@ -11,6 +13,7 @@ import danogl.util.Vector2;
  * A class representing a falling heart in the game.
  * Extends the GameObject class and includes collision handling to grant an extra life to the player.
  * The heart falls down the screen and can be collected by the main paddle.
+ * Removed hearts are released to a pool, and reset when they are dropped again.
  *
  * @author Amit Tzur and Zohar Mattatia
  */
@@ -19,6 +22,8 @@ public class FallingHeart extends GameObject {
     //============================ constants =========================== //
     /* Speed at which the heart falls down the screen */
     private static final int HEART_SPEED = 100;
+    /* Velocity of a falling heart */
+    private static final Vector2 HEART_VELOCITY = Vector2.DOWN.mult(HEART_SPEED);
 
     //============================ fields =========================== //
     /* Collection of game objects in the game -
@@ -28,6 +33,8 @@ public class FallingHeart extends GameObject {
     private final LivesManager livesManager;
     /* Dimensions of the game window - to know when the heart has "fallen out" of the screen */
     private final Vector2 windowDimensions;
+    /* The pool the heart is released to when it is removed from the game */
+    private final ObjectPool<FallingHeart> pool;
 
     /**
      * Constructor for FallingHeart.
@@ -38,20 +45,32 @@ public class FallingHeart extends GameObject {
      * @param renderable       The visual representation of the heart.
      * @param livesManager     The lives manager to handle life recovery.
      * @param windowDimensions The dimensions of the game window.
-     *
+     * @param pool             The pool the heart is released to when it is removed from the game.
      */
     public FallingHeart(GameObjectCollection gameObjects,
                         Vector2 topLeftCorner,
                         Vector2 dimensions,
                         Renderable renderable,
                         LivesManager livesManager,
-                        Vector2 windowDimensions) {
+                        Vector2 windowDimensions,
+                        ObjectPool<FallingHeart> pool) {
         super(topLeftCorner, dimensions, renderable);
 
         this.gameObjects = gameObjects;
         this.livesManager = livesManager;
-        this.setVelocity(Vector2.DOWN.mult(HEART_SPEED));
+        this.setVelocity(HEART_VELOCITY);
         this.windowDimensions = windowDimensions;
+        this.pool = pool;
+    }
+
+    /**
+     * Resets the heart for a new drop - places it and sets it falling again.
+     *
+     * @param topLeftCorner The top-left corner position of the heart.
+     */
+    public void reset(Vector2 topLeftCorner) {
+        setTopLeftCorner(topLeftCorner);
+        setVelocity(HEART_VELOCITY);
     }
 
     /**
@@ -86,7 +105,7 @@ public class FallingHeart extends GameObject {
         super.update(deltaTime);
         // If the heart falls below the screen, remove it from the game
         if (this.getTopLeftCorner().y() > windowDimensions.y()) {
-            gameObjects.removeGameObject(this);
+            removeFromGame();
         }
     }
 
@@ -101,11 +120,22 @@ public class FallingHeart extends GameObject {
      */
     @Override
     public void onCollisionEnter(GameObject other, Collision collision) {
+        long profileStart = FrameProfiler.phaseStart();
         super.onCollisionEnter(other, collision);
         // Since shouldCollideWith returns false for everything else,
         // we know 'other' MUST be the mainPaddle here.
         livesManager.gainLife();
-        gameObjects.removeGameObject(this);
+        removeFromGame();
+        FrameProfiler.phaseEnd(FramePhase.COLLISIONS, profileStart);
+    }
 
+    /**
+     * Removes the heart from the game and releases it to the pool.
+     * Releasing only on an actual removal, so the heart never enters the pool twice.
+     */
+    private void removeFromGame() {
+        if (gameObjects.removeGameObject(this)) {
+            pool.release(this);
+        }
     }
 }
\ No newline at end of file
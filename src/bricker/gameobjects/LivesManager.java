@@ -1,10 +1,13 @@
 package bricker.gameobjects;
 
+import bricker.assets.GameAssets;
+import bricker.events.GameEventBus;
+import bricker.events.GameEventType;
 import bricker.main.GameConstants;
 import danogl.GameObject;
 import danogl.collisions.GameObjectCollection;
 import danogl.collisions.Layer;
-import danogl.gui.ImageReader;
+import danogl.components.CoordinateSpace;
 import danogl.gui.rendering.Renderable;
 import danogl.gui.rendering.TextRenderable;
 import danogl.util.Vector2;
@@ -16,6 +19,8 @@ import java.awt.*;
  * It handles the display of remaining lives using heart images and a textual representation.
  * It allows for removing lives when the player loses and updating the GUI accordingly.
  * It also provides functionality to gain lives.
+ * Every change of the lives is published on the game's event bus.
+ * Its elements are placed in camera coordinates, so they stay in place on the screen when the view scrolls.
  *
  * @author Amit Tzur and Zohar Mattatia
  */
@@ -49,6 +54,9 @@ public class LivesManager {
      and by that keep the code in BrickerGameManager cleaner */
     private final GameObjectCollection gameObjects;
 
+    /* the bus the lost and gained lives are published on */
+    private final GameEventBus events;
+
 
     /**
      * Constructor for the LivesManager class.
@@ -57,13 +65,16 @@ public class LivesManager {
      *
      * @param gameObjects   The collection of game objects to which the lives GUI elements will be added.
      * @param topLeftCorner The top-left corner position where the lives GUI will be displayed.
-     * @param imageReader   The ImageReader instance used to load the heart image.
+     * @param assets        The source of the game assets, used to load the heart image.
+     * @param events        The bus the lost and gained lives are published on.
      */
     public LivesManager(GameObjectCollection gameObjects,
                         Vector2 topLeftCorner,
-                        ImageReader imageReader) {
+                        GameAssets assets,
+                        GameEventBus events) {
         {
             this.gameObjects = gameObjects;
+            this.events = events;
             livesLeft = INITIAL_LIVES;
             this.textRenderable = new TextRenderable(INITIAL_LIVES_TEXT);
 
@@ -75,11 +86,12 @@ public class LivesManager {
                     topLeftCorner,
                     new Vector2(GameConstants.HEART_WIDTH, GameConstants.HEART_HEIGHT),
                     textRenderable);
+            remainingLivesText.setCoordinateSpace(CoordinateSpace.CAMERA_COORDINATES);
 
             gameObjects.addGameObject(remainingLivesText, Layer.UI);
 
-            Renderable heartImage =
-                    imageReader.readImage(GameConstants.HEART_IMAGE_PATH, true);
+            Renderable heartImage = assets.readImage(GameConstants.HEART_IMAGE_PATH, true,
+                    new Vector2(GameConstants.HEART_WIDTH, GameConstants.HEART_HEIGHT));
 
             // creating hearts enough for max lives, but adding only the initial lives to the game
             // from here we set the hearts gui of the remaining lives
@@ -92,6 +104,7 @@ public class LivesManager {
                         heartPos,
                         new Vector2(GameConstants.HEART_WIDTH, GameConstants.HEART_HEIGHT),
                         heartImage);
+                heart.setCoordinateSpace(CoordinateSpace.CAMERA_COORDINATES);
 
                 heartsArray[i] = heart;
                 if (i < INITIAL_LIVES) {
@@ -120,6 +133,21 @@ public class LivesManager {
         }
     }
 
+    /**
+     * Gives the player the initial lives again, for a game that starts over on the same objects.
+     * The hearts are added or removed to match, and no event is published.
+     */
+    public void reset() {
+        for (int i = livesLeft; i < INITIAL_LIVES; i++) {
+            gameObjects.addGameObject(heartsArray[i], Layer.UI);
+        }
+        for (int i = INITIAL_LIVES; i < livesLeft; i++) {
+            gameObjects.removeGameObject(heartsArray[i], Layer.UI);
+        }
+        livesLeft = INITIAL_LIVES;
+        updateLivesText();
+    }
+
     /**
      * Removes a life from the player, called when the ball hits the "ground".
      * Updates the GUI by removing the last heart added and updating the textual representation.
@@ -132,6 +160,7 @@ public class LivesManager {
             gameObjects.removeGameObject(heartToRemove, Layer.UI);
             livesLeft--;
             updateLivesText();
+            events.publish(GameEventType.LIFE_LOST, livesLeft);
         }
     }
 
@@ -150,6 +179,7 @@ public class LivesManager {
         gameObjects.addGameObject(heartToAdd, Layer.UI);
         livesLeft++;
         updateLivesText();
+        events.publish(GameEventType.LIFE_GAINED, livesLeft);
     }
 
 
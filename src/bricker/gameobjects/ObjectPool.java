@@ -0,0 +1,100 @@
+package bricker.gameobjects;
+
+import java.util.ArrayDeque;
+import java.util.function.Supplier;
+
+/**
+ * A bounded pool of reusable game objects.
+ * Objects that were removed from the game are released back to the pool, and the next acquire
+ * hands them out again instead of allocating a new object. The caller is responsible for resetting
+ * the state of an acquired object (its position, velocity and so on).
+ * Keeps counters of the pool's use, so the hit rate can be reported.
+ *
+ * @param <T> The type of the pooled objects.
+ * @author Amit Tzur and Zohar Mattatia
+ */
+public class ObjectPool<T> {
+    // =========================== fields =========================== //
+    /* the free objects, ready to be acquired */
+    private final ArrayDeque<T> freeObjects;
+    /* maximal number of free objects kept - released objects beyond it are left to the GC */
+    private final int capacity;
+    /* creates a new object when the pool is empty */
+    private final Supplier<T> factory;
+    /* number of acquire calls */
+    private long acquires = 0;
+    /* number of acquire calls that reused a free object */
+    private long hits = 0;
+    /* number of released objects that didn't fit in the pool */
+    private long dropped = 0;
+
+    /**
+     * Constructor for ObjectPool.
+     *
+     * @param capacity Maximal number of free objects kept in the pool.
+     * @param factory  Creates a new object when the pool is empty.
+     */
+    public ObjectPool(int capacity, Supplier<T> factory) {
+        this.capacity = capacity;
+        this.factory = factory;
+        this.freeObjects = new ArrayDeque<>(capacity);
+    }
+
+    /**
+     * Acquires an object - a free one from the pool if there is one, otherwise a new one.
+     *
+     * @return The acquired object.
+     */
+    public T acquire() {
+        acquires++;
+        T object = freeObjects.pollFirst();
+        if (object == null) {
+            return factory.get();
+        }
+        hits++;
+        return object;
+    }
+
+    /**
+     * Releases an object that was removed from the game back to the pool.
+     * Must be called at most once per acquire, after the object is no longer in the game.
+     *
+     * @param object The released object.
+     */
+    public void release(T object) {
+        if (freeObjects.size() >= capacity) {
+            dropped++;
+            return;
+        }
+        freeObjects.addFirst(object);
+    }
+
+    /**
+     * Getter for the number of free objects currently in the pool.
+     *
+     * @return The number of free objects.
+     */
+    public int size() {
+        return freeObjects.size();
+    }
+
+    /**
+     * Getter for the share of acquire calls that reused a free object.
+     *
+     * @return The hit rate, between 0 and 1 (0 if nothing was acquired yet).
+     */
+    public double getHitRate() {
+        return acquires == 0 ? 0 : (double) hits / acquires;
+    }
+
+    /**
+     * Returns a one line report of the pool's counters.
+     *
+     * @return The report string.
+     */
+    @Override
+    public String toString() {
+        return String.format("pool: %d free of %d, %d acquires, hit rate %.2f, %d dropped",
+                freeObjects.size(), capacity, acquires, getHitRate(), dropped);
+    }
+}
@@ -1,7 +1,7 @@
 package bricker.gameobjects;
 
+import bricker.input.KeyInput;
 import danogl.GameObject;
-import danogl.gui.UserInputListener;
 import danogl.gui.rendering.Renderable;
 import danogl.util.Vector2;
 
@@ -26,7 +26,7 @@ public class Paddle extends GameObject {
     public static final Vector2 PADDLE_DIMENSIONS = new Vector2(PADDLE_WIDTH, PADDLE_HEIGHT);
     //============================ fields =========================== //
     /* User input listener for handling user inputs */
-    private final UserInputListener inputListener;
+    private final KeyInput inputListener;
     /* Dimensions of the game window - to restrict paddle movement within the window */
     private final Vector2 windowDimensions;
 
@@ -41,7 +41,7 @@ public class Paddle extends GameObject {
      */
     public Paddle(Vector2 topLeftCorner,
                   Renderable renderable,
-                  UserInputListener inputListener,
+                  KeyInput inputListener,
                   Vector2 windowDimensions) {
         super(topLeftCorner, PADDLE_DIMENSIONS, renderable);
         this.inputListener = inputListener;
@@ -52,26 +52,26 @@ public class Paddle extends GameObject {
     /**
      * Updates the paddle's position based on user input.
      * Overrides the update method from GameObject.
+     * The paddle only moves horizontally, so the direction is kept as a single float
+     * and no vectors are allocated on this per-frame path.
      *
      * @param deltaTime The time elapsed since the last update.
      */
     @Override
     public void update(float deltaTime) {
         super.update(deltaTime);
-        Vector2 movementDir = Vector2.ZERO;
+        float movementDirX = 0;
         // if left key is pressed, add left direction
         if (inputListener.isKeyPressed(KeyEvent.VK_LEFT)) {
-            movementDir = movementDir.add(Vector2.LEFT);
+            movementDirX += Vector2.LEFT.x();
         }
 
         // if right key is pressed, add right direction
         // since they are in opposite directions, they will cancel out if both are pressed
         // so that handles this behavior naturally
         if (inputListener.isKeyPressed(KeyEvent.VK_RIGHT)) {
-            movementDir = movementDir.add(Vector2.RIGHT);
+            movementDirX += Vector2.RIGHT.x();
         }
-        // set the velocity according to the movement direction and speed
-        setVelocity(movementDir.mult(MOVEMENT_SPEED));
 
         // check if we reached the left or right edge of the window
         boolean didReachLeftEdge = (this.getTopLeftCorner().x() <= 0);
@@ -80,9 +80,11 @@ public class Paddle extends GameObject {
                         windowDimensions.x() - this.getDimensions().x());
 
         // if we did, and we are still moving in that direction, stop the movement
-        if (didReachLeftEdge && movementDir.x() < 0 ||
-                didReachRightEdge && movementDir.x() > 0) {
-            setVelocity(Vector2.ZERO);
+        if (didReachLeftEdge && movementDirX < 0 ||
+                didReachRightEdge && movementDirX > 0) {
+            movementDirX = 0;
         }
+        // set the velocity according to the movement direction and speed
+        transform().setVelocityX(movementDirX * MOVEMENT_SPEED);
     }
 }
@@ -1,13 +1,17 @@
 package bricker.gameobjects;
 
+import bricker.assets.SoundEffect;
+import bricker.events.GameEventBus;
+import bricker.events.GameEventType;
+import bricker.main.GameConstants;
 import danogl.collisions.GameObjectCollection;
-import danogl.gui.Sound;
 import danogl.gui.rendering.Renderable;
 import danogl.util.Vector2;
 
 /**
  * A class representing a puck in the game.
  * Extends the Ball class and includes behavior to remove itself when it goes out of bounds.
+ * Removed pucks are released to a pool, and reset when they are spawned again.
  *
  * @author Amit Tzur and Zohar Mattatia
  */
@@ -19,6 +23,10 @@ public class Puck extends Ball {
     private final Vector2 windowDimensions;
     /* Collection of game objects in the game */
     private final GameObjectCollection gameObjects;
+    /* The pool the puck is released to when it is removed from the game */
+    private final ObjectPool<Puck> pool;
+    /* The bus the puck's removal is published on */
+    private final GameEventBus events;
 
     /**
      * Constructor for Puck.
@@ -29,24 +37,46 @@ public class Puck extends Ball {
      * @param gameObjects      The collection of game objects in the game.
      * @param windowDimensions The dimensions of the game window.
      * @param puckDimensions   The dimensions of the puck.
+     * @param pool             The pool the puck is released to when it is removed from the game.
+     * @param brickGrid        The grid of bricks the puck collides with.
+     * @param events           The bus the puck's removal is published on.
      */
     public Puck(Vector2 topLeftCorner,
                 Renderable renderable,
-                Sound collisionSound,
+                SoundEffect collisionSound,
                 GameObjectCollection gameObjects,
                 Vector2 windowDimensions,
-                Vector2 puckDimensions) {
+                Vector2 puckDimensions,
+                ObjectPool<Puck> pool,
+                BrickGrid brickGrid,
+                GameEventBus events) {
 
-        super(topLeftCorner, renderable, collisionSound, puckDimensions);
+        super(topLeftCorner, renderable, collisionSound, puckDimensions, brickGrid);
 
         this.puckDimensions = puckDimensions;
         this.windowDimensions = windowDimensions;
         this.gameObjects = gameObjects;
+        this.pool = pool;
+        this.events = events;
+    }
+
+    /**
+     * Resets the puck for a new spawn - places it and sets its velocity.
+     *
+     * @param topLeftCorner The top-left corner position of the puck.
+     * @param velocityX     The x component of the puck's velocity.
+     * @param velocityY     The y component of the puck's velocity.
+     */
+    public void reset(Vector2 topLeftCorner, float velocityX, float velocityY) {
+        setTopLeftCorner(topLeftCorner);
+        transform().setVelocityX(velocityX);
+        transform().setVelocityY(velocityY);
     }
 
     /**
      * Updates the puck's state.
-     * Removes the puck from the game if it goes out of bounds (below the window).
+     * Removes the puck from the game if it goes out of bounds (below the window),
+     * releases it to the pool, and publishes its removal.
      * Overrides the update method from Ball.
      *
      * @param deltaTime The time elapsed since the last update.
@@ -54,8 +84,14 @@ public class Puck extends Ball {
     @Override
     public void update(float deltaTime) {
         super.update(deltaTime);
-        if (getCenter().y() > windowDimensions.y() + puckDimensions.y()) {
-            gameObjects.removeGameObject(this);
+        // the center's height, read without allocating the center vector
+        float centerY = getTopLeftCorner().y() + puckDimensions.y() * GameConstants.HALF_FACTOR;
+        if (centerY > windowDimensions.y() + puckDimensions.y()) {
+            // releasing only on an actual removal, so the puck never enters the pool twice
+            if (gameObjects.removeGameObject(this)) {
+                pool.release(this);
+                events.publish(GameEventType.PUCK_REMOVED, 0);
+            }
         }
     }
 }
@@ -0,0 +1,285 @@
+package bricker.gameobjects;
+
+import bricker.assets.SoundEffect;
+import bricker.events.GameEventBus;
+import bricker.events.GameEventType;
+import bricker.main.GameConstants;
+import danogl.GameObject;
+import danogl.gui.rendering.Renderable;
+import danogl.util.Vector2;
+
+import java.util.Arrays;
+
+/**
+ * All the pucks of a game as a single game object, for games with many thousands of pucks.
+ * A Puck is a full game object - with its own vectors, sound and collection reference - so chains of
+ * puck bricks are limited to the pucks danogl can update and collide one by one. In swarm mode the pucks
+ * are instead rows of primitive arrays - positions and velocities - moved together in one tight loop,
+ * and then collided in a batch: with the bricks through the brick grid, and with the walls and paddles
+ * through the solid bodies, both swept along the whole move so no puck passes through them.
+ * Pucks that fall below the window are removed by moving the last puck into their place.
+ * The swarm is drawn by a single renderable, which stamps a pre-drawn puck image at every puck.
+ * Swarm mode is turned on with the system property bricker.swarm=true.
+ *
+ * @author Amit Tzur and Zohar Mattatia
+ */
+public class PuckSwarm extends GameObject {
+    // =========================== public constants =========================== //
+    /* system property that turns swarm mode on */
+    public static final String ENABLED_PROPERTY = "bricker.swarm";
+    /* whether the pucks are spawned into a swarm instead of as game objects - read once, at startup */
+    public static final boolean ENABLED = Boolean.getBoolean(ENABLED_PROPERTY);
+
+    // =========================== private constants =========================== //
+    /* initial capacity of the swarm - it grows with the most pucks at once */
+    private static final int INITIAL_CAPACITY = 256;
+    /* growth factor of the swarm */
+    private static final int GROWTH_FACTOR = 2;
+
+    // =========================== fields =========================== //
+    /* width of a puck */
+    private final float puckWidth;
+    /* height of a puck */
+    private final float puckHeight;
+    /* height below which a puck's center leaves the game */
+    private final float fallLine;
+    /* the grid of bricks the pucks collide with */
+    private final BrickGrid brickGrid;
+    /* the walls and paddles the pucks bounce off */
+    private final SolidBodies solidBodies;
+    /* sound effect played when a puck bounces */
+    private final SoundEffect collisionSound;
+    /* the bus the removed pucks are published on */
+    private final GameEventBus events;
+    /* the swept contact test of the walls and paddles, reused for every puck */
+    private final SweptContact contact = new SweptContact();
+    /* the left edges of the pucks */
+    private float[] positionsX = new float[INITIAL_CAPACITY];
+    /* the top edges of the pucks */
+    private float[] positionsY = new float[INITIAL_CAPACITY];
+    /* the x components of the pucks' velocities */
+    private float[] velocitiesX = new float[INITIAL_CAPACITY];
+    /* the y components of the pucks' velocities */
+    private float[] velocitiesY = new float[INITIAL_CAPACITY];
+    /* number of pucks in the swarm */
+    private int count = 0;
+
+    /**
+     * Constructor for PuckSwarm.
+     * The swarm object covers the world, from the top of the bricks grid (or the window) to the
+     * bottom of the window, so it is always in the view.
+     *
+     * @param puckImage        The image of a puck, or null if nothing is drawn.
+     * @param puckDimensions   The dimensions of a puck.
+     * @param windowDimensions The dimensions of the game window.
+     * @param brickGrid        The grid of bricks the pucks collide with.
+     * @param collisionSound   Sound effect played when a puck bounces.
+     * @param events           The bus the removed pucks are published on.
+     */
+    public PuckSwarm(Renderable puckImage,
+                     Vector2 puckDimensions,
+                     Vector2 windowDimensions,
+                     BrickGrid brickGrid,
+                     SoundEffect collisionSound,
+                     GameEventBus events) {
+        super(new Vector2(0, Math.min(0, brickGrid.cellTop(0))),
+                new Vector2(windowDimensions.x(), windowDimensions.y() - Math.min(0, brickGrid.cellTop(0))),
+                null);
+        this.puckWidth = puckDimensions.x();
+        this.puckHeight = puckDimensions.y();
+        this.fallLine = windowDimensions.y() + puckDimensions.y();
+        this.brickGrid = brickGrid;
+        this.solidBodies = brickGrid.getSolidBodies();
+        this.collisionSound = collisionSound;
+        this.events = events;
+        if (puckImage != null) {
+            renderer().setRenderable(new PuckSwarmRenderable(this, puckImage, puckDimensions,
+                    windowDimensions.y()));
+        }
+    }
+
+    /**
+     * Adds a puck to the swarm.
+     *
+     * @param x         The left edge of the puck.
+     * @param y         The top edge of the puck.
+     * @param velocityX The x component of the puck's velocity.
+     * @param velocityY The y component of the puck's velocity.
+     */
+    public void spawn(float x, float y, float velocityX, float velocityY) {
+        if (count == positionsX.length) {
+            int capacity = positionsX.length * GROWTH_FACTOR;
+            positionsX = Arrays.copyOf(positionsX, capacity);
+            positionsY = Arrays.copyOf(positionsY, capacity);
+            velocitiesX = Arrays.copyOf(velocitiesX, capacity);
+            velocitiesY = Arrays.copyOf(velocitiesY, capacity);
+        }
+        positionsX[count] = x;
+        positionsY[count] = y;
+        velocitiesX[count] = velocityX;
+        velocitiesY[count] = velocityY;
+        count++;
+    }
+
+    /**
+     * Removes all the pucks, for a game that starts over. The swarm stays in the game, and keeps its arrays.
+     */
+    public void clear() {
+        count = 0;
+    }
+
+    /**
+     * The swarm is never collided by danogl - it resolves the collisions of its pucks itself.
+     *
+     * @param other The other game object.
+     * @return False.
+     */
+    @Override
+    public boolean shouldCollideWith(GameObject other) {
+        return false;
+    }
+
+    /**
+     * Moves all the pucks, then collides them with the bricks, walls and paddles along their moves,
+     * and removes the pucks that fell below the window.
+     *
+     * @param deltaTime The time elapsed since the last update.
+     */
+    @Override
+    public void update(float deltaTime) {
+        super.update(deltaTime);
+        int moved = count;
+        integrate(moved, deltaTime);
+        // pucks spawned by the hit bricks join the swarm after the moved ones, and move from the next frame
+        for (int i = 0; i < moved; i++) {
+            collide(i, deltaTime);
+        }
+        removeFallen();
+    }
+
+    /**
+     * Getter for the number of pucks in the swarm.
+     *
+     * @return The number of pucks.
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Getter for the left edges of the pucks - valid up to the number of pucks, until the next update.
+     *
+     * @return The left edges of the pucks.
+     */
+    float[] getPositionsX() {
+        return positionsX;
+    }
+
+    /**
+     * Getter for the top edges of the pucks - valid up to the number of pucks, until the next update.
+     *
+     * @return The top edges of the pucks.
+     */
+    float[] getPositionsY() {
+        return positionsY;
+    }
+
+    /**
+     * Moves the pucks along their velocities. A branch free loop over the arrays, which the JIT compiler
+     * can vectorize.
+     *
+     * @param moved     The number of pucks to move.
+     * @param deltaTime The time of the move.
+     */
+    private void integrate(int moved, float deltaTime) {
+        float[] xs = positionsX;
+        float[] ys = positionsY;
+        float[] vxs = velocitiesX;
+        float[] vys = velocitiesY;
+        for (int i = 0; i < moved; i++) {
+            xs[i] += vxs[i] * deltaTime;
+            ys[i] += vys[i] * deltaTime;
+        }
+    }
+
+    /**
+     * Collides a puck with the bricks, walls and paddles along its last move.
+     * The move is recovered from the puck's end position and velocity, so no start positions are kept.
+     * A puck reaching a brick or a body is put back at the contact and bounces off it; the rest of its move
+     * is dropped - a single frame. A puck that starts the move inside a body - a paddle moved onto it - and
+     * already moves out of it is left to move out, so it never sticks to the body. A bounce off the extra
+     * paddle counts as a hit of it, as a ball's or a puck's collision does.
+     * The arrays are read through the fields: a hit brick may spawn pucks, which can grow them.
+     *
+     * @param i         The index of the puck.
+     * @param deltaTime The time of the move.
+     */
+    private void collide(int i, float deltaTime) {
+        float velocityX = velocitiesX[i];
+        float velocityY = velocitiesY[i];
+        float deltaX = velocityX * deltaTime;
+        float deltaY = velocityY * deltaTime;
+        float fromX = positionsX[i] - deltaX;
+        float fromY = positionsY[i] - deltaY;
+
+        float contactTime = brickGrid.sweepAndHit(fromX, fromY, deltaX, deltaY, puckWidth, puckHeight, this);
+        float normalX = brickGrid.getContactNormalX();
+        float normalY = brickGrid.getContactNormalY();
+        GameObject hitBody = null;
+        for (int body = 0; body < solidBodies.size(); body++) {
+            GameObject solid = solidBodies.get(body);
+            Vector2 topLeft = solid.getTopLeftCorner();
+            Vector2 dimensions = solid.getDimensions();
+            if (!contact.find(fromX, fromY, deltaX, deltaY, puckWidth, puckHeight, topLeft.x(), topLeft.y(),
+                    topLeft.x() + dimensions.x(), topLeft.y() + dimensions.y())
+                    || contact.getTime() >= contactTime) {
+                continue;
+            }
+            if (contact.getTime() == 0
+                    && velocityX * contact.getNormalX() + velocityY * contact.getNormalY() >= 0) {
+                // an overlap the puck already moves out of
+                continue;
+            }
+            contactTime = contact.getTime();
+            normalX = contact.getNormalX();
+            normalY = contact.getNormalY();
+            hitBody = solid;
+        }
+        if (contactTime > 1) {
+            return;
+        }
+
+        positionsX[i] = fromX + deltaX * contactTime;
+        positionsY[i] = fromY + deltaY * contactTime;
+        // reflected only if the puck moves into the surface, like a ball's bounce
+        float velocityAlongNormal = velocityX * normalX + velocityY * normalY;
+        if (velocityAlongNormal < 0) {
+            velocitiesX[i] -= 2 * velocityAlongNormal * normalX;
+            velocitiesY[i] -= 2 * velocityAlongNormal * normalY;
+        }
+        collisionSound.play();
+        if (hitBody instanceof ExtraPaddle) {
+            ((ExtraPaddle) hitBody).countHit();
+        }
+    }
+
+    /**
+     * Removes the pucks whose center fell a puck's height below the window, as a Puck is removed,
+     * by moving the last puck into their place, and publishes their removal.
+     */
+    private void removeFallen() {
+        int i = 0;
+        while (i < count) {
+            if (positionsY[i] + puckHeight * GameConstants.HALF_FACTOR > fallLine) {
+                count--;
+                positionsX[i] = positionsX[count];
+                positionsY[i] = positionsY[count];
+                velocitiesX[i] = velocitiesX[count];
+                velocitiesY[i] = velocitiesY[count];
+                events.publish(GameEventType.PUCK_REMOVED, 0);
+            } else {
+                i++;
+            }
+        }
+    }
+}
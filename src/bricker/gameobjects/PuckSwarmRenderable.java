@@ -0,0 +1,80 @@
+package bricker.gameobjects;
+
+import danogl.gui.rendering.Renderable;
+import danogl.util.Vector2;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+/**
+ * Draws all the pucks of a swarm, as one renderable of the swarm's game object.
+ * The puck image is drawn once, at the puck's size, into a small image, which is then copied to the
+ * position of every puck in the view - one image copy per puck, with no scaling.
+ * Rotation and flipping are ignored - pucks are never rotated or flipped.
+ *
+ * @author Amit Tzur and Zohar Mattatia
+ */
+class PuckSwarmRenderable implements Renderable {
+    // =========================== fields =========================== //
+    /* the swarm of the drawn pucks */
+    private final PuckSwarm swarm;
+    /* the swarm's world top-left corner - its screen corner minus it is the view's offset */
+    private final Vector2 swarmTopLeft;
+    /* the puck image, drawn at the puck's size */
+    private final BufferedImage puckImage;
+    /* height of the view, in screen pixels - pucks outside it are not drawn */
+    private final float viewHeight;
+
+    /**
+     * Constructor for PuckSwarmRenderable.
+     *
+     * @param swarm          The swarm of the drawn pucks.
+     * @param puckImage      The image of a puck.
+     * @param puckDimensions The dimensions of a puck.
+     * @param viewHeight     Height of the view, in screen pixels.
+     */
+    PuckSwarmRenderable(PuckSwarm swarm, Renderable puckImage, Vector2 puckDimensions, float viewHeight) {
+        this.swarm = swarm;
+        this.swarmTopLeft = swarm.getTopLeftCorner();
+        this.viewHeight = viewHeight;
+        this.puckImage = new BufferedImage(Math.max(1, Math.round(puckDimensions.x())),
+                Math.max(1, Math.round(puckDimensions.y())), BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = this.puckImage.createGraphics();
+        puckImage.render(graphics, Vector2.ZERO, puckDimensions, 0, false, false, 1);
+        graphics.dispose();
+    }
+
+    /**
+     * Draws the pucks of the swarm that are in the view.
+     *
+     * @param g                       The graphics to draw with.
+     * @param topLeftCorner           The top-left corner of the swarm, on the screen.
+     * @param dimensions              Ignored - the swarm is never scaled.
+     * @param degreesCounterClockwise Ignored.
+     * @param isFlippedHorizontally   Ignored.
+     * @param isFlippedVertically     Ignored.
+     * @param opaqueness              The opaqueness of the pucks, between 0 and 1.
+     */
+    @Override
+    public void render(Graphics2D g, Vector2 topLeftCorner, Vector2 dimensions, double degreesCounterClockwise,
+                       boolean isFlippedHorizontally, boolean isFlippedVertically, double opaqueness) {
+        float offsetX = topLeftCorner.x() - swarmTopLeft.x();
+        float offsetY = topLeftCorner.y() - swarmTopLeft.y();
+        float[] positionsX = swarm.getPositionsX();
+        float[] positionsY = swarm.getPositionsY();
+        int puckHeight = puckImage.getHeight();
+
+        Composite previousComposite = g.getComposite();
+        if (opaqueness < 1) {
+            g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, (float) opaqueness));
+        }
+        for (int i = 0; i < swarm.size(); i++) {
+            int y = Math.round(positionsY[i] + offsetY);
+            if (y + puckHeight < 0 || y > viewHeight) {
+                continue;
+            }
+            g.drawImage(puckImage, Math.round(positionsX[i] + offsetX), y, null);
+        }
+        g.setComposite(previousComposite);
+    }
+}
@@ -0,0 +1,132 @@
+package bricker.gameobjects;
+
+import danogl.GameObject;
+import danogl.util.Vector2;
+
+import java.util.Arrays;
+
+/**
+ * The walls and paddles the balls must not pass through.
+ * Their collisions with the balls are resolved by danogl, which tests only the positions the balls
+ * end their frames at - so a fast ball, or a long frame, may carry a ball over a thin wall or a paddle.
+ * The balls sweep their moves against these bodies: a ball whose move crosses a body without ending
+ * inside it is put back at the point it reached the body, slightly inside it, so danogl sees the
+ * contact and resolves the collision as usual - with the bounce, the sound and the paddle's hit count.
+ *
+ * @author Amit Tzur and Zohar Mattatia
+ */
+public class SolidBodies {
+    // =========================== private constants =========================== //
+    /* distance a ball that crossed a body is put inside it, so danogl detects the overlap */
+    private static final float CONTACT_DEPTH = 1;
+    /* initial capacity of the bodies - the walls and the paddles */
+    private static final int INITIAL_CAPACITY = 8;
+    /* growth factor of the bodies */
+    private static final int GROWTH_FACTOR = 2;
+
+    // =========================== fields =========================== //
+    /* the swept contact test, reused for every body */
+    private final SweptContact contact = new SweptContact();
+    /* the bodies */
+    private GameObject[] bodies = new GameObject[INITIAL_CAPACITY];
+    /* number of bodies */
+    private int bodyCount = 0;
+    /* the time of the first crossing found by the last sweep */
+    private float crossingTime;
+
+    /**
+     * Adds a body the balls must not pass through. A body already added is not added again.
+     *
+     * @param body The body.
+     */
+    public void add(GameObject body) {
+        for (int i = 0; i < bodyCount; i++) {
+            if (bodies[i] == body) {
+                return;
+            }
+        }
+        if (bodyCount == bodies.length) {
+            bodies = Arrays.copyOf(bodies, bodies.length * GROWTH_FACTOR);
+        }
+        bodies[bodyCount++] = body;
+    }
+
+    /**
+     * Removes a body, when it leaves the game.
+     *
+     * @param body The body.
+     */
+    public void remove(GameObject body) {
+        for (int i = 0; i < bodyCount; i++) {
+            if (bodies[i] == body) {
+                bodies[i] = bodies[--bodyCount];
+                bodies[bodyCount] = null;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Finds the first body a move crosses - enters, without overlapping it at the start or at the end.
+     * A move that ends inside a body is left to danogl. Doesn't allocate.
+     *
+     * @param fromX  The left edge of the ball at the start of the move.
+     * @param fromY  The top edge of the ball at the start of the move.
+     * @param deltaX The x component of the move.
+     * @param deltaY The y component of the move.
+     * @param width  The width of the ball.
+     * @param height The height of the ball.
+     * @return True if the move crosses a body - then getCrossingTime is the time it reaches it.
+     */
+    boolean sweep(float fromX, float fromY, float deltaX, float deltaY, float width, float height) {
+        float toX = fromX + deltaX;
+        float toY = fromY + deltaY;
+        crossingTime = Float.POSITIVE_INFINITY;
+        for (int i = 0; i < bodyCount; i++) {
+            Vector2 topLeft = bodies[i].getTopLeftCorner();
+            Vector2 dimensions = bodies[i].getDimensions();
+            float minX = topLeft.x();
+            float minY = topLeft.y();
+            float maxX = minX + dimensions.x();
+            float maxY = minY + dimensions.y();
+            boolean endsInside = toX < maxX && toX + width > minX && toY < maxY && toY + height > minY;
+            if (endsInside || !contact.find(fromX, fromY, deltaX, deltaY, width, height, minX, minY, maxX, maxY)) {
+                continue;
+            }
+            // a ball that starts inside a body is danogl's as well
+            if (contact.getTime() > 0 && contact.getTime() < crossingTime) {
+                crossingTime = contact.getTime();
+            }
+        }
+        return crossingTime <= 1;
+    }
+
+    /**
+     * Getter for the time of the first crossing found by the last sweep, moved slightly into the body.
+     *
+     * @param moveLength The length of the move.
+     * @return The fraction of the move at which the ball is slightly inside the first body it crosses.
+     */
+    float getCrossingTime(float moveLength) {
+        return Math.min(1, crossingTime + CONTACT_DEPTH / moveLength);
+    }
+
+    /**
+     * Getter for a body.
+     *
+     * @param index The index of the body, below the number of bodies.
+     * @return The body.
+     */
+    GameObject get(int index) {
+        return bodies[index];
+    }
+
+    /**
+     * Getter for the number of bodies.
+     *
+     * @return The number of bodies.
+     */
+    public int size() {
+        return bodyCount;
+    }
+}
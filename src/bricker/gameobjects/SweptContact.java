@@ -0,0 +1,153 @@
+package bricker.gameobjects;
+
+/**
+ * The first contact of a box moving along a straight segment with a static box - a swept test.
+ * A box that moves further than its own size in a frame may skip over an obstacle when only its
+ * end position is tested; the swept test finds the time of the contact along the whole move.
+ * The result is kept in the instance, which is reused for every test, so the tests don't allocate.
+ *
+ * @author Amit Tzur and Zohar Mattatia
+ */
+final class SweptContact {
+    // =========================== fields =========================== //
+    /* the fraction of the move at which the boxes first touch - 0 if they overlapped at its start */
+    private float time;
+    /* the x component of the obstacle's surface normal at the contact, pointing towards the moving box */
+    private float normalX;
+    /* the y component of the obstacle's surface normal at the contact, pointing towards the moving box */
+    private float normalY;
+
+    /**
+     * Finds the first contact of a moving box with a static box, within the move.
+     * Boxes that only touch, or only slide along each other's edges, are not in contact.
+     * A moving box that already overlaps the static box is in contact at the start of the move, with the
+     * normal taken along the axis of the smallest penetration.
+     *
+     * @param fromX        The left edge of the moving box at the start of the move.
+     * @param fromY        The top edge of the moving box at the start of the move.
+     * @param deltaX       The x component of the move.
+     * @param deltaY       The y component of the move.
+     * @param width        The width of the moving box.
+     * @param height       The height of the moving box.
+     * @param obstacleMinX The left edge of the static box.
+     * @param obstacleMinY The top edge of the static box.
+     * @param obstacleMaxX The right edge of the static box.
+     * @param obstacleMaxY The bottom edge of the static box.
+     * @return True if the boxes come into contact within the move - then its time and normal are kept.
+     */
+    boolean find(float fromX, float fromY, float deltaX, float deltaY, float width, float height,
+                 float obstacleMinX, float obstacleMinY, float obstacleMaxX, float obstacleMaxY) {
+        float fromMaxX = fromX + width;
+        float fromMaxY = fromY + height;
+        if (fromX < obstacleMaxX && fromMaxX > obstacleMinX && fromY < obstacleMaxY && fromMaxY > obstacleMinY) {
+            setOverlapNormal(fromX, fromY, fromMaxX, fromMaxY,
+                    obstacleMinX, obstacleMinY, obstacleMaxX, obstacleMaxY);
+            time = 0;
+            return true;
+        }
+
+        // the times the moving box enters and exits the static box's extent along each axis
+        float entryX;
+        float exitX;
+        if (deltaX > 0) {
+            entryX = (obstacleMinX - fromMaxX) / deltaX;
+            exitX = (obstacleMaxX - fromX) / deltaX;
+        } else if (deltaX < 0) {
+            entryX = (obstacleMaxX - fromX) / deltaX;
+            exitX = (obstacleMinX - fromMaxX) / deltaX;
+        } else if (fromMaxX <= obstacleMinX || fromX >= obstacleMaxX) {
+            return false;
+        } else {
+            entryX = Float.NEGATIVE_INFINITY;
+            exitX = Float.POSITIVE_INFINITY;
+        }
+        float entryY;
+        float exitY;
+        if (deltaY > 0) {
+            entryY = (obstacleMinY - fromMaxY) / deltaY;
+            exitY = (obstacleMaxY - fromY) / deltaY;
+        } else if (deltaY < 0) {
+            entryY = (obstacleMaxY - fromY) / deltaY;
+            exitY = (obstacleMinY - fromMaxY) / deltaY;
+        } else if (fromMaxY <= obstacleMinY || fromY >= obstacleMaxY) {
+            return false;
+        } else {
+            entryY = Float.NEGATIVE_INFINITY;
+            exitY = Float.POSITIVE_INFINITY;
+        }
+
+        // the boxes overlap while they overlap along both axes
+        float entry = Math.max(entryX, entryY);
+        float exit = Math.min(exitX, exitY);
+        if (entry >= exit || entry < 0 || entry > 1) {
+            return false;
+        }
+        time = entry;
+        // the contact is on the side of the axis entered last
+        if (entryX > entryY) {
+            normalX = deltaX > 0 ? -1 : 1;
+            normalY = 0;
+        } else {
+            normalX = 0;
+            normalY = deltaY > 0 ? -1 : 1;
+        }
+        return true;
+    }
+
+    /**
+     * Getter for the fraction of the move at which the boxes first touch, found by the last successful test.
+     *
+     * @return The time of the contact, between 0 and 1.
+     */
+    float getTime() {
+        return time;
+    }
+
+    /**
+     * Getter for the x component of the contact's normal, found by the last successful test.
+     *
+     * @return The x component of the normal.
+     */
+    float getNormalX() {
+        return normalX;
+    }
+
+    /**
+     * Getter for the y component of the contact's normal, found by the last successful test.
+     *
+     * @return The y component of the normal.
+     */
+    float getNormalY() {
+        return normalY;
+    }
+
+    /**
+     * Sets the normal of overlapping boxes along the axis of the smallest penetration,
+     * pointing from the static box towards the moving box.
+     *
+     * @param minX         The left edge of the moving box.
+     * @param minY         The top edge of the moving box.
+     * @param maxX         The right edge of the moving box.
+     * @param maxY         The bottom edge of the moving box.
+     * @param obstacleMinX The left edge of the static box.
+     * @param obstacleMinY The top edge of the static box.
+     * @param obstacleMaxX The right edge of the static box.
+     * @param obstacleMaxY The bottom edge of the static box.
+     */
+    private void setOverlapNormal(float minX, float minY, float maxX, float maxY,
+                                  float obstacleMinX, float obstacleMinY, float obstacleMaxX, float obstacleMaxY) {
+        float fromLeft = maxX - obstacleMinX;
+        float fromRight = obstacleMaxX - minX;
+        float fromTop = maxY - obstacleMinY;
+        float fromBottom = obstacleMaxY - minY;
+        float horizontal = Math.min(fromLeft, fromRight);
+        float vertical = Math.min(fromTop, fromBottom);
+        if (horizontal < vertical) {
+            normalX = fromLeft < fromRight ? -1 : 1;
+            normalY = 0;
+        } else {
+            normalX = 0;
+            normalY = fromTop < fromBottom ? -1 : 1;
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package bricker.input;
+
+import bricker.main.GameConstants;
+import danogl.GameObject;
+import danogl.util.Vector2;
+
+import java.awt.event.KeyEvent;
+
+/**
+ * Keyboard state of a synthetic player, for unattended soak runs.
+ * At the start of every tick, startTick looks at the balls and pucks of the game, predicts where each
+ * one falling towards the main paddle will cross the paddle's top edge, and picks the one arriving first.
+ * The prediction is analytic, not simulated: the horizontal move until the crossing is unfolded in a
+ * straight line and folded back between the side edges of the field - every fold is a bounce off a wall.
+ * Bricks are not part of the prediction - only a falling ball is followed, and below the bricks
+ * nothing but the walls is in its way. While nothing falls, the paddle follows the lowest ball or puck.
+ * During the tick, the left or right arrow key is pressed to move the main paddle towards the target,
+ * and no key is pressed once the paddle is close enough to it.
+ * Pucks of a swarm are not game objects, and are not followed.
+ * Turned on with the system property bricker.autopilot=true.
+ *
+ * @author Amit Tzur and Zohar Mattatia
+ */
+public class AutopilotInput implements KeyInput {
+    // =========================== public constants =========================== //
+    /* system property that replaces the keyboard with the autopilot */
+    public static final String ENABLED_PROPERTY = "bricker.autopilot";
+
+    // =========================== private constants =========================== //
+    /* the distance from the target at which the paddle stops, as a fraction of the paddle's width */
+    private static final float AIM_TOLERANCE_FACTOR = 0.25f;
+    /* the direction of no move */
+    private static final int STAY = 0;
+
+    // =========================== fields =========================== //
+    /* width of the field - the balls bounce between its left edge, at 0, and its right edge */
+    private final float fieldWidth;
+    /* the direction the paddle is moved in the current tick - negative for left, positive for right */
+    private int direction = STAY;
+
+    /**
+     * Constructor for AutopilotInput.
+     * The walls are a few pixels thick, so the window's width is close enough for the field's width.
+     *
+     * @param fieldWidth Width of the field the balls bounce in.
+     */
+    public AutopilotInput(float fieldWidth) {
+        this.fieldWidth = fieldWidth;
+    }
+
+    /**
+     * Starts a tick - picks the target of the main paddle and the direction to move it in.
+     *
+     * @param gameObjects The game objects of the layer of the balls, pucks and paddles.
+     */
+    public void startTick(Iterable<GameObject> gameObjects) {
+        GameObject paddle = null;
+        float targetX = Float.NaN;
+        float targetTime = Float.POSITIVE_INFINITY;
+        float lowestY = Float.NEGATIVE_INFINITY;
+        for (GameObject gameObject : gameObjects) {
+            if (GameConstants.MAIN_PADDLE_TAG.equals(gameObject.getTag())) {
+                paddle = gameObject;
+            }
+        }
+        if (paddle == null) {
+            direction = STAY;
+            return;
+        }
+        float paddleTop = paddle.getTopLeftCorner().y();
+
+        for (GameObject gameObject : gameObjects) {
+            if (!GameConstants.BALL_TAG.equals(gameObject.getTag())) {
+                continue;
+            }
+            Vector2 topLeft = gameObject.getTopLeftCorner();
+            Vector2 dimensions = gameObject.getDimensions();
+            Vector2 velocity = gameObject.getVelocity();
+            float bottom = topLeft.y() + dimensions.y();
+            float centerX = topLeft.x() + dimensions.x() * GameConstants.HALF_FACTOR;
+            if (bottom > paddleTop) {
+                // already past the paddle
+                continue;
+            }
+            if (velocity.y() > 0) {
+                float time = (paddleTop - bottom) / velocity.y();
+                if (time < targetTime) {
+                    targetTime = time;
+                    targetX = predictCenterX(centerX, velocity.x() * time, dimensions.x());
+                }
+            } else if (targetTime == Float.POSITIVE_INFINITY && bottom > lowestY) {
+                lowestY = bottom;
+                targetX = centerX;
+            }
+        }
+        direction = aim(paddle, targetX);
+    }
+
+    /**
+     * Checks if the autopilot presses a key in the current tick.
+     *
+     * @param keyCode The key code, as defined in java.awt.event.KeyEvent.
+     * @return True for the arrow key towards the target, false otherwise.
+     */
+    @Override
+    public boolean isKeyPressed(int keyCode) {
+        if (keyCode == KeyEvent.VK_LEFT) {
+            return direction < STAY;
+        }
+        if (keyCode == KeyEvent.VK_RIGHT) {
+            return direction > STAY;
+        }
+        return false;
+    }
+
+    /**
+     * Predicts the horizontal center of a ball after a horizontal move, bouncing off the side edges of
+     * the field. The move is unfolded in a straight line, and folded back into the range of the centers -
+     * a triangle wave with a period of twice the range.
+     *
+     * @param centerX The current horizontal center of the ball.
+     * @param moveX   The horizontal move, as if there were no walls.
+     * @param width   The width of the ball.
+     * @return The horizontal center of the ball after the move.
+     */
+    private float predictCenterX(float centerX, float moveX, float width) {
+        float minCenter = width * GameConstants.HALF_FACTOR;
+        float range = fieldWidth - width;
+        if (range <= 0) {
+            return minCenter;
+        }
+        float period = 2 * range;
+        float unfolded = (centerX - minCenter + moveX) % period;
+        if (unfolded < 0) {
+            unfolded += period;
+        }
+        return minCenter + (unfolded > range ? period - unfolded : unfolded);
+    }
+
+    /**
+     * Picks the direction that moves the paddle's center towards a target.
+     *
+     * @param paddle  The main paddle.
+     * @param targetX The horizontal target of the paddle's center, or NaN if there is none.
+     * @return The direction - negative for left, positive for right, or no move.
+     */
+    private static int aim(GameObject paddle, float targetX) {
+        if (Float.isNaN(targetX)) {
+            return STAY;
+        }
+        float width = paddle.getDimensions().x();
+        float offset = targetX - (paddle.getTopLeftCorner().x() + width * GameConstants.HALF_FACTOR);
+        if (Math.abs(offset) <= width * AIM_TOLERANCE_FACTOR) {
+            return STAY;
+        }
+        return offset < 0 ? -1 : 1;
+    }
+}
@@ -0,0 +1,437 @@
+package bricker.input;
+
+import bricker.levels.Level;
+import bricker.levels.LevelFiles;
+import danogl.util.Vector2;
+
+import java.awt.event.KeyEvent;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * A recorded game session: the game's setup (seed, grid size and window) and, for every tick,
+ * the state of the keys the game reads and the tick's delta time.
+ * Both are stored run-length encoded - a run of ticks with the same key bitmask is a single entry,
+ * and so is a run of ticks with the same delta time - so a session where the player holds a key
+ * for a second, or a headless run with a fixed delta time, takes a few bytes.
+ * <p>
+ * A game played on a level also records the level's checksum, so it is replayed on the same level only.
+ * <p>
+ * The binary format (big-endian): magic, version, seed, columns, rows, window width and height,
+ * whether the game was played on a level and the level's checksum, number of ticks,
+ * then the key runs (count, then a mask byte and a varint length each),
+ * then the delta time runs (count, then a float and a varint length each).
+ *
+ * @author Amit Tzur and Zohar Mattatia
+ */
+public class InputLog {
+    // =========================== public constants =========================== //
+    /* the keys the game reads, by their bit in the key bitmask */
+    public static final int[] RECORDED_KEYS = {
+            KeyEvent.VK_LEFT,
+            KeyEvent.VK_RIGHT,
+            KeyEvent.VK_W};
+
+    // =========================== private constants =========================== //
+    /* identifies an input log file - "BRKI" */
+    private static final int MAGIC = 0x42524B49;
+    /* version of the binary format */
+    private static final short VERSION = 2;
+    /* initial capacity of the run arrays */
+    private static final int INITIAL_RUNS_CAPACITY = 64;
+    /* bits of a varint byte that hold the value */
+    private static final int VARINT_VALUE_BITS = 7;
+    /* mask of the value bits of a varint byte */
+    private static final int VARINT_VALUE_MASK = 0x7F;
+    /* the bit of a varint byte that marks more bytes follow */
+    private static final int VARINT_CONTINUATION_BIT = 0x80;
+
+    // =========================== fields =========================== //
+    /* the seed of the recorded game */
+    private final long seed;
+    /* number of brick columns of the recorded game */
+    private final int brickColumns;
+    /* number of brick rows of the recorded game */
+    private final int brickRows;
+    /* dimensions of the recorded game's window */
+    private final Vector2 windowDimensions;
+    /* whether the recorded game was played on a level, rather than on a random layout */
+    private final boolean hasLevel;
+    /* the checksum of the level the recorded game was played on - 0 if it wasn't played on one */
+    private final long levelChecksum;
+    /* the key bitmask of each run of ticks */
+    private byte[] maskRuns = new byte[INITIAL_RUNS_CAPACITY];
+    /* the number of ticks of each key run */
+    private int[] maskRunLengths = new int[INITIAL_RUNS_CAPACITY];
+    /* number of key runs */
+    private int maskRunCount = 0;
+    /* the delta time of each run of ticks */
+    private float[] deltaRuns = new float[INITIAL_RUNS_CAPACITY];
+    /* the number of ticks of each delta time run */
+    private int[] deltaRunLengths = new int[INITIAL_RUNS_CAPACITY];
+    /* number of delta time runs */
+    private int deltaRunCount = 0;
+    /* number of recorded ticks */
+    private int ticks = 0;
+
+    /**
+     * Constructor for InputLog - an empty log of a game.
+     *
+     * @param seed             The seed of the recorded game.
+     * @param brickColumns     Number of brick columns of the recorded game.
+     * @param brickRows        Number of brick rows of the recorded game.
+     * @param windowDimensions Dimensions of the recorded game's window.
+     */
+    public InputLog(long seed, int brickColumns, int brickRows, Vector2 windowDimensions) {
+        this(seed, brickColumns, brickRows, windowDimensions, false, 0);
+    }
+
+    /**
+     * Constructor for InputLog - an empty log of a game played on a level.
+     *
+     * @param seed             The seed of the recorded game.
+     * @param level            The level the recorded game is played on.
+     * @param windowDimensions Dimensions of the recorded game's window.
+     */
+    public InputLog(long seed, Level level, Vector2 windowDimensions) {
+        this(seed, level.getColumns(), level.getRows(), windowDimensions, true, LevelFiles.checksum(level));
+    }
+
+    /**
+     * Constructor for InputLog, shared by the public constructors and the reader.
+     *
+     * @param seed             The seed of the recorded game.
+     * @param brickColumns     Number of brick columns of the recorded game.
+     * @param brickRows        Number of brick rows of the recorded game.
+     * @param windowDimensions Dimensions of the recorded game's window.
+     * @param hasLevel         Whether the recorded game is played on a level.
+     * @param levelChecksum    The checksum of the level, or 0 if it isn't played on one.
+     */
+    private InputLog(long seed,
+                     int brickColumns,
+                     int brickRows,
+                     Vector2 windowDimensions,
+                     boolean hasLevel,
+                     long levelChecksum) {
+        this.seed = seed;
+        this.brickColumns = brickColumns;
+        this.brickRows = brickRows;
+        this.windowDimensions = windowDimensions;
+        this.hasLevel = hasLevel;
+        this.levelChecksum = levelChecksum;
+    }
+
+    /**
+     * Gets the key bitmask of the keys pressed in a keyboard state.
+     *
+     * @param input The keyboard state.
+     * @return The bitmask - bit i is set if RECORDED_KEYS[i] is pressed.
+     */
+    public static byte maskOf(KeyInput input) {
+        int mask = 0;
+        for (int bit = 0; bit < RECORDED_KEYS.length; bit++) {
+            if (input.isKeyPressed(RECORDED_KEYS[bit])) {
+                mask |= 1 << bit;
+            }
+        }
+        return (byte) mask;
+    }
+
+    /**
+     * Checks if a key is pressed in a key bitmask.
+     *
+     * @param mask    The key bitmask.
+     * @param keyCode The key code.
+     * @return True if the key is recorded and pressed in the mask, false otherwise.
+     */
+    public static boolean isPressed(byte mask, int keyCode) {
+        for (int bit = 0; bit < RECORDED_KEYS.length; bit++) {
+            if (RECORDED_KEYS[bit] == keyCode) {
+                return (mask & (1 << bit)) != 0;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Appends a tick to the log - extending the last runs if the tick matches them.
+     * Allocates only when the run arrays grow.
+     *
+     * @param mask      The key bitmask of the tick.
+     * @param deltaTime The delta time of the tick.
+     */
+    public void append(byte mask, float deltaTime) {
+        if (maskRunCount > 0 && maskRuns[maskRunCount - 1] == mask) {
+            maskRunLengths[maskRunCount - 1]++;
+        } else {
+            if (maskRunCount == maskRuns.length) {
+                maskRuns = Arrays.copyOf(maskRuns, maskRunCount * 2);
+                maskRunLengths = Arrays.copyOf(maskRunLengths, maskRunCount * 2);
+            }
+            maskRuns[maskRunCount] = mask;
+            maskRunLengths[maskRunCount++] = 1;
+        }
+        // delta times are compared by their bits, so the replay gets exactly the recorded values
+        if (deltaRunCount > 0 &&
+                Float.floatToIntBits(deltaRuns[deltaRunCount - 1]) == Float.floatToIntBits(deltaTime)) {
+            deltaRunLengths[deltaRunCount - 1]++;
+        } else {
+            if (deltaRunCount == deltaRuns.length) {
+                deltaRuns = Arrays.copyOf(deltaRuns, deltaRunCount * 2);
+                deltaRunLengths = Arrays.copyOf(deltaRunLengths, deltaRunCount * 2);
+            }
+            deltaRuns[deltaRunCount] = deltaTime;
+            deltaRunLengths[deltaRunCount++] = 1;
+        }
+        ticks++;
+    }
+
+    /**
+     * Creates a cursor that replays the log from its first tick.
+     *
+     * @return The replay input.
+     */
+    public ReplayInput replay() {
+        return new ReplayInput(maskRuns, maskRunLengths, maskRunCount, deltaRuns, deltaRunLengths, ticks);
+    }
+
+    /**
+     * Writes the log to a file.
+     *
+     * @param path The path of the file.
+     * @throws IOException If the file can't be written.
+     */
+    public void write(Path path) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)))) {
+            out.writeInt(MAGIC);
+            out.writeShort(VERSION);
+            out.writeLong(seed);
+            out.writeInt(brickColumns);
+            out.writeInt(brickRows);
+            out.writeFloat(windowDimensions.x());
+            out.writeFloat(windowDimensions.y());
+            out.writeBoolean(hasLevel);
+            out.writeLong(levelChecksum);
+            out.writeInt(ticks);
+            out.writeInt(maskRunCount);
+            for (int i = 0; i < maskRunCount; i++) {
+                out.writeByte(maskRuns[i]);
+                writeVarInt(out, maskRunLengths[i]);
+            }
+            out.writeInt(deltaRunCount);
+            for (int i = 0; i < deltaRunCount; i++) {
+                out.writeFloat(deltaRuns[i]);
+                writeVarInt(out, deltaRunLengths[i]);
+            }
+        }
+    }
+
+    /**
+     * Reads a log from a file.
+     * The counts and lengths of the runs are checked before they are used, so a truncated or corrupt
+     * file is reported as such instead of failing the replay.
+     *
+     * @param path The path of the file.
+     * @return The log.
+     * @throws IOException If the file can't be read or isn't a valid input log.
+     */
+    public static InputLog read(Path path) throws IOException {
+        // every run takes at least a byte, so a file can't hold more runs than its size
+        long maxRuns = Files.size(path);
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException(path + " is not an input log");
+            }
+            short version = in.readShort();
+            if (version != VERSION) {
+                throw new IOException(path + " has an unsupported input log version " + version);
+            }
+            long seed = in.readLong();
+            int columns = in.readInt();
+            int rows = in.readInt();
+            Vector2 windowDimensions = new Vector2(in.readFloat(), in.readFloat());
+            boolean hasLevel = in.readBoolean();
+            long levelChecksum = in.readLong();
+            InputLog log = new InputLog(seed, columns, rows, windowDimensions, hasLevel, levelChecksum);
+            log.ticks = in.readInt();
+            if (log.ticks < 0) {
+                throw new IOException(path + " has a negative number of ticks " + log.ticks);
+            }
+
+            log.maskRunCount = readRunCount(in, log.ticks, maxRuns, path);
+            log.maskRuns = new byte[log.maskRunCount];
+            log.maskRunLengths = new int[log.maskRunCount];
+            for (int i = 0; i < log.maskRunCount; i++) {
+                log.maskRuns[i] = in.readByte();
+                log.maskRunLengths[i] = readVarInt(in);
+            }
+            checkRunLengths(log.maskRunLengths, log.ticks, path);
+            log.deltaRunCount = readRunCount(in, log.ticks, maxRuns, path);
+            log.deltaRuns = new float[log.deltaRunCount];
+            log.deltaRunLengths = new int[log.deltaRunCount];
+            for (int i = 0; i < log.deltaRunCount; i++) {
+                log.deltaRuns[i] = in.readFloat();
+                log.deltaRunLengths[i] = readVarInt(in);
+            }
+            checkRunLengths(log.deltaRunLengths, log.ticks, path);
+            return log;
+        }
+    }
+
+    /**
+     * Reads the number of runs of a log, and checks it: every run holds at least one tick, so there are
+     * no more runs than ticks, and no more than the file can hold.
+     *
+     * @param in      The stream.
+     * @param ticks   The number of ticks of the log.
+     * @param maxRuns The most runs the file can hold.
+     * @param path    The path of the file, for the error message.
+     * @return The number of runs.
+     * @throws IOException If the stream can't be read, or the number is invalid.
+     */
+    private static int readRunCount(DataInputStream in, int ticks, long maxRuns, Path path) throws IOException {
+        int count = in.readInt();
+        if (count < 0 || count > ticks || count > maxRuns) {
+            throw new IOException(path + " has an invalid number of runs " + count + " for " + ticks + " ticks");
+        }
+        return count;
+    }
+
+    /**
+     * Checks the lengths of the runs of a log: every run holds at least one tick, and together they hold
+     * all the ticks of the log.
+     *
+     * @param runLengths The lengths of the runs.
+     * @param ticks      The number of ticks of the log.
+     * @param path       The path of the file, for the error message.
+     * @throws IOException If a length is invalid, or the lengths don't add up to the ticks.
+     */
+    private static void checkRunLengths(int[] runLengths, int ticks, Path path) throws IOException {
+        long total = 0;
+        for (int length : runLengths) {
+            if (length <= 0) {
+                throw new IOException(path + " has an invalid run length " + length);
+            }
+            total += length;
+        }
+        if (total != ticks) {
+            throw new IOException(path + " has runs of " + total + " ticks, not " + ticks);
+        }
+    }
+
+    /**
+     * Writes a non-negative int in as few bytes as needed - 7 bits per byte, low bits first.
+     *
+     * @param out   The stream.
+     * @param value The value.
+     * @throws IOException If the stream can't be written.
+     */
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        while ((value & ~VARINT_VALUE_MASK) != 0) {
+            out.writeByte((value & VARINT_VALUE_MASK) | VARINT_CONTINUATION_BIT);
+            value >>>= VARINT_VALUE_BITS;
+        }
+        out.writeByte(value);
+    }
+
+    /**
+     * Reads an int written by writeVarInt.
+     *
+     * @param in The stream.
+     * @return The value.
+     * @throws IOException If the stream can't be read.
+     */
+    private static int readVarInt(DataInputStream in) throws IOException {
+        int value = 0;
+        int shift = 0;
+        int current;
+        do {
+            current = in.readUnsignedByte();
+            value |= (current & VARINT_VALUE_MASK) << shift;
+            shift += VARINT_VALUE_BITS;
+        } while ((current & VARINT_CONTINUATION_BIT) != 0);
+        return value;
+    }
+
+    /**
+     * Getter for the seed of the recorded game.
+     *
+     * @return The seed.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Getter for the number of brick columns of the recorded game.
+     *
+     * @return The number of brick columns.
+     */
+    public int getBrickColumns() {
+        return brickColumns;
+    }
+
+    /**
+     * Getter for the number of brick rows of the recorded game.
+     *
+     * @return The number of brick rows.
+     */
+    public int getBrickRows() {
+        return brickRows;
+    }
+
+    /**
+     * Getter for the dimensions of the recorded game's window.
+     *
+     * @return The window dimensions.
+     */
+    public Vector2 getWindowDimensions() {
+        return windowDimensions;
+    }
+
+    /**
+     * Checks if the recorded game was played on a level, rather than on a random layout.
+     *
+     * @return True if it was played on a level.
+     */
+    public boolean hasLevel() {
+        return hasLevel;
+    }
+
+    /**
+     * Checks if a level is the one the recorded game was played on.
+     *
+     * @param level The level.
+     * @return True if the game was played on a level with the same checksum, false otherwise.
+     */
+    public boolean isPlayedOn(Level level) {
+        return hasLevel && LevelFiles.checksum(level) == levelChecksum;
+    }
+
+    /**
+     * Getter for the number of recorded ticks.
+     *
+     * @return The number of ticks.
+     */
+    public int getTicks() {
+        return ticks;
+    }
+
+    /**
+     * Returns a one line report of the log's size.
+     *
+     * @return The report string.
+     */
+    @Override
+    public String toString() {
+        return String.format("input log: seed %d, %dx%d bricks%s, %d ticks in %d key runs and %d delta time runs",
+                seed, brickColumns, brickRows, hasLevel ? String.format(" (level %08x)", levelChecksum) : "",
+                ticks, maskRunCount, deltaRunCount);
+    }
+}
@@ -0,0 +1,70 @@
+package bricker.input;
+
+/**
+ * Keyboard state that records itself into an input log.
+ * At the start of every tick, startTick samples the keys the game reads from the real keyboard
+ * state and appends them, with the tick's delta time, to the log. During the tick the game is
+ * answered from the sampled bitmask, so the log holds exactly what the game saw - even if a key
+ * changes in the middle of the tick.
+ *
+ * @author Amit Tzur and Zohar Mattatia
+ */
+public class InputRecorder implements KeyInput {
+    // =========================== fields =========================== //
+    /* the real keyboard state */
+    private final KeyInput input;
+    /* the log the ticks are recorded into */
+    private InputLog log;
+    /* the key bitmask of the current tick */
+    private byte currentMask = 0;
+
+    /**
+     * Constructor for InputRecorder.
+     *
+     * @param input The real keyboard state.
+     * @param log   The log the ticks are recorded into.
+     */
+    public InputRecorder(KeyInput input, InputLog log) {
+        this.input = input;
+        this.log = log;
+    }
+
+    /**
+     * Starts a tick - samples the keys and records them with the tick's delta time.
+     *
+     * @param deltaTime The delta time of the tick.
+     */
+    public void startTick(float deltaTime) {
+        currentMask = InputLog.maskOf(input);
+        log.append(currentMask, deltaTime);
+    }
+
+    /**
+     * Checks if a key was pressed when the current tick started.
+     *
+     * @param keyCode The key code, as defined in java.awt.event.KeyEvent.
+     * @return True if the key was pressed, false otherwise.
+     */
+    @Override
+    public boolean isKeyPressed(int keyCode) {
+        return InputLog.isPressed(currentMask, keyCode);
+    }
+
+    /**
+     * Starts recording into a new log - for a game that starts over with the same input.
+     *
+     * @param log The log the next ticks are recorded into.
+     */
+    public void setLog(InputLog log) {
+        this.log = log;
+    }
+
+    /**
+     * Getter for the log the ticks are recorded into.
+     *
+     * @return The log.
+     */
+    public InputLog getLog() {
+        return log;
+    }
+}
@@ -0,0 +1,22 @@
+package bricker.input;
+
+/**
+ * The keyboard state read by the game - which keys are currently pressed.
+ * danogl's UserInputListener is adapted to it with a method reference (inputListener::isKeyPressed),
+ * and headless runs plug in their own implementation.
+ *
+ * @author Amit Tzur and Zohar Mattatia
+ */
+@FunctionalInterface
+public interface KeyInput {
+    /* input where no key is ever pressed */
+    KeyInput NONE = keyCode -> false;
+
+    /**
+     * Checks if a key is currently pressed.
+     *
+     * @param keyCode The key code, as defined in java.awt.event.KeyEvent.
+     * @return True if the key is pressed, false otherwise.
+     */
+    boolean isKeyPressed(int keyCode);
+}
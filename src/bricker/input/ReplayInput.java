@@ -0,0 +1,111 @@
+package bricker.input;
+
+/**
+ * Keyboard state replayed from an input log, tick by tick.
+ * Every tick starts with nextTick, which moves to the tick's key bitmask and returns its delta time;
+ * during the tick, isKeyPressed answers from that bitmask. Walks the runs of the log in place,
+ * so replaying doesn't allocate.
+ *
+ * @author Amit Tzur and Zohar Mattatia
+ */
+public class ReplayInput implements KeyInput {
+    // =========================== fields =========================== //
+    /* the key bitmask of each run of ticks */
+    private final byte[] maskRuns;
+    /* the number of ticks of each key run */
+    private final int[] maskRunLengths;
+    /* number of key runs */
+    private final int maskRunCount;
+    /* the delta time of each run of ticks */
+    private final float[] deltaRuns;
+    /* the number of ticks of each delta time run */
+    private final int[] deltaRunLengths;
+    /* number of ticks in the log */
+    private final int ticks;
+    /* the current key run */
+    private int maskRun = 0;
+    /* ticks of the current key run already replayed */
+    private int ticksIntoMaskRun = 0;
+    /* the current delta time run */
+    private int deltaRun = 0;
+    /* ticks of the current delta time run already replayed */
+    private int ticksIntoDeltaRun = 0;
+    /* number of ticks replayed so far */
+    private int replayedTicks = 0;
+    /* the key bitmask of the current tick */
+    private byte currentMask = 0;
+
+    /**
+     * Constructor for ReplayInput. Created by InputLog.replay.
+     *
+     * @param maskRuns        The key bitmask of each run of ticks.
+     * @param maskRunLengths  The number of ticks of each key run.
+     * @param maskRunCount    Number of key runs.
+     * @param deltaRuns       The delta time of each run of ticks.
+     * @param deltaRunLengths The number of ticks of each delta time run.
+     * @param ticks           Number of ticks in the log.
+     */
+    ReplayInput(byte[] maskRuns,
+                int[] maskRunLengths,
+                int maskRunCount,
+                float[] deltaRuns,
+                int[] deltaRunLengths,
+                int ticks) {
+        this.maskRuns = maskRuns;
+        this.maskRunLengths = maskRunLengths;
+        this.maskRunCount = maskRunCount;
+        this.deltaRuns = deltaRuns;
+        this.deltaRunLengths = deltaRunLengths;
+        this.ticks = ticks;
+    }
+
+    /**
+     * Checks if there are ticks left to replay.
+     *
+     * @return True if there are ticks left, false otherwise.
+     */
+    public boolean hasNextTick() {
+        return replayedTicks < ticks && maskRun < maskRunCount;
+    }
+
+    /**
+     * Moves to the next tick of the log.
+     *
+     * @return The delta time of the tick.
+     */
+    public float nextTick() {
+        if (ticksIntoMaskRun == maskRunLengths[maskRun]) {
+            maskRun++;
+            ticksIntoMaskRun = 0;
+        }
+        if (ticksIntoDeltaRun == deltaRunLengths[deltaRun]) {
+            deltaRun++;
+            ticksIntoDeltaRun = 0;
+        }
+        currentMask = maskRuns[maskRun];
+        ticksIntoMaskRun++;
+        ticksIntoDeltaRun++;
+        replayedTicks++;
+        return deltaRuns[deltaRun];
+    }
+
+    /**
+     * Checks if a key was pressed in the current tick of the log.
+     *
+     * @param keyCode The key code, as defined in java.awt.event.KeyEvent.
+     * @return True if the key was pressed, false otherwise.
+     */
+    @Override
+    public boolean isKeyPressed(int keyCode) {
+        return InputLog.isPressed(currentMask, keyCode);
+    }
+
+    /**
+     * Getter for the number of ticks replayed so far.
+     *
+     * @return The number of replayed ticks.
+     */
+    public int getReplayedTicks() {
+        return replayedTicks;
+    }
+}
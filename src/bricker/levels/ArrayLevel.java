@@ -0,0 +1,66 @@
+package bricker.levels;
+
+/**
+ * A level held on the heap, one byte per cell, row after row.
+ * Used for levels read from the text format and for randomly generated layouts.
+ *
+ * @author Amit Tzur and Zohar Mattatia
+ */
+public class ArrayLevel implements Level {
+    // =========================== fields =========================== //
+    /* number of brick columns */
+    private final int columns;
+    /* number of brick rows */
+    private final int rows;
+    /* the code of each cell, row after row */
+    private final byte[] codes;
+
+    /**
+     * Constructor for ArrayLevel.
+     *
+     * @param columns Number of brick columns.
+     * @param rows    Number of brick rows.
+     * @param codes   The code of each cell, row after row - columns * rows of them.
+     */
+    public ArrayLevel(int columns, int rows, byte[] codes) {
+        if (codes.length != columns * rows) {
+            throw new IllegalArgumentException("a " + columns + "x" + rows + " level has "
+                    + columns * rows + " cells, got " + codes.length);
+        }
+        this.columns = columns;
+        this.rows = rows;
+        this.codes = codes;
+    }
+
+    /**
+     * Getter for the number of brick columns of the level.
+     *
+     * @return The number of columns.
+     */
+    @Override
+    public int getColumns() {
+        return columns;
+    }
+
+    /**
+     * Getter for the number of brick rows of the level.
+     *
+     * @return The number of rows.
+     */
+    @Override
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * Gets the behavior code of a cell.
+     *
+     * @param row    The row of the cell.
+     * @param column The column of the cell.
+     * @return The code of the cell's brick.
+     */
+    @Override
+    public byte codeAt(int row, int column) {
+        return codes[row * columns + column];
+    }
+}
@@ -0,0 +1,33 @@
+package bricker.levels;
+
+/**
+ * The layout of a level: the size of its grid of bricks, and the behavior of the brick in each cell,
+ * as a code defined in StrategyCodes (StrategyCodes.EMPTY for a cell without a brick).
+ *
+ * @author Amit Tzur and Zohar Mattatia
+ */
+public interface Level {
+
+    /**
+     * Getter for the number of brick columns of the level.
+     *
+     * @return The number of columns.
+     */
+    int getColumns();
+
+    /**
+     * Getter for the number of brick rows of the level.
+     *
+     * @return The number of rows.
+     */
+    int getRows();
+
+    /**
+     * Gets the behavior code of a cell.
+     *
+     * @param row    The row of the cell.
+     * @param column The column of the cell.
+     * @return The code of the cell's brick, as defined in StrategyCodes.
+     */
+    byte codeAt(int row, int column);
+}
@@ -0,0 +1,353 @@
+package bricker.levels;
+
+import bricker.brick_strategies.StrategyCodes;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.zip.CRC32;
+
+/**
+ * Reads and writes level files, in a binary and a text format.
+ * <p>
+ * The binary format (extension .brkl) is a 14 bytes big-endian header - magic, version, columns, rows -
+ * followed by one strategy code byte per cell, row after row. It is loaded by memory-mapping the file,
+ * so even a level of millions of cells loads without parsing and without being copied onto the heap.
+ * <p>
+ * The text format has the columns and rows on its first line, and then a line per row with a token
+ * per cell: '.' for an empty cell, 'B' for a basic brick, or the letters of the brick's special
+ * behaviors - P (pucks), A (additional paddle), X (explode) and L (life), up to three of them,
+ * so "PX" is a double strategy of pucks and explosion. Lines starting with '#' are comments.
+ *
+ * @author Amit Tzur and Zohar Mattatia
+ */
+public final class LevelFiles {
+    // =========================== public constants =========================== //
+    /* extension of binary level files */
+    public static final String BINARY_EXTENSION = ".brkl";
+
+    // =========================== private constants =========================== //
+    /* identifies a binary level file - "BRKL" */
+    private static final int MAGIC = 0x42524B4C;
+    /* version of the binary format */
+    private static final short VERSION = 1;
+    /* size of the binary header: magic, version, columns and rows */
+    private static final int HEADER_BYTES = Integer.BYTES + Short.BYTES + 2 * Integer.BYTES;
+    /* text token of an empty cell */
+    private static final String EMPTY_TOKEN = ".";
+    /* text token of a basic brick */
+    private static final String BASIC_TOKEN = "B";
+    /* text letters of the special behaviors, indexed by their kind in StrategyCodes */
+    private static final String KIND_LETTERS = "PAXL";
+    /* prefix of a comment line in the text format */
+    private static final String COMMENT_PREFIX = "#";
+    /* separator of the tokens in the text format */
+    private static final String TOKEN_SEPARATOR = "\\s+";
+
+    /**
+     * Private constructor - this class only holds static helpers.
+     */
+    private LevelFiles() {
+    }
+
+    /**
+     * Loads a level file - memory-mapped if it is a binary file, otherwise parsed as text.
+     *
+     * @param path The path of the level file.
+     * @return The level.
+     * @throws IOException If the file can't be read or isn't a valid level.
+     */
+    public static Level load(Path path) throws IOException {
+        if (path.toString().endsWith(BINARY_EXTENSION)) {
+            return map(path);
+        }
+        return readText(path);
+    }
+
+    /**
+     * Memory-maps a binary level file.
+     *
+     * @param path The path of the binary level file.
+     * @return The level, backed by the mapping.
+     * @throws IOException If the file can't be mapped or isn't a valid binary level.
+     */
+    public static MappedLevel map(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_BYTES) {
+                throw new IOException(path + " is too short to be a level file");
+            }
+            // a single mapping covers at most 2GB
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException(path + " is too large to be mapped: " + size + " bytes");
+            }
+            // the mapping stays valid after the channel is closed
+            MappedByteBuffer mapping = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            if (mapping.getInt() != MAGIC) {
+                throw new IOException(path + " is not a level file");
+            }
+            short version = mapping.getShort();
+            if (version != VERSION) {
+                throw new IOException(path + " has an unsupported level version " + version);
+            }
+            int columns = mapping.getInt();
+            int rows = mapping.getInt();
+            if (columns <= 0 || rows <= 0 || (long) columns * rows != size - HEADER_BYTES) {
+                throw new IOException(path + " has " + (size - HEADER_BYTES) + " cells, not "
+                        + columns + "x" + rows);
+            }
+            return new MappedLevel(mapping, HEADER_BYTES, columns, rows);
+        }
+    }
+
+    /**
+     * Writes a level as a binary level file.
+     *
+     * @param level The level.
+     * @param path  The path of the file.
+     * @throws IOException If the file can't be written.
+     */
+    public static void writeBinary(Level level, Path path) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)))) {
+            out.writeInt(MAGIC);
+            out.writeShort(VERSION);
+            out.writeInt(level.getColumns());
+            out.writeInt(level.getRows());
+            for (int row = 0; row < level.getRows(); row++) {
+                for (int column = 0; column < level.getColumns(); column++) {
+                    out.writeByte(level.codeAt(row, column));
+                }
+            }
+        }
+    }
+
+    /**
+     * Computes a checksum of a level - of its size and the code of every cell - so a level can be told
+     * apart from another level of the same size, whatever the format it was read from.
+     *
+     * @param level The level.
+     * @return The CRC-32 of the level's size and codes.
+     */
+    public static long checksum(Level level) {
+        CRC32 crc = new CRC32();
+        byte[] rowCodes = new byte[level.getColumns()];
+        crc.update(level.getColumns());
+        crc.update(level.getRows());
+        for (int row = 0; row < level.getRows(); row++) {
+            for (int column = 0; column < level.getColumns(); column++) {
+                rowCodes[column] = level.codeAt(row, column);
+            }
+            crc.update(rowCodes, 0, rowCodes.length);
+        }
+        return crc.getValue();
+    }
+
+    /**
+     * Reads a level file in the text format.
+     *
+     * @param path The path of the text level file.
+     * @return The level.
+     * @throws IOException If the file can't be read or isn't a valid text level.
+     */
+    public static ArrayLevel readText(Path path) throws IOException {
+        List<String> lines = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String trimmed = line.trim();
+                if (!trimmed.isEmpty() && !trimmed.startsWith(COMMENT_PREFIX)) {
+                    lines.add(trimmed);
+                }
+            }
+        }
+        if (lines.isEmpty()) {
+            throw new IOException(path + " is empty");
+        }
+        String[] size = lines.get(0).split(TOKEN_SEPARATOR);
+        if (size.length != 2) {
+            throw new IOException(path + " has a header of " + size.length + " tokens, not columns and rows");
+        }
+        int columns = parseSize(size[0], path);
+        int rows = parseSize(size[1], path);
+        if (lines.size() - 1 != rows) {
+            throw new IOException(path + " has " + (lines.size() - 1) + " rows, not " + rows);
+        }
+        // the rows are checked before the codes are allocated, so a wrong header doesn't allocate its size
+        String[][] rowTokens = new String[rows][];
+        for (int row = 0; row < rows; row++) {
+            rowTokens[row] = lines.get(row + 1).split(TOKEN_SEPARATOR);
+            if (rowTokens[row].length != columns) {
+                throw new IOException(path + ": row " + row + " has " + rowTokens[row].length + " cells, not "
+                        + columns);
+            }
+        }
+        byte[] codes = new byte[columns * rows];
+        for (int row = 0; row < rows; row++) {
+            for (int column = 0; column < columns; column++) {
+                codes[row * columns + column] = parseToken(rowTokens[row][column], path);
+            }
+        }
+        return new ArrayLevel(columns, rows, codes);
+    }
+
+    /**
+     * Writes a level as a text level file.
+     *
+     * @param level The level.
+     * @param path  The path of the file.
+     * @throws IOException If the file can't be written.
+     */
+    public static void writeText(Level level, Path path) throws IOException {
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(path, StandardCharsets.UTF_8))) {
+            writer.println(level.getColumns() + " " + level.getRows());
+            StringBuilder line = new StringBuilder();
+            for (int row = 0; row < level.getRows(); row++) {
+                line.setLength(0);
+                for (int column = 0; column < level.getColumns(); column++) {
+                    if (column > 0) {
+                        line.append(' ');
+                    }
+                    line.append(formatToken(level.codeAt(row, column)));
+                }
+                writer.println(line);
+            }
+        }
+    }
+
+    /**
+     * Parses a size of the text header - a number of columns or rows.
+     *
+     * @param token The token.
+     * @param path  The path of the file, for the error message.
+     * @return The size.
+     * @throws IOException If the token isn't a positive number.
+     */
+    private static int parseSize(String token, Path path) throws IOException {
+        int size;
+        try {
+            size = Integer.parseInt(token);
+        } catch (NumberFormatException e) {
+            throw new IOException(path + " has a size that isn't a number: " + token, e);
+        }
+        if (size <= 0) {
+            throw new IOException(path + " has a size that isn't positive: " + size);
+        }
+        return size;
+    }
+
+    /**
+     * Parses the text token of a cell.
+     *
+     * @param token The token.
+     * @param path  The path of the file, for the error message.
+     * @return The code of the cell.
+     * @throws IOException If the token isn't valid.
+     */
+    private static byte parseToken(String token, Path path) throws IOException {
+        if (token.equals(EMPTY_TOKEN)) {
+            return StrategyCodes.EMPTY;
+        }
+        if (token.equals(BASIC_TOKEN)) {
+            return StrategyCodes.BASIC;
+        }
+        if (token.length() > StrategyCodes.MAX_SPECIALS) {
+            throw new IOException(path + ": '" + token + "' has more than " + StrategyCodes.MAX_SPECIALS
+                    + " special behaviors");
+        }
+        int[] kinds = new int[token.length()];
+        for (int i = 0; i < token.length(); i++) {
+            kinds[i] = KIND_LETTERS.indexOf(token.charAt(i));
+            if (kinds[i] < 0) {
+                throw new IOException(path + ": unknown cell '" + token + "'");
+            }
+        }
+        return StrategyCodes.of(kinds);
+    }
+
+    /**
+     * Formats the text token of a cell.
+     *
+     * @param code The code of the cell.
+     * @return The token.
+     */
+    private static String formatToken(byte code) {
+        if (code == StrategyCodes.EMPTY) {
+            return EMPTY_TOKEN;
+        }
+        int specialsCount = StrategyCodes.specialsCount(code);
+        if (specialsCount == 0) {
+            return BASIC_TOKEN;
+        }
+        char[] letters = new char[specialsCount];
+        for (int i = 0; i < specialsCount; i++) {
+            letters[i] = KIND_LETTERS.charAt(StrategyCodes.specialKind(code, i));
+        }
+        return new String(letters);
+    }
+
+    /**
+     * Converts between the level formats, or generates a random level.
+     * Arguments: "convert input output" - the formats are chosen by the extensions,
+     * or "generate columns rows seed output" - every cell a random code, with a tenth of them empty.
+     *
+     * @param args Command-line arguments
+     * @throws IOException If a file can't be read or written.
+     */
+    public static void main(String[] args) throws IOException {
+        Level level;
+        Path output;
+        if (args.length == 3 && args[0].equals("convert")) {
+            level = load(Paths.get(args[1]));
+            output = Paths.get(args[2]);
+        } else if (args.length == 5 && args[0].equals("generate")) {
+            level = generate(Integer.parseInt(args[1]), Integer.parseInt(args[2]), Long.parseLong(args[3]));
+            output = Paths.get(args[4]);
+        } else {
+            System.err.println("usage: LevelFiles convert <input> <output>");
+            System.err.println("       LevelFiles generate <columns> <rows> <seed> <output>");
+            return;
+        }
+        if (output.toString().endsWith(BINARY_EXTENSION)) {
+            writeBinary(level, output);
+        } else {
+            writeText(level, output);
+        }
+        System.out.println("wrote a " + level.getColumns() + "x" + level.getRows() + " level to " + output);
+    }
+
+    /**
+     * Generates a random level, for testing large levels.
+     *
+     * @param columns Number of brick columns.
+     * @param rows    Number of brick rows.
+     * @param seed    The seed of the layout.
+     * @return The level.
+     */
+    private static ArrayLevel generate(int columns, int rows, long seed) {
+        Random random = new Random(seed);
+        byte[] codes = new byte[columns * rows];
+        for (int i = 0; i < codes.length; i++) {
+            int roll = random.nextInt(10);
+            if (roll == 0) {
+                codes[i] = StrategyCodes.EMPTY;
+            } else if (roll <= 5) {
+                codes[i] = StrategyCodes.BASIC;
+            } else {
+                codes[i] = StrategyCodes.of(random.nextInt(StrategyCodes.SPECIAL_KINDS));
+            }
+        }
+        return new ArrayLevel(columns, rows, codes);
+    }
+}
@@ -0,0 +1,69 @@
+package bricker.levels;
+
+import java.nio.MappedByteBuffer;
+
+/**
+ * A level read straight from a memory-mapped binary level file.
+ * The cells are never copied to the heap: every lookup reads the cell's byte from the mapping,
+ * and the operating system pages the file in as the cells are read.
+ *
+ * @author Amit Tzur and Zohar Mattatia
+ */
+public class MappedLevel implements Level {
+    // =========================== fields =========================== //
+    /* the mapping of the level file */
+    private final MappedByteBuffer mapping;
+    /* offset of the first cell in the mapping - right after the header */
+    private final int cellsOffset;
+    /* number of brick columns */
+    private final int columns;
+    /* number of brick rows */
+    private final int rows;
+
+    /**
+     * Constructor for MappedLevel. Created by LevelFiles.map, which validates the header.
+     *
+     * @param mapping     The mapping of the level file.
+     * @param cellsOffset Offset of the first cell in the mapping.
+     * @param columns     Number of brick columns.
+     * @param rows        Number of brick rows.
+     */
+    MappedLevel(MappedByteBuffer mapping, int cellsOffset, int columns, int rows) {
+        this.mapping = mapping;
+        this.cellsOffset = cellsOffset;
+        this.columns = columns;
+        this.rows = rows;
+    }
+
+    /**
+     * Getter for the number of brick columns of the level.
+     *
+     * @return The number of columns.
+     */
+    @Override
+    public int getColumns() {
+        return columns;
+    }
+
+    /**
+     * Getter for the number of brick rows of the level.
+     *
+     * @return The number of rows.
+     */
+    @Override
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * Gets the behavior code of a cell, read from the mapping.
+     *
+     * @param row    The row of the cell.
+     * @param column The column of the cell.
+     * @return The code of the cell's brick.
+     */
+    @Override
+    public byte codeAt(int row, int column) {
+        return mapping.get(cellsOffset + row * columns + column);
+    }
+}
@@ -0,0 +1,635 @@
+package bricker.main;
+
+import bricker.assets.GameAssets;
+import bricker.assets.SoundEffect;
+import bricker.brick_strategies.BrickRemovals;
+import bricker.brick_strategies.BricksStrategyFactory;
+import bricker.events.GameEventBus;
+import bricker.events.GameEventType;
+import bricker.gameobjects.*;
+import bricker.input.KeyInput;
+import bricker.levels.ArrayLevel;
+import bricker.levels.Level;
+import bricker.profiling.FrameProfiler;
+import bricker.profiling.ProfilerOverlay;
+import danogl.GameObject;
+import danogl.collisions.GameObjectCollection;
+import danogl.collisions.Layer;
+import danogl.components.CoordinateSpace;
+import danogl.gui.rendering.RectangleRenderable;
+import danogl.gui.rendering.Renderable;
+import danogl.util.Counter;
+import danogl.util.Vector2;
+
+import java.awt.*;
+import java.awt.event.KeyEvent;
+
+/**
+ * The BrickerGame class holds the logic of a single Bricker game.
+ * It creates the game objects into a given game object collection and checks for game end conditions.
+ * The game objects and the strategies publish what happened to them on the game's event bus, which is
+ * dispatched at the end of every update: the game end rules and the event counters are its subscribers.
+ * It does not depend on a window, so it is driven both by the BrickerGameManager
+ * and by the headless simulation.
+ * <p>
+ * A level too tall for the window extends the world upwards, above the window's top edge: the paddle
+ * and the bottom of the play area stay where they are, and a camera anchor follows the ball up the level.
+ * The bricks are created lazily by the brick grid, only for the rows near the view.
+ *
+ * @author Amit Tzur and Zohar Mattatia
+ */
+public class BrickerGame {
+    // =========================== private constants =========================== //
+    /* ball image asset path */
+    private static final String BALL_IMAGE_PATH = "assets/ball.png";
+    /* background image asset path */
+    private static final String ASSETS_DARK_BG_2_SMALL_JPEG = "assets/DARK_BG2_small.jpeg";
+    /* brick image asset path */
+    private static final String BRICK_IMAGE_PATH = "assets/brick.png";
+    /* paddle offset from bottom of the window */
+    private static final float PADDLE_OFFSET_FROM_BOTTOM = 30;
+    /* left wall width which is its thickness */
+    private static final float LEFT_WALL_WIDTH = 5;
+    /* right wall width which is its thickness */
+    private static final float RIGHT_WALL_WIDTH = 5;
+    /* top wall height which is its thickness */
+    private static final float TOP_WALL_HEIGHT = 5;
+    /* brick height - its thickness */
+    private static final float BRICK_HEIGHT = 15;
+    /* minimal open space between the lowest brick row and the bottom of the window.
+     A level leaving less than that is extended upwards and scrolled */
+    private static final float MIN_OPEN_HEIGHT = 200;
+    /* wall overlap correction to calculate the wall's position */
+    private static final float WALL_OVERLAP_CORRECTION = 1;
+    /* remaining lives location X coordinate */
+    private static final float REMAINING_LIVES_LOCATION_X = 20f;
+    /* horizontal distance of the profiler overlay from the lives display - past the maximal hearts */
+    private static final float PROFILER_OVERLAY_OFFSET_X = 220;
+    /* dimensions of the profiler overlay */
+    private static final Vector2 PROFILER_OVERLAY_DIMENSIONS = new Vector2(440, GameConstants.HEART_HEIGHT);
+    /* the layers the game's objects are added to, from the back */
+    private static final int[] GAME_LAYERS =
+            {Layer.BACKGROUND, Layer.STATIC_OBJECTS, BrickGrid.BRICKS_LAYER, Layer.DEFAULT, Layer.UI};
+    /* ball dimensions vector - width and height are equal */
+    private static final Vector2 BALL_DIMENSIONS =
+            new Vector2(GameConstants.BALL_SIZE, GameConstants.BALL_SIZE);
+
+    // =========================== fields =========================== //
+    /* the collection the game objects are added to */
+    private final GameObjectCollection gameObjects;
+    /* source of the images and sounds */
+    private final GameAssets assets;
+    /* keyboard state for the paddles and the cheat key */
+    private final KeyInput input;
+    /* dimensions of the game window */
+    private final Vector2 windowDimensions;
+    /* number of brick columns */
+    private final int brickColumns;
+    /* number of brick rows */
+    private final int brickRows;
+    /* the layout of the bricks - null for a randomly sampled layout */
+    private final Level level;
+    /* counter for remaining bricks - counts the bricks as they are placed */
+    private final Counter brickCounter = new Counter();
+    /* the bricks hit in the current tick, removed at its end */
+    private final BrickRemovals brickRemovals;
+    /* the game's source of randomness */
+    private final GameRandom random;
+    /* the game's event counters */
+    private final GameStats stats = new GameStats();
+    /* the bus of the game's events - dispatched at the end of every update */
+    private final GameEventBus events = new GameEventBus();
+    /* the outcome of the game, set by the game end rules */
+    private GameOutcome outcome = GameOutcome.RUNNING;
+    /* lives manager to handle player lives */
+    private LivesManager livesManager;
+    /* the main ball object */
+    private Ball ball;
+    /* the user's paddle */
+    private Paddle mainPaddle;
+    /* the factory of the bricks' strategies - its strategies are kept when the game starts over */
+    private BricksStrategyFactory strategyFactory;
+    /* draws the bricks from cached images of the grid - null if nothing is drawn (headless) */
+    private CachedBricksRenderable bricksImage;
+    /* the grid of bricks - also resolves the collisions of the balls with the bricks */
+    private BrickGrid brickGrid;
+    /* y coordinate of the top edge of the world - negative for a level taller than the window */
+    private float worldTop = 0;
+    /* the object the camera follows - kept at the center of the view */
+    private GameObject cameraAnchor;
+
+    /**
+     * Constructor for the BrickerGame class.
+     * Nothing is created until initialize is called.
+     *
+     * @param gameObjects      The collection the game objects are added to.
+     * @param assets           Source of the images and sounds.
+     * @param input            Keyboard state for the paddles and the cheat key.
+     * @param windowDimensions Dimensions of the game window.
+     * @param brickColumns     Number of brick columns.
+     * @param brickRows        Number of brick rows.
+     * @param random           The game's source of randomness.
+     */
+    public BrickerGame(GameObjectCollection gameObjects,
+                       GameAssets assets,
+                       KeyInput input,
+                       Vector2 windowDimensions,
+                       int brickColumns,
+                       int brickRows,
+                       GameRandom random) {
+        this(gameObjects, assets, input, windowDimensions, brickColumns, brickRows, null, random);
+    }
+
+    /**
+     * Constructor for the BrickerGame class, for a game on a given level.
+     * The size of the grid and the behavior of each brick are read from the level,
+     * and its empty cells are left without a brick.
+     * Nothing is created until initialize is called.
+     *
+     * @param gameObjects      The collection the game objects are added to.
+     * @param assets           Source of the images and sounds.
+     * @param input            Keyboard state for the paddles and the cheat key.
+     * @param windowDimensions Dimensions of the game window.
+     * @param level            The layout of the bricks.
+     * @param random           The game's source of randomness.
+     */
+    public BrickerGame(GameObjectCollection gameObjects,
+                       GameAssets assets,
+                       KeyInput input,
+                       Vector2 windowDimensions,
+                       Level level,
+                       GameRandom random) {
+        this(gameObjects, assets, input, windowDimensions, level.getColumns(), level.getRows(), level, random);
+    }
+
+    /**
+     * Constructor for the BrickerGame class, shared by the public constructors.
+     *
+     * @param gameObjects      The collection the game objects are added to.
+     * @param assets           Source of the images and sounds.
+     * @param input            Keyboard state for the paddles and the cheat key.
+     * @param windowDimensions Dimensions of the game window.
+     * @param brickColumns     Number of brick columns.
+     * @param brickRows        Number of brick rows.
+     * @param level            The layout of the bricks - null for a randomly sampled layout.
+     * @param random           The game's source of randomness.
+     */
+    private BrickerGame(GameObjectCollection gameObjects,
+                        GameAssets assets,
+                        KeyInput input,
+                        Vector2 windowDimensions,
+                        int brickColumns,
+                        int brickRows,
+                        Level level,
+                        GameRandom random) {
+        this.gameObjects = gameObjects;
+        this.assets = assets;
+        this.input = input;
+        this.windowDimensions = windowDimensions;
+        this.brickColumns = brickColumns;
+        this.brickRows = brickRows;
+        this.level = level;
+        this.random = random;
+        this.brickRemovals = new BrickRemovals(gameObjects, brickCounter, events);
+    }
+
+    /**
+     * Creates the game objects such as the ball, paddle, walls, background,
+     * lives manager, and bricks, and adds them to the game object collection.
+     * Subscribes the game end rules and the event counters to the game's events.
+     */
+    public void initialize() {
+        events.subscribe(this::applyGameEndRules, GameEventType.BALL_LOST, GameEventType.BRICKS_CLEARED);
+        events.subscribe(stats, GameStats.COUNTED_EVENTS);
+        createBrickGrid();
+        createCameraAnchor();
+        createBall();
+        createPaddle();
+        createWall();
+        createBackground();
+        createLives();
+        createBricker();
+    }
+
+    /**
+     * Starts the game over on the objects it already has - a warm reset, instead of creating a new game.
+     * The walls, background, paddles, hearts, balls, strategies and resident bricks are all kept, and
+     * only their state is reset: the random streams are reseeded, the objects the strategies added are
+     * removed, the lives are restored, the grid is filled with the new layout's bricks, and the ball is
+     * served again. The new game plays out as a new game created with the same seed would.
+     *
+     * @param seed The seed of the new game.
+     */
+    public void reset(long seed) {
+        random.reseed(seed);
+        events.clear();
+        stats.reset();
+        outcome = GameOutcome.RUNNING;
+        strategyFactory.reset();
+        livesManager.reset();
+        mainPaddle.setCenter(mainPaddleCenter());
+        serveBall();
+
+        // without a level, the behavior of every brick is sampled again, as in a new game
+        Level layout = level != null ? level : sampleLayout(strategyFactory);
+        brickCounter.reset();
+        brickCounter.increaseBy(brickGrid.repopulate(layout));
+        if (bricksImage != null) {
+            bricksImage.reset();
+        }
+        if (brickCounter.value() <= 0) {
+            events.publish(GameEventType.BRICKS_CLEARED, 0);
+        }
+        cameraAnchor.setCenter(windowDimensions.mult(GameConstants.HALF_FACTOR));
+        showViewRows();
+    }
+
+    /**
+     * Runs the game logic that follows the update of the game objects:
+     * removes the bricks hit during the tick in a single batch,
+     * scrolls the view after the ball and materializes the bricks near it,
+     * resets the brick counter if the 'W' key is pressed, and dispatches the events of the tick -
+     * the game end rules react to a lost ball and to the removal of the last brick.
+     * The collisions of the balls with the bricks were already resolved by the balls as they moved.
+     *
+     * @return The outcome of the game after this update.
+     */
+    public GameOutcome update() {
+        brickRemovals.flush();
+        if (isScrolling()) {
+            updateView();
+        }
+        if (input.isKeyPressed(KeyEvent.VK_W)) {
+            brickCounter.reset();
+            events.publish(GameEventType.BRICKS_CLEARED, 0);
+        }
+        events.dispatch();
+        return outcome;
+    }
+
+    /**
+     * Getter for the number of bricks left in the game.
+     *
+     * @return The value of the brick counter.
+     */
+    public int getRemainingBricks() {
+        return brickCounter.value();
+    }
+
+    /**
+     * Getter for the number of lives the player has left.
+     *
+     * @return The number of lives left.
+     */
+    public int getLives() {
+        return livesManager.getLives();
+    }
+
+    /**
+     * Getter for the game's event counters.
+     *
+     * @return The event counters.
+     */
+    public GameStats getStats() {
+        return stats;
+    }
+
+    /**
+     * Getter for the bus of the game's events, for more subscribers.
+     *
+     * @return The event bus.
+     */
+    public GameEventBus getEvents() {
+        return events;
+    }
+
+    /**
+     * Getter for the grid of bricks of the game.
+     *
+     * @return The grid of bricks.
+     */
+    public BrickGrid getBrickGrid() {
+        return brickGrid;
+    }
+
+    /**
+     * Checks if the level is taller than the window, so the view scrolls after the ball.
+     *
+     * @return True if the view scrolls.
+     */
+    public boolean isScrolling() {
+        return worldTop < 0;
+    }
+
+    /**
+     * Getter for the object the camera follows - its center is the center of the view.
+     *
+     * @return The camera anchor.
+     */
+    public GameObject getCameraAnchor() {
+        return cameraAnchor;
+    }
+
+    /**
+     * Getter for the layers the game's objects are added to, for tools that walk the collection by layer.
+     *
+     * @return A copy of the layers, from the back.
+     */
+    public static int[] getLayers() {
+        return GAME_LAYERS.clone();
+    }
+
+    /**
+     * Moves the view after the ball, within the world, and materializes the bricks near the view.
+     */
+    private void updateView() {
+        float halfHeight = windowDimensions.y() * GameConstants.HALF_FACTOR;
+        float ballY = ball.getTopLeftCorner().y() + BALL_DIMENSIONS.y() * GameConstants.HALF_FACTOR;
+        float centerY = Math.max(worldTop + halfHeight, Math.min(halfHeight, ballY));
+        if (centerY != cameraAnchor.getCenter().y()) {
+            cameraAnchor.setCenter(new Vector2(windowDimensions.x() * GameConstants.HALF_FACTOR, centerY));
+        }
+        brickGrid.showRows(centerY - halfHeight, centerY + halfHeight);
+    }
+
+    /**
+     * The game end rules, subscribed to the lost balls and to the removal of the last brick.
+     * A lost ball takes a life - and if lives are left, the ball is served again, otherwise the game is lost.
+     * Once all bricks are removed the game is won. The first outcome reached is final.
+     *
+     * @param type  The type of the event.
+     * @param value The value of the event - unused by these events.
+     */
+    private void applyGameEndRules(GameEventType type, int value) {
+        if (outcome != GameOutcome.RUNNING) {
+            return;
+        }
+        if (type == GameEventType.BALL_LOST) {
+            this.livesManager.removeLife();
+            // checking if we lost because the ball fell, and we have no lives left
+            if (this.livesManager.getLives() > 0) {
+                serveBall();
+            } else {
+                outcome = GameOutcome.LOST;
+            }
+        } else if (type == GameEventType.BRICKS_CLEARED) {
+            outcome = GameOutcome.WON;
+        }
+    }
+
+    /**
+     * Creates the ball game object, sets its initial position and velocity,
+     * and adds it to the game object collection.
+     */
+    private void createBall() {
+        // creating ball
+        // isTopLeft above defines if we want the left top pixel to be in same color of window
+        Renderable ballImage = assets.readImage(BALL_IMAGE_PATH, true, BALL_DIMENSIONS);
+        SoundEffect collisionSound = assets.readSound(GameConstants.BALL_COLLISION_SOUND);
+        GameObject ball = new Ball(Vector2.ZERO, ballImage, collisionSound, BALL_DIMENSIONS, brickGrid);
+        ball.setVelocity(Vector2.DOWN.mult(GameConstants.BALL_SPEED)); // Down is (0,1)
+        ball.setCenter(windowDimensions.mult(GameConstants.HALF_FACTOR));
+        this.gameObjects.addGameObject(ball, Layer.DEFAULT);
+        this.ball = (Ball) ball;
+        // the ball is lost once its center is below the window
+        this.ball.reportFallsBelow(windowDimensions.y(), events);
+        setRandomBallVelocity(this.ball);
+
+    }
+
+    /**
+     * Creates the paddle game object, sets its initial position,
+     * and adds it to the game object collection.
+     */
+    private void createPaddle() {
+        // initializing local variables
+        Renderable paddleImage = assets.readImage(GameConstants.PADDLE_IMAGE, true, Paddle.PADDLE_DIMENSIONS);
+        // creating the main paddle object - the user's paddle
+        this.mainPaddle = new Paddle(Vector2.ZERO,
+                paddleImage,
+                input,
+                windowDimensions);
+        mainPaddle.setCenter(mainPaddleCenter());
+        mainPaddle.setTag(GameConstants.MAIN_PADDLE_TAG);
+        this.gameObjects.addGameObject(mainPaddle, Layer.DEFAULT);
+        brickGrid.getSolidBodies().add(mainPaddle);
+
+    }
+
+    /**
+     * Gets the center of the main paddle at the start of a game - centered, near the bottom of the window.
+     *
+     * @return The initial center of the main paddle.
+     */
+    private Vector2 mainPaddleCenter() {
+        return new Vector2(windowDimensions.x() * GameConstants.HALF_FACTOR,
+                windowDimensions.y() - PADDLE_OFFSET_FROM_BOTTOM);
+    }
+
+    /**
+     * Creates the walls (left, right, top) game objects and adds them to the game object collection.
+     * The walls are represented as dark gray rectangles. The balls are swept against them, so they
+     * can't pass through them.
+     */
+    private void createWall() {
+        // the walls span the whole world - from its top, which is above the window in a tall level
+        final Vector2[] wallsPositions = {
+                new Vector2(0, worldTop),
+                new Vector2(windowDimensions.x() - RIGHT_WALL_WIDTH + WALL_OVERLAP_CORRECTION, worldTop),
+                new Vector2(0, worldTop)};
+
+        final float worldHeight = windowDimensions.y() - worldTop;
+        final float[][] WALLS_DIMENSIONS = {
+                {LEFT_WALL_WIDTH, worldHeight},
+                {RIGHT_WALL_WIDTH, worldHeight},
+                {windowDimensions.x(), TOP_WALL_HEIGHT}};
+        for (int i = 0; i < wallsPositions.length; i++) {
+            float x = wallsPositions[i].x();
+            float y = wallsPositions[i].y();
+            float width = WALLS_DIMENSIONS[i][0];
+            float height = WALLS_DIMENSIONS[i][1];
+            GameObject wall = new GameObject(new Vector2(x, y),
+                    new Vector2(width, height),
+                    new RectangleRenderable(Color.DARK_GRAY));
+            this.gameObjects.addGameObject(wall, Layer.STATIC_OBJECTS);
+            brickGrid.getSolidBodies().add(wall);
+        }
+    }
+
+    /**
+     * Creates the background game object and adds it to the game object collection.
+     * The background is set to the BACKGROUND layer to ensure it is behind all other objects,
+     * and it stays in place on the screen when the view scrolls.
+     */
+    private void createBackground() {
+        Renderable backgroundImage = assets.readImage(ASSETS_DARK_BG_2_SMALL_JPEG, false, windowDimensions);
+        GameObject background = new GameObject(Vector2.ZERO, windowDimensions, backgroundImage);
+        background.setCoordinateSpace(CoordinateSpace.CAMERA_COORDINATES);
+        // Add with the lowest layer to ensure it is behind everything
+        this.gameObjects.addGameObject(background, Layer.BACKGROUND);
+    }
+
+    /**
+     * Creates the grid of bricks - its geometry, without the bricks yet.
+     * It's created before the balls, which resolve their collisions with the bricks through it.
+     * If the rows leave less than the minimal open space above the paddle, the world is extended
+     * upwards by the missing height.
+     */
+    private void createBrickGrid() {
+        // calculating brick width according to number of bricks in a row
+        float windowSize = windowDimensions.x();
+        float totalPadding = GameConstants.STANDARD_PADDING * (brickColumns + 1);
+        float totalWalls = LEFT_WALL_WIDTH + RIGHT_WALL_WIDTH;
+        float spaceForBricks = windowSize - totalPadding - totalWalls;
+        float brickWidth = spaceForBricks / this.brickColumns;
+
+        float bricksHeight = brickRows * (BRICK_HEIGHT + GameConstants.STANDARD_PADDING);
+        float levelHeight = TOP_WALL_HEIGHT + GameConstants.STANDARD_PADDING + bricksHeight + MIN_OPEN_HEIGHT;
+        this.worldTop = Math.min(0, windowDimensions.y() - levelHeight);
+
+        this.brickGrid = new BrickGrid(brickRows, brickColumns,
+                LEFT_WALL_WIDTH + GameConstants.STANDARD_PADDING,
+                worldTop + TOP_WALL_HEIGHT + GameConstants.STANDARD_PADDING,
+                brickWidth, BRICK_HEIGHT, GameConstants.STANDARD_PADDING, events);
+    }
+
+    /**
+     * Creates the object the camera follows, at the center of the window - the bottom of the world.
+     * It isn't added to the game: the game moves it after the ball in every update.
+     */
+    private void createCameraAnchor() {
+        this.cameraAnchor = new GameObject(Vector2.ZERO, Vector2.ZERO, null);
+        this.cameraAnchor.setCenter(windowDimensions.mult(GameConstants.HALF_FACTOR));
+    }
+
+    /**
+     * Creates the grid of bricks for the game, initializes their positions and collision strategies,
+     * and adds them to the game object collection.
+     * The strategies are read from the level if there is one, otherwise they are sampled at random.
+     * The bricks are created by the brick grid as their rows come near the view - all of them
+     * right away, unless the level is taller than the window.
+     * The bricks are added to the bricks layer, whose collisions are resolved by the brick grid.
+     * They are drawn together, by a single game object covering the grid with its cached image,
+     * so the brick game objects have no renderable of their own.
+     */
+    private void createBricker() {
+        Renderable brickerImage = assets.readImage(BRICK_IMAGE_PATH, false, brickGrid.getBrickDimensions());
+
+        // the bricks are never collided by danogl - the grid resolves their collisions
+        this.gameObjects.layers().shouldLayersCollide(Layer.DEFAULT, BrickGrid.BRICKS_LAYER, false);
+
+        // a single factory for the whole level - it shares the strategy instances between the bricks
+        this.strategyFactory = new BricksStrategyFactory(
+                this.gameObjects,
+                this.brickRemovals,
+                assets,
+                input,
+                brickGrid,
+                this.livesManager,
+                windowDimensions,
+                random,
+                events);
+
+        // without a level, the behavior of every brick is sampled up front into one
+        Level layout = level != null ? level : sampleLayout(strategyFactory);
+
+        // the counter counts all the bricks of the level, created or not
+        brickCounter.increaseBy(brickGrid.populate(layout, strategyFactory,
+                new BricksLayer(brickGrid, gameObjects, null)));
+        createBricksImage(brickerImage);
+        // a level without bricks is cleared from the start
+        if (brickCounter.value() <= 0) {
+            events.publish(GameEventType.BRICKS_CLEARED, 0);
+        }
+        showViewRows();
+    }
+
+    /**
+     * Materializes the bricks of the rows in the view of the camera anchor.
+     */
+    private void showViewRows() {
+        float viewTop = cameraAnchor.getCenter().y() - windowDimensions.y() * GameConstants.HALF_FACTOR;
+        brickGrid.showRows(viewTop, viewTop + windowDimensions.y());
+    }
+
+    /**
+     * Creates the game object that draws all the bricks, from images of the grid cached off screen,
+     * and subscribes it to the destroyed bricks. Nothing is drawn without a brick image (headless).
+     *
+     * @param brickerImage The image of a brick.
+     */
+    private void createBricksImage(Renderable brickerImage) {
+        if (brickerImage == null) {
+            return;
+        }
+        this.bricksImage = new CachedBricksRenderable(brickGrid, brickerImage, windowDimensions.y());
+        events.subscribe(bricksImage, GameEventType.BRICK_DESTROYED);
+        GameObject bricksImageObject =
+                new GameObject(brickGrid.cellTopLeft(0, 0), brickGrid.getGridDimensions(), bricksImage);
+        this.gameObjects.addGameObject(bricksImageObject, BrickGrid.BRICKS_LAYER);
+    }
+
+    /**
+     * Samples the behavior of every brick of a random level.
+     *
+     * @param strategyFactory The factory whose weights the behaviors are sampled by.
+     * @return The sampled level.
+     */
+    private Level sampleLayout(BricksStrategyFactory strategyFactory) {
+        byte[] codes = new byte[brickRows * brickColumns];
+        for (int i = 0; i < codes.length; i++) {
+            codes[i] = strategyFactory.sampleCode();
+        }
+        return new ArrayLevel(brickColumns, brickRows, codes);
+
+    }
+
+    /**
+     * Creates the LivesManager to handle player lives and adds it to the game object collection.
+     */
+    private void createLives() {
+        /* remaining lives location Y coordinate - not constant because it uses windowDimensions */
+        final float remainingLivesLocationY =
+                windowDimensions.y() - (GameConstants.HEART_HEIGHT + GameConstants.STANDARD_PADDING);
+        final Vector2 LIVES_POSITION =
+                new Vector2(REMAINING_LIVES_LOCATION_X, remainingLivesLocationY);
+        this.livesManager = new LivesManager(this.gameObjects, LIVES_POSITION, assets, events);
+
+        // the profiler's overlay goes to the right of the hearts
+        if (FrameProfiler.isOverlayEnabled()) {
+            Vector2 overlayPosition = LIVES_POSITION.add(new Vector2(PROFILER_OVERLAY_OFFSET_X, 0));
+            ProfilerOverlay overlay = new ProfilerOverlay(overlayPosition, PROFILER_OVERLAY_DIMENSIONS);
+            overlay.setCoordinateSpace(CoordinateSpace.CAMERA_COORDINATES);
+            this.gameObjects.addGameObject(overlay, Layer.UI);
+        }
+    }
+
+    /**
+     * Serves the ball - puts it at the center of the window with a random direction.
+     */
+    private void serveBall() {
+        ball.setCenter(windowDimensions.mult(GameConstants.HALF_FACTOR));
+        setRandomBallVelocity(ball);
+    }
+
+    /**
+     * Sets a random initial velocity for the ball in both x and y directions.
+     * The direction is drawn from the game's serves stream.
+     *
+     * @param ball The ball game object
+     */
+    private void setRandomBallVelocity(Ball ball) {
+        float ballVelX = GameConstants.BALL_SPEED;
+        float ballVelY = GameConstants.BALL_SPEED;
+        // randomly choosing the direction of the ball's velocity
+        // Inverting the velocity component with 50% probability for both x and y
+        if (random.serves().nextBoolean()) {
+            ballVelX *= -1;
+        }
+        if (random.serves().nextBoolean()) {
+            ballVelY *= -1;
+        }
+        ball.transform().setVelocityX(ballVelX);
+        ball.transform().setVelocityY(ballVelY);
+    }
+}
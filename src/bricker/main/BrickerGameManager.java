@@ -1,88 +1,90 @@
 package bricker.main;
 
-import bricker.brick_strategies.BricksStrategyFactory;
-import bricker.brick_strategies.CollisionStrategy;
-import bricker.gameobjects.*;
+import bricker.assets.AssetCache;
+import bricker.assets.ReaderAssets;
+import bricker.assets.SoundMixer;
+import bricker.assets.SpriteAtlas;
+import bricker.input.AutopilotInput;
+import bricker.input.InputLog;
+import bricker.input.InputRecorder;
+import bricker.input.KeyInput;
+import bricker.levels.Level;
+import bricker.levels.LevelFiles;
+import bricker.profiling.FramePhase;
+import bricker.profiling.FrameProfiler;
+import bricker.profiling.LifecycleAuditor;
 import danogl.GameManager;
-import danogl.GameObject;
 import danogl.collisions.Layer;
 import danogl.gui.*;
-import danogl.gui.rendering.RectangleRenderable;
-import danogl.gui.rendering.Renderable;
-import danogl.util.Counter;
+import danogl.gui.rendering.Camera;
 import danogl.util.Vector2;
 
-import java.awt.*;
-import java.awt.event.KeyEvent;
-import java.util.Random;
+import java.io.IOException;
+import java.nio.file.Paths;
 
 /**
  * The BrickerGameManager class manages the Bricker game.
- * It initializes game objects, runs it,  handles game updates, and checks for game end conditions.
+ * It runs the game in a window: the game objects and rules are held by a BrickerGame,
+ * and the manager handles the window, the user input and the end of game dialog.
  *
  * @author Amit Tzur and Zohar Mattatia
  */
 public class BrickerGameManager extends GameManager {
     // =========================== private constants =========================== //
-    /* initial string for game prompt */
-    private static final String GAME_STATUS_PROMPT_INIT = "";
     /* string for game prompt */
     private static final String PLAY_AGAIN = " Play again?";
     /* string for game prompt */
     private static final String YOU_WIN = "You win!";
     /* string for game prompt */
     private static final String YOU_LOSE = "You Lose!";
-    /* ball image asset path */
-    private static final String BALL_IMAGE_PATH = "assets/ball.png";
-    /* background image asset path */
-    private static final String ASSETS_DARK_BG_2_SMALL_JPEG = "assets/DARK_BG2_small.jpeg";
-    /* brick image asset path */
-    private static final String BRICK_IMAGE_PATH = "assets/brick.png";
     /* game title */
     private static final String BOUNCING_BALL = "Bouncing Ball";
-    /* paddle offset from bottom of the window */
-    private static final float PADDLE_OFFSET_FROM_BOTTOM = 30;
-    /* left wall width which is its thickness */
-    private static final float LEFT_WALL_WIDTH = 5;
-    /* right wall width which is its thickness */
-    private static final float RIGHT_WALL_WIDTH = 5;
-    /* top wall height which is its thickness */
-    private static final float TOP_WALL_HEIGHT = 5;
-    /* brick height - its thickness */
-    private static final float BRICK_HEIGHT = 15;
-    /* wall overlap correction to calculate the wall's position */
-    private static final float WALL_OVERLAP_CORRECTION = 1;
-    /* remaining lives location X coordinate */
-    private static final float REMAINING_LIVES_LOCATION_X = 20f;
 
 
     /* default number of brick rows */
     private static final int DEFAULT_BRICK_ROWS = 7;
     /* default number of brick columns */
     private static final int DEFAULT_BRICK_COLUMNS = 8;
-    /* strategy sample space for random selection */
-    private static final int STRATEGY_SAMPLE_SPACE = 10;
-    /* ball dimensions vector - width and height are equal */
-    private static final Vector2 BALL_DIMENSIONS =
-            new Vector2(GameConstants.BALL_SIZE, GameConstants.BALL_SIZE);
+    /* index of the optional seed argument - after the columns and rows */
+    private static final int SEED_ARGUMENT_INDEX = 2;
+    /* index of the optional seed argument when a level is given - after the level's path */
+    private static final int LEVEL_SEED_ARGUMENT_INDEX = 1;
+    /* system property holding the path the input of every game is recorded to.
+     A %d in the path is replaced by the number of the game, so every game gets its own file */
+    private static final String RECORD_PROPERTY = "bricker.record";
+    /* maximal number of ball and puck collision sounds playing at once */
+    private static final int COLLISION_SOUND_VOICES = 4;
+    /* maximal number of explosion sounds playing at once */
+    private static final int EXPLOSION_SOUND_VOICES = 2;
+    /* bytes in a megabyte - for the soak run's heap report */
+    private static final long BYTES_IN_MEGABYTE = 1024 * 1024;
 
     // =========================== fields =========================== //
     /* number of brick columns */
     private final int brickColumns;
     /* number of brick rows */
     private final int brickRows;
-    /* counter for remaining bricks */
-    private Counter brickCounter;
-    /* lives manager to handle player lives */
-    private LivesManager livesManager;
-    /* the main ball object */
-    private Ball ball;
+    /* the level played - null for a randomly sampled layout */
+    private final Level level;
+    /* the seed given on the command line, or null to pick a new seed for every game */
+    private final Long seed;
+    /* the game currently played */
+    private BrickerGame game;
+    /* the assets loaded for the game - kept across games, so each asset is read only once.
+     The images drawn at a known size are sprites of its atlas */
+    private SpriteAtlas assets;
+    /* mixes the sounds of the game - plays the sounds triggered in a frame at its end */
+    private SoundMixer mixer;
     /* window controller for managing the game window */
     private WindowController windowController;
-    /* dimensions of the game window */
-    private Vector2 windowDimensions;
-    /* user input listener for handling player input */
-    private UserInputListener inputListener;
+    /* plays the current game instead of the keyboard, or null if the autopilot is off */
+    private AutopilotInput autopilot;
+    /* audits the lifecycle of the current game's objects, or null if the auditor is off */
+    private LifecycleAuditor auditor;
+    /* records the input of the current game, or null if recording is off */
+    private InputRecorder recorder;
+    /* number of games started so far */
+    private int gamesStarted = 0;
 
     /**
      * Constructor for the BrickerGameManager class.
@@ -93,21 +95,61 @@ public class BrickerGameManager extends GameManager {
      * @param windowDimensions Dimensions of the game window
      * @param brickColumns     Number of brick columns
      * @param brickRows        Number of brick rows
+     * @param seed             The seed of the games, or null to pick a new seed for every game
      */
     public BrickerGameManager(String windowTitle,
                               Vector2 windowDimensions,
                               int brickColumns,
-                              int brickRows) {
+                              int brickRows,
+                              Long seed) {
+        this(windowTitle, windowDimensions, brickColumns, brickRows, null, seed);
+    }
+
+    /**
+     * Constructor for the BrickerGameManager class, for games on a given level.
+     * Sets up the game window with the specified title and dimensions.
+     *
+     * @param windowTitle      Title of the game window
+     * @param windowDimensions Dimensions of the game window
+     * @param level            The level played - its size and the behavior of each brick
+     * @param seed             The seed of the games, or null to pick a new seed for every game
+     */
+    public BrickerGameManager(String windowTitle, Vector2 windowDimensions, Level level, Long seed) {
+        this(windowTitle, windowDimensions, level.getColumns(), level.getRows(), level, seed);
+    }
+
+    /**
+     * Constructor for the BrickerGameManager class, shared by the public constructors.
+     *
+     * @param windowTitle      Title of the game window
+     * @param windowDimensions Dimensions of the game window
+     * @param brickColumns     Number of brick columns
+     * @param brickRows        Number of brick rows
+     * @param level            The level played, or null for a randomly sampled layout
+     * @param seed             The seed of the games, or null to pick a new seed for every game
+     */
+    private BrickerGameManager(String windowTitle,
+                               Vector2 windowDimensions,
+                               int brickColumns,
+                               int brickRows,
+                               Level level,
+                               Long seed) {
         super(windowTitle, windowDimensions);
         this.brickColumns = brickColumns;
         this.brickRows = brickRows;
-        this.brickCounter = new Counter(brickRows * brickColumns);
-        this.windowDimensions = windowDimensions;
+        this.level = level;
+        this.seed = seed;
     }
 
     /**
-     * Initializes the game by creating game objects such as the ball, paddle, walls, background,
-     * lives manager, and bricks. Also sets up the input listener and window controller.
+     * Initializes the game by creating a new BrickerGame in the game object collection
+     * of the window. Also sets up the window controller, and the asset cache on the first game.
+     * A seed picked for the game is printed, so the game can be replayed with it - unless the game is
+     * recorded, as its input log holds the seed.
+     * If the bricker.autopilot system property is set, the game is played by the autopilot instead of the
+     * keyboard. If the bricker.record system property is set, the game's input is recorded, and if
+     * the bricker.audit system property is set, the lifecycle of the game's objects is audited.
+     * If the level is taller than the window, the camera follows the game's camera anchor.
      *
      * @param imageReader      ImageReader for loading images
      * @param soundReader      SoundReader for loading sounds
@@ -122,222 +164,193 @@ public class BrickerGameManager extends GameManager {
         super.initializeGame(imageReader, soundReader, inputListener, windowController);
 
         this.windowController = windowController;
-        this.inputListener = inputListener;
-        this.windowDimensions = windowController.getWindowDimensions();
-        this.brickCounter = new Counter(brickRows * brickColumns);
+        if (this.assets == null) {
+            // collisions are frequent and dropped first - an explosion is rarer and always heard
+            this.mixer = new SoundMixer(new ReaderAssets(imageReader, soundReader));
+            mixer.configure(GameConstants.BALL_COLLISION_SOUND, SoundMixer.LOW_PRIORITY, COLLISION_SOUND_VOICES);
+            mixer.configure(GameConstants.EXPLOSION_SOUND, SoundMixer.HIGH_PRIORITY, EXPLOSION_SOUND_VOICES);
+            this.assets = new SpriteAtlas(new AssetCache(mixer));
+        }
+        long gameSeed = nextGameSeed();
+        gamesStarted++;
 
-        createBall(imageReader, soundReader);
-        createPaddle(imageReader, inputListener);
-        createWall();
-        createBackground(imageReader);
-        createLives(imageReader);
-        createBricker(imageReader, soundReader);
-        // resetting extra paddle counter since it's a static counter, and we are starting a new game
-        ExtraPaddle.resetCounter();
+        KeyInput input = inputListener::isKeyPressed;
+        if (Boolean.getBoolean(AutopilotInput.ENABLED_PROPERTY)) {
+            this.autopilot = new AutopilotInput(windowController.getWindowDimensions().x());
+            input = autopilot;
+        }
+        if (System.getProperty(RECORD_PROPERTY) != null) {
+            // the first recorded game also saves its recording if the window is closed mid-game
+            if (this.recorder == null) {
+                Runtime.getRuntime().addShutdownHook(new Thread(this::saveRecording));
+            }
+            this.recorder = new InputRecorder(input, newInputLog(gameSeed));
+            input = recorder;
+        }
+        if (level != null) {
+            this.game = new BrickerGame(this.gameObjects(),
+                    assets,
+                    input,
+                    windowController.getWindowDimensions(),
+                    level,
+                    new GameRandom(gameSeed));
+        } else {
+            this.game = new BrickerGame(this.gameObjects(),
+                    assets,
+                    input,
+                    windowController.getWindowDimensions(),
+                    brickColumns,
+                    brickRows,
+                    new GameRandom(gameSeed));
+        }
+        this.game.initialize();
+        if (LifecycleAuditor.ENABLED) {
+            this.auditor = new LifecycleAuditor(this.gameObjects(), BrickerGame.getLayers());
+        }
+        // the load stage - the sprites the game read are scaled into the atlas before the first frame
+        assets.build();
+
+        Vector2 windowDimensions = windowController.getWindowDimensions();
+        setCamera(game.isScrolling()
+                ? new Camera(game.getCameraAnchor(), Vector2.ZERO, windowDimensions, windowDimensions)
+                : null);
     }
 
     /**
-     * Updates the game state, checks for game end conditions,
-     * and resets the brick counter if the 'W' key is pressed.
+     * Updates the game state and checks for game end conditions.
+     * The sounds triggered during the frame are mixed at its end, and the counters of the mixer and of the
+     * sprite atlas are printed at the end of the game when the frame profiler is on.
+     * The phases of the frame are timed by the frame profiler, when it is on,
+     * and the input of the frame is recorded, when recording is on.
+     * The autopilot picks its keys before they are recorded, and the auditor samples the game objects
+     * after the frame, when they are on.
      *
      * @param deltaTime Time elapsed since the last update
      */
     @Override
     public void update(float deltaTime) {
-        super.update(deltaTime);
-        if (inputListener.isKeyPressed(KeyEvent.VK_W)) {
-            brickCounter.reset();
+        if (autopilot != null) {
+            autopilot.startTick(gameObjects().objectsInLayer(Layer.DEFAULT));
         }
-        checkForGameEnd();
-    }
-
-    /**
-     * Checks for game end conditions such as the ball falling below the window
-     * or all bricks being removed. Displays a prompt to play again or exit the game.
-     */
-    private void checkForGameEnd() {
-        double ballHeight = ball.getCenter().y();
-        String prompt = GAME_STATUS_PROMPT_INIT;
-
-        // checking if a ball fell
-        if (ballHeight > windowDimensions.y()) {
-            this.livesManager.removeLife();
-            int currentLives = this.livesManager.getLives();
-
-            // checking if we lost because the ball fell, and we have no lives left
-            if (currentLives > 0) {
-                ball.setCenter(windowDimensions.mult(GameConstants.HALF_FACTOR));
-                setRandomBallVelocity(ball);
-            } else {
-                prompt = YOU_LOSE;
-            }
+        if (recorder != null) {
+            recorder.startTick(deltaTime);
         }
-
-        // checking if all brick are removed
-        else if (brickCounter.value() <= 0) {
-            prompt = YOU_WIN;
+        FrameProfiler.frameStart();
+        long profileStart = FrameProfiler.phaseStart();
+        super.update(deltaTime);
+        FrameProfiler.phaseEnd(FramePhase.UPDATE, profileStart);
+
+        profileStart = FrameProfiler.phaseStart();
+        GameOutcome outcome = game.update();
+        FrameProfiler.phaseEnd(FramePhase.GAME_RULES, profileStart);
+        mixer.mix(deltaTime);
+        FrameProfiler.frameEnd();
+        if (auditor != null) {
+            auditor.tick();
         }
-
-        // handling the dialog yes/no window
-        if (!prompt.isEmpty()) {
-            prompt += PLAY_AGAIN;
-            if (windowController.openYesNoDialog(prompt))
-                windowController.resetGame();
-            else
-                windowController.closeWindow();
+        if (outcome != GameOutcome.RUNNING) {
+            // the mixer's and the atlas's counters are diagnostics, reported only with the frame profiler
+            if (FrameProfiler.ENABLED) {
+                System.out.println(mixer);
+                System.out.println(assets);
+            }
+            if (auditor != null) {
+                System.out.print(auditor);
+            }
+            saveRecording();
+            promptPlayAgain(outcome);
         }
     }
 
     /**
-     * Creates the ball game object, sets its initial position and velocity,
-     * and adds it to the game object collection.
+     * Gets the seed of the next game - the seed given on the command line, or a new seed.
+     * A new seed is printed, so the game can be replayed with it, unless recording is on - the game's
+     * input log holds its seed.
      *
-     * @param imageReader ImageReader for loading images
-     * @param soundReader SoundReader for loading sounds
+     * @return The seed of the game.
      */
-    private void createBall(ImageReader imageReader,
-                            SoundReader soundReader) {
-        // creating ball
-        // isTopLeft above defines if we want the left top pixel to be in same color of window
-        Renderable ballImage = imageReader.readImage(BALL_IMAGE_PATH, true);
-        Sound collisionSound = soundReader.readSound(GameConstants.BALL_COLLISION_SOUND);
-        GameObject ball = new Ball(Vector2.ZERO, ballImage, collisionSound, BALL_DIMENSIONS);
-        ball.setVelocity(Vector2.DOWN.mult(GameConstants.BALL_SPEED)); // Down is (0,1)
-        ball.setCenter(windowDimensions.mult(GameConstants.HALF_FACTOR));
-        this.gameObjects().addGameObject(ball, Layer.DEFAULT);
-        this.ball = (Ball) ball;
-        setRandomBallVelocity(this.ball);
-
+    private long nextGameSeed() {
+        if (seed != null) {
+            return seed;
+        }
+        long gameSeed = GameRandom.newSeed();
+        if (System.getProperty(RECORD_PROPERTY) == null) {
+            System.out.println("seed: " + gameSeed);
+        }
+        return gameSeed;
     }
 
     /**
-     * Creates the paddle game object, sets its initial position,
-     * and adds it to the game object collection.
+     * Creates an empty input log of a game - with the level's checksum when the games are played on a level,
+     * so the recording is replayed on that level only.
      *
-     * @param imageReader   ImageReader for loading images
-     * @param inputListener UserInputListener for handling player input
+     * @param gameSeed The seed of the game.
+     * @return The input log.
      */
-    private void createPaddle(ImageReader imageReader,
-                              UserInputListener inputListener) {
-        // initializing local variables
-        Renderable paddleImage = imageReader.readImage(GameConstants.PADDLE_IMAGE, true);
-        // creating the main paddle object - the user's paddle
-        Paddle mainPaddle = new Paddle(Vector2.ZERO,
-                paddleImage,
-                inputListener,
-                windowDimensions);
-        mainPaddle.setCenter(new Vector2(windowDimensions.x() * GameConstants.HALF_FACTOR,
-                windowDimensions.y() - PADDLE_OFFSET_FROM_BOTTOM));
-        mainPaddle.setTag(GameConstants.MAIN_PADDLE_TAG);
-        this.gameObjects().addGameObject(mainPaddle, Layer.DEFAULT);
-
+    private InputLog newInputLog(long gameSeed) {
+        Vector2 windowDimensions = windowController.getWindowDimensions();
+        return level != null
+                ? new InputLog(gameSeed, level, windowDimensions)
+                : new InputLog(gameSeed, brickColumns, brickRows, windowDimensions);
     }
 
     /**
-     * Creates the walls (left, right, top) game objects and adds them to the game object collection.
-     * The walls are represented as dark gray rectangles.
+     * Saves the recorded input of the current game, if recording is on.
+     * Also called when the program exits, so a game that was closed mid-game is saved as well.
      */
-    private void createWall() {
-        final Vector2[] wallsPositions = {
-                Vector2.ZERO,
-                new Vector2(windowDimensions.x() - RIGHT_WALL_WIDTH + WALL_OVERLAP_CORRECTION, 0),
-                Vector2.ZERO};
-
-        final float[][] WALLS_DIMENSIONS = {
-                {LEFT_WALL_WIDTH, windowDimensions.y()},
-                {RIGHT_WALL_WIDTH, windowDimensions.y()},
-                {windowDimensions.x(), TOP_WALL_HEIGHT}};
-        for (int i = 0; i < wallsPositions.length; i++) {
-            float x = wallsPositions[i].x();
-            float y = wallsPositions[i].y();
-            float width = WALLS_DIMENSIONS[i][0];
-            float height = WALLS_DIMENSIONS[i][1];
-            GameObject wall = new GameObject(new Vector2(x, y),
-                    new Vector2(width, height),
-                    new RectangleRenderable(Color.DARK_GRAY));
-            this.gameObjects().addGameObject(wall, Layer.STATIC_OBJECTS);
+    private synchronized void saveRecording() {
+        if (recorder == null) {
+            return;
+        }
+        String path = System.getProperty(RECORD_PROPERTY).replace("%d", String.valueOf(gamesStarted));
+        try {
+            recorder.getLog().write(Paths.get(path));
+        } catch (IOException e) {
+            System.err.println("can't save the input recording to " + path + ": " + e);
         }
     }
 
     /**
-     * Creates the background game object and adds it to the game object collection.
-     * The background is set to the BACKGROUND layer to ensure it is behind all other objects.
-     *
-     * @param imageReader ImageReader for loading images
-     */
-    private void createBackground(ImageReader imageReader) {
-        Renderable backgroundImage = imageReader.readImage(ASSETS_DARK_BG_2_SMALL_JPEG, false);
-        GameObject background = new GameObject(Vector2.ZERO, windowDimensions, backgroundImage);
-        // Add with the lowest layer to ensure it is behind everything
-        this.gameObjects().addGameObject(background, Layer.BACKGROUND);
-    }
-
-    /**
-     * Creates the grid of bricks for the game, initializes their positions and collision strategies,
-     * and adds them to the game object collection.
+     * Displays a prompt to play again or exit the game, according to the game's outcome.
+     * A game played by the autopilot is a soak run, so instead the heap in use is printed and a new
+     * game starts right away.
      *
-     * @param imageReader ImageReader for loading images
-     * @param soundReader SoundReader for loading sounds
+     * @param outcome The outcome of the game that ended.
      */
-    private void createBricker(ImageReader imageReader, SoundReader soundReader) {
-        // grid of bricks in the game
-        Brick[][] bricksGrid = new Brick[brickRows][brickColumns];
-
-        // calculating brick width according to number of bricks in a row
-        float windowSize = windowDimensions.x();
-        float totalPadding = GameConstants.STANDARD_PADDING * (brickColumns + 1);
-        float totalWalls = LEFT_WALL_WIDTH + RIGHT_WALL_WIDTH;
-        float spaceForBricks = windowSize - totalPadding - totalWalls;
-        float brickWidth = spaceForBricks / this.brickColumns;
-
-        Renderable brickerImage = imageReader.readImage(BRICK_IMAGE_PATH, false);
-        Vector2 brickDimensions = new Vector2(brickWidth, BRICK_HEIGHT);
-
-        // for each brick in the grid, create it and add it to the game
-        for (int i = 0; i < brickRows; i++) {
-            for (int j = 0; j < brickColumns; j++) {
-                CollisionStrategy collisionStrategy = new BricksStrategyFactory(
-                        this.gameObjects(),
-                        this.brickCounter,
-                        imageReader,
-                        soundReader,
-                        inputListener,
-                        bricksGrid,
-                        this.livesManager,
-                        windowDimensions).getStrategy(STRATEGY_SAMPLE_SPACE);
-
-                // calculating brick position according to its row and column
-                final float x =
-                        (j * brickWidth) + (GameConstants.STANDARD_PADDING * (j + 1)) + LEFT_WALL_WIDTH;
-                final float y =
-                        (i * BRICK_HEIGHT) + (GameConstants.STANDARD_PADDING * (i + 1) + TOP_WALL_HEIGHT);
-                Vector2 brickPosition = new Vector2(x, y);
-
-                Brick brick = new Brick(brickPosition, brickDimensions, brickerImage, collisionStrategy,
-                        new Vector2(i, j));
-                bricksGrid[i][j] = brick;
-                this.gameObjects().addGameObject(brick, Layer.STATIC_OBJECTS);
-
-            }
+    private void promptPlayAgain(GameOutcome outcome) {
+        if (autopilot != null) {
+            Runtime runtime = Runtime.getRuntime();
+            System.out.printf("soak: game %d %s, heap %d MB%n", gamesStarted, outcome,
+                    (runtime.totalMemory() - runtime.freeMemory()) / BYTES_IN_MEGABYTE);
+            restartGame();
+            return;
         }
-
+        String prompt = (outcome == GameOutcome.WON ? YOU_WIN : YOU_LOSE) + PLAY_AGAIN;
+        // handling the dialog yes/no window
+        if (windowController.openYesNoDialog(prompt))
+            restartGame();
+        else
+            windowController.closeWindow();
     }
 
     /**
-     * Creates the LivesManager to handle player lives and adds it to the game object collection.
-     *
-     * @param imageReader ImageReader for loading images
+     * Starts a new game on the objects of the game that ended - a warm reset of its state, instead of
+     * having the window reset the game, which would create all its objects again.
+     * The new game gets its seed, printed as in initializeGame, its own recording when recording is on,
+     * and a fresh audit when the auditor is on.
      */
-    private void createLives(ImageReader imageReader) {
-        /* remaining lives location Y coordinate - not constant because it uses windowDimensions */
-        final float remainingLivesLocationY =
-                windowDimensions.y() - (GameConstants.HEART_HEIGHT + GameConstants.STANDARD_PADDING);
-        final Vector2 LIVES_POSITION =
-                new Vector2(REMAINING_LIVES_LOCATION_X, remainingLivesLocationY);
-        this.livesManager = new LivesManager(this.gameObjects(), LIVES_POSITION, imageReader);
+    private void restartGame() {
+        long gameSeed = nextGameSeed();
+        gamesStarted++;
+        if (recorder != null) {
+            recorder.setLog(newInputLog(gameSeed));
+        }
+        game.reset(gameSeed);
+        if (auditor != null) {
+            auditor.reset();
+        }
     }
 
-
     /**
      * Validates and parses command-line arguments for brick columns and rows.
      * If arguments are not provided, default values are used.
@@ -357,38 +370,52 @@ public class BrickerGameManager extends GameManager {
     }
 
     /**
-     * Sets a random initial velocity for the ball in both x and y directions.
+     * Parses the optional seed argument, which follows the brick columns and rows.
      *
-     * @param ball The ball game object
+     * @param args  Command-line arguments
+     * @param index The index of the seed argument.
+     * @return The seed, or null if it wasn't given.
      */
-    private void setRandomBallVelocity(Ball ball) {
-        double ballVelX = GameConstants.BALL_SPEED;
-        double ballVelY = GameConstants.BALL_SPEED;
-        Random rand = new Random();
-        // randomly choosing the direction of the ball's velocity
-        // Inverting the velocity component with 50% probability for both x and y
-        if (rand.nextBoolean()) {
-            ballVelX *= -1;
+    private static Long parseSeed(String[] args, int index) {
+        if (args.length >= index + 1) {
+            return Long.parseLong(args[index]);
         }
-        if (rand.nextBoolean()) {
-            ballVelY *= -1;
-        }
-        ball.setVelocity((new Vector2((float) ballVelX, (float) ballVelY)));
+        return null;
+    }
+
+    /**
+     * Checks if the first argument is the path of a level file rather than the number of columns.
+     *
+     * @param args Command-line arguments
+     * @return True if a level file is given.
+     */
+    private static boolean isLevelArgument(String[] args) {
+        return args.length >= 1 && !args[0].chars().allMatch(Character::isDigit);
     }
 
     /**
      * The main method to start the Bricker game.
-     * It validates command-line arguments for brick columns and rows,
+     * It validates command-line arguments for brick columns and rows, and the optional seed,
      * initializes the BrickerGameManager, and runs the game.
+     * Instead of the columns and rows, the path of a level file may be given, followed by the optional seed.
      *
      * @param args Command-line arguments
+     * @throws IOException If the level file can't be read.
      */
-    public static void main(String[] args) {
-        int columns = BrickerGameManager.validateArgs(args)[0];
-        int rows = BrickerGameManager.validateArgs(args)[1];
-        BrickerGameManager game = new BrickerGameManager(BOUNCING_BALL,
-                GameConstants.DEFAULT_WINDOW_DIMENSIONS,
-                columns, rows);
+    public static void main(String[] args) throws IOException {
+        BrickerGameManager game;
+        if (isLevelArgument(args)) {
+            Level level = LevelFiles.load(Paths.get(args[0]));
+            game = new BrickerGameManager(BOUNCING_BALL,
+                    GameConstants.DEFAULT_WINDOW_DIMENSIONS,
+                    level, parseSeed(args, LEVEL_SEED_ARGUMENT_INDEX));
+        } else {
+            int columns = BrickerGameManager.validateArgs(args)[0];
+            int rows = BrickerGameManager.validateArgs(args)[1];
+            game = new BrickerGameManager(BOUNCING_BALL,
+                    GameConstants.DEFAULT_WINDOW_DIMENSIONS,
+                    columns, rows, parseSeed(args, SEED_ARGUMENT_INDEX));
+        }
         game.run();
 
     }
@@ -13,6 +13,8 @@ public class GameConstants {
 
     /* blop sound asset path */
     public static final String BALL_COLLISION_SOUND = "assets/blop.wav";
+    /* explosion sound asset path */
+    public static final String EXPLOSION_SOUND = "assets/explosion.wav";
     /* path to the paddle image asset */
     public static final String PADDLE_IMAGE = "assets/paddle.png";
     /* path to the falling hearts and remaining lives image asset */
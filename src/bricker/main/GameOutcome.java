@@ -0,0 +1,15 @@
+package bricker.main;
+
+/**
+ * The state of a game after an update.
+ *
+ * @author Amit Tzur and Zohar Mattatia
+ */
+public enum GameOutcome {
+    /* the game is still being played */
+    RUNNING,
+    /* all the bricks were removed */
+    WON,
+    /* the ball fell and no lives are left */
+    LOST
+}
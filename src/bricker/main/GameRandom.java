@@ -0,0 +1,125 @@
+package bricker.main;
+
+import java.util.Random;
+
+/**
+ * The single source of randomness of a game, created from the game's seed.
+ * It holds a separate random stream for each use - the brick layout, the pucks' angles and the
+ * ball's serves - so that, for example, an extra puck spawned in one run doesn't shift the serves
+ * that follow it. Two games with the same seed and the same input play out the same.
+ * The streams are created once, and reseeded when the game starts over, so drawing a number doesn't
+ * allocate and the holders of a stream keep it across games.
+ *
+ * @author Amit Tzur and Zohar Mattatia
+ */
+public class GameRandom {
+    // =========================== private constants =========================== //
+    /* stream number of the brick layout */
+    private static final int LAYOUT_STREAM = 1;
+    /* stream number of the pucks' angles */
+    private static final int PUCK_ANGLES_STREAM = 2;
+    /* stream number of the ball's serves */
+    private static final int SERVES_STREAM = 3;
+    /* odd constant spreading the stream numbers over the seed space (2^64 / golden ratio) */
+    private static final long STREAM_INCREMENT = 0x9E3779B97F4A7C15L;
+    /* first multiplier of the seed mixing function */
+    private static final long MIX_MULTIPLIER_1 = 0xBF58476D1CE4E5B9L;
+    /* second multiplier of the seed mixing function */
+    private static final long MIX_MULTIPLIER_2 = 0x94D049BB133111EBL;
+
+    // =========================== fields =========================== //
+    /* the seed of the game */
+    private long seed;
+    /* stream of the brick layout */
+    private final Random layout;
+    /* stream of the pucks' angles */
+    private final Random puckAngles;
+    /* stream of the ball's serves */
+    private final Random serves;
+
+    /**
+     * Constructor for GameRandom.
+     *
+     * @param seed The seed of the game.
+     */
+    public GameRandom(long seed) {
+        this.seed = seed;
+        this.layout = new Random(streamSeed(seed, LAYOUT_STREAM));
+        this.puckAngles = new Random(streamSeed(seed, PUCK_ANGLES_STREAM));
+        this.serves = new Random(streamSeed(seed, SERVES_STREAM));
+    }
+
+    /**
+     * Reseeds the streams in place for a new game - they continue exactly as new streams of the seed would.
+     *
+     * @param seed The seed of the new game.
+     */
+    public void reseed(long seed) {
+        this.seed = seed;
+        this.layout.setSeed(streamSeed(seed, LAYOUT_STREAM));
+        this.puckAngles.setSeed(streamSeed(seed, PUCK_ANGLES_STREAM));
+        this.serves.setSeed(streamSeed(seed, SERVES_STREAM));
+    }
+
+    /**
+     * Picks a seed for a game that wasn't given one.
+     *
+     * @return A new seed.
+     */
+    public static long newSeed() {
+        return System.nanoTime() ^ System.currentTimeMillis() * STREAM_INCREMENT;
+    }
+
+    /**
+     * Getter for the seed of the game.
+     *
+     * @return The seed.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Getter for the stream of the brick layout - the bricks' behaviors.
+     *
+     * @return The layout stream.
+     */
+    public Random layout() {
+        return layout;
+    }
+
+    /**
+     * Getter for the stream of the pucks' angles.
+     *
+     * @return The puck angles stream.
+     */
+    public Random puckAngles() {
+        return puckAngles;
+    }
+
+    /**
+     * Getter for the stream of the ball's serves - the directions of the ball at the start
+     * and after a life is lost.
+     *
+     * @return The serves stream.
+     */
+    public Random serves() {
+        return serves;
+    }
+
+    /**
+     * Derives the seed of a stream from the game's seed.
+     * The stream number is spread with an odd constant and mixed (the SplitMix64 finalizer),
+     * so close game seeds and stream numbers give unrelated streams.
+     *
+     * @param seed   The seed of the game.
+     * @param stream The stream number.
+     * @return The seed of the stream.
+     */
+    private static long streamSeed(long seed, int stream) {
+        long mixed = seed + stream * STREAM_INCREMENT;
+        mixed = (mixed ^ (mixed >>> 30)) * MIX_MULTIPLIER_1;
+        mixed = (mixed ^ (mixed >>> 27)) * MIX_MULTIPLIER_2;
+        return mixed ^ (mixed >>> 31);
+    }
+}
@@ -0,0 +1,103 @@
+package bricker.main;
+
+import bricker.events.GameEventListener;
+import bricker.events.GameEventType;
+
+/**
+ * Counters of the events of a single game, for reporting on many games at once.
+ * Each game has its own instance, subscribed to the game's event bus, and updated only by
+ * the thread running the game.
+ *
+ * @author Amit Tzur and Zohar Mattatia
+ */
+public class GameStats implements GameEventListener {
+    // =========================== public constants =========================== //
+    /* the types of the events the counters count */
+    public static final GameEventType[] COUNTED_EVENTS = {
+            GameEventType.PUCK_SPAWNED,
+            GameEventType.BRICK_EXPLODED,
+            GameEventType.BRICK_DESTROYED,
+            GameEventType.LIFE_LOST};
+
+    // =========================== fields =========================== //
+    /* number of pucks spawned */
+    private long pucksSpawned = 0;
+    /* number of exploding bricks that exploded */
+    private long explosions = 0;
+    /* number of bricks removed from the game */
+    private long bricksDestroyed = 0;
+    /* number of lives lost */
+    private long livesLost = 0;
+
+    /**
+     * Counts an event of one of the counted types.
+     *
+     * @param type  The type of the event.
+     * @param value The value of the event.
+     */
+    @Override
+    public void onEvent(GameEventType type, int value) {
+        switch (type) {
+            case PUCK_SPAWNED:
+                pucksSpawned++;
+                break;
+            case BRICK_EXPLODED:
+                explosions++;
+                break;
+            case BRICK_DESTROYED:
+                bricksDestroyed++;
+                break;
+            case LIFE_LOST:
+                livesLost++;
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Zeroes the counters - for a game that starts over.
+     */
+    public void reset() {
+        pucksSpawned = 0;
+        explosions = 0;
+        bricksDestroyed = 0;
+        livesLost = 0;
+    }
+
+    /**
+     * Getter for the number of pucks spawned.
+     *
+     * @return The number of pucks spawned.
+     */
+    public long getPucksSpawned() {
+        return pucksSpawned;
+    }
+
+    /**
+     * Getter for the number of exploding bricks that exploded.
+     *
+     * @return The number of explosions.
+     */
+    public long getExplosions() {
+        return explosions;
+    }
+
+    /**
+     * Getter for the number of bricks removed from the game.
+     *
+     * @return The number of destroyed bricks.
+     */
+    public long getBricksDestroyed() {
+        return bricksDestroyed;
+    }
+
+    /**
+     * Getter for the number of lives lost.
+     *
+     * @return The number of lives lost.
+     */
+    public long getLivesLost() {
+        return livesLost;
+    }
+}
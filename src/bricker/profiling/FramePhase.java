@@ -0,0 +1,23 @@
+package bricker.profiling;
+
+/**
+ * The phases of a frame that the FrameProfiler times.
+ *
+ * @author Amit Tzur and Zohar Mattatia
+ */
+public enum FramePhase {
+    /* updating all the game objects - including danogl's collision detection and the
+     collision handling timed by COLLISIONS */
+    UPDATE,
+    /* handling collisions: the onCollisionEnter of the game objects, the balls' brick collisions
+     and the collision strategies they trigger. Part of UPDATE */
+    COLLISIONS,
+    /* the game rules that follow the update - the cheat key and checking for game end */
+    GAME_RULES,
+    /* the rest of the frame, from the end of its update to the start of the next frame:
+     danogl's rendering and the wait for the frame rate cap. danogl exposes no hook around
+     its rendering, so it is measured as what remains of the frame interval */
+    RENDER,
+    /* the whole frame - the interval between the starts of two consecutive frames */
+    FRAME
+}
@@ -0,0 +1,246 @@
+package bricker.profiling;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Locale;
+
+/**
+ * Times the phases of every frame (see FramePhase) into fixed-size histograms.
+ * The histograms roll over every WINDOW_FRAMES frames: the p50, p99 and maximum of the window
+ * are kept as a summary for the on-screen overlay, and appended as a row to a CSV file if one is set.
+ * <p>
+ * The profiler is switched on with the system property bricker.profiler=true
+ * (bricker.profiler.overlay=true adds the overlay, bricker.profiler.csv=path sets the CSV file).
+ * The property is read once into a static final flag and every static method checks it first,
+ * so when the profiler is off the JIT removes the timing code altogether.
+ * The profiler of a game is the one of the thread running it, so games run in parallel
+ * don't share histograms.
+ *
+ * @author Amit Tzur and Zohar Mattatia
+ */
+public class FrameProfiler {
+    // =========================== public constants =========================== //
+    /* system property switching the profiler on */
+    public static final String ENABLED_PROPERTY = "bricker.profiler";
+    /* system property adding the on-screen overlay */
+    public static final String OVERLAY_PROPERTY = "bricker.profiler.overlay";
+    /* system property holding the path of the CSV file */
+    public static final String CSV_PROPERTY = "bricker.profiler.csv";
+    /* whether the profiler is on - read once, so the disabled checks are constant */
+    public static final boolean ENABLED = Boolean.getBoolean(ENABLED_PROPERTY);
+    /* number of frames in a rolling window of the histograms */
+    public static final int WINDOW_FRAMES = 120;
+
+    // =========================== private constants =========================== //
+    /* percentile of the typical frame */
+    private static final double MEDIAN_PERCENTILE = 50;
+    /* percentile of the slow frames */
+    private static final double TAIL_PERCENTILE = 99;
+    /* nanoseconds in a microsecond - the CSV is in microseconds */
+    private static final double NANOS_IN_MICRO = 1e3;
+    /* nanoseconds in a millisecond - the overlay is in milliseconds */
+    private static final double NANOS_IN_MILLI = 1e6;
+    /* the phases, cached since values() copies the array */
+    private static final FramePhase[] PHASES = FramePhase.values();
+    /* the profiler of each thread */
+    private static final ThreadLocal<FrameProfiler> PROFILERS = ThreadLocal.withInitial(FrameProfiler::new);
+
+    // =========================== fields =========================== //
+    /* the histograms of the current window, by phase */
+    private final LatencyHistogram[] histograms = new LatencyHistogram[PHASES.length];
+    /* the time of each phase in the current frame - a phase may be timed several times in a frame */
+    private final long[] frameNanos = new long[PHASES.length];
+    /* the CSV file, or null if there is none */
+    private Path csvPath;
+    /* the time the last frame started, or 0 before the first frame */
+    private long lastFrameStart = 0;
+    /* the time the last frame's update ended, or 0 before the first frame */
+    private long lastFrameEnd = 0;
+    /* number of frames in the current window */
+    private int framesInWindow = 0;
+    /* the summary of the last complete window */
+    private String summary = "profiling...";
+
+    /**
+     * Constructor for FrameProfiler.
+     * Reads the CSV file path from its system property.
+     */
+    private FrameProfiler() {
+        for (int i = 0; i < histograms.length; i++) {
+            histograms[i] = new LatencyHistogram();
+        }
+        String csv = System.getProperty(CSV_PROPERTY);
+        this.csvPath = csv == null ? null : Paths.get(csv);
+    }
+
+    /**
+     * Gets the profiler of the current thread.
+     *
+     * @return The profiler of the current thread.
+     */
+    public static FrameProfiler current() {
+        return PROFILERS.get();
+    }
+
+    /**
+     * Checks if the on-screen overlay was requested.
+     *
+     * @return True if the profiler and its overlay are on, false otherwise.
+     */
+    public static boolean isOverlayEnabled() {
+        return ENABLED && Boolean.getBoolean(OVERLAY_PROPERTY);
+    }
+
+    /**
+     * Marks the start of a frame - before the game objects are updated.
+     */
+    public static void frameStart() {
+        if (!ENABLED) {
+            return;
+        }
+        current().startFrame(System.nanoTime());
+    }
+
+    /**
+     * Marks the end of a frame's update - after the game rules ran.
+     */
+    public static void frameEnd() {
+        if (!ENABLED) {
+            return;
+        }
+        current().endFrame(System.nanoTime());
+    }
+
+    /**
+     * Gets the start time of a timed phase. To be passed to phaseEnd.
+     *
+     * @return The current time, or 0 if the profiler is off.
+     */
+    public static long phaseStart() {
+        return ENABLED ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Adds the time since phaseStart to a phase of the current frame.
+     *
+     * @param phase The timed phase.
+     * @param start The value returned by phaseStart.
+     */
+    public static void phaseEnd(FramePhase phase, long start) {
+        if (!ENABLED) {
+            return;
+        }
+        current().frameNanos[phase.ordinal()] += System.nanoTime() - start;
+    }
+
+    /**
+     * Getter for the summary of the last complete window - the p50 and p99 of every phase.
+     *
+     * @return The summary.
+     */
+    public String getSummary() {
+        return summary;
+    }
+
+    /**
+     * Getter for the histogram of a phase in the current window.
+     *
+     * @param phase The phase.
+     * @return The histogram of the phase.
+     */
+    public LatencyHistogram getHistogram(FramePhase phase) {
+        return histograms[phase.ordinal()];
+    }
+
+    /**
+     * Starts a frame: the time since the last frame's update ended is what the rendering took.
+     *
+     * @param now The current time.
+     */
+    private void startFrame(long now) {
+        if (lastFrameEnd != 0) {
+            histograms[FramePhase.RENDER.ordinal()].record(now - lastFrameEnd);
+            histograms[FramePhase.FRAME.ordinal()].record(now - lastFrameStart);
+        }
+        lastFrameStart = now;
+    }
+
+    /**
+     * Ends a frame's update: records its timed phases, and rolls the window over if it is full.
+     *
+     * @param now The current time.
+     */
+    private void endFrame(long now) {
+        for (FramePhase phase : PHASES) {
+            if (phase == FramePhase.RENDER || phase == FramePhase.FRAME) {
+                continue;
+            }
+            histograms[phase.ordinal()].record(frameNanos[phase.ordinal()]);
+            frameNanos[phase.ordinal()] = 0;
+        }
+        lastFrameEnd = now;
+        framesInWindow++;
+        if (framesInWindow >= WINDOW_FRAMES) {
+            rollWindow();
+        }
+    }
+
+    /**
+     * Ends the current window: keeps its summary, appends it to the CSV file and clears the histograms.
+     */
+    private void rollWindow() {
+        StringBuilder builder = new StringBuilder();
+        for (FramePhase phase : PHASES) {
+            LatencyHistogram histogram = histograms[phase.ordinal()];
+            builder.append(String.format(Locale.ROOT, "%s %.2f/%.2f  ", phase.name().toLowerCase(Locale.ROOT),
+                    histogram.getPercentile(MEDIAN_PERCENTILE) / NANOS_IN_MILLI,
+                    histogram.getPercentile(TAIL_PERCENTILE) / NANOS_IN_MILLI));
+        }
+        summary = builder.append("ms (p50/p99)").toString();
+        if (csvPath != null) {
+            appendCsvRow();
+        }
+        for (LatencyHistogram histogram : histograms) {
+            histogram.reset();
+        }
+        framesInWindow = 0;
+    }
+
+    /**
+     * Appends the current window to the CSV file, writing the header first if the file is new.
+     * If the file can't be written, the CSV export is stopped.
+     */
+    private void appendCsvRow() {
+        boolean isNewFile = !Files.exists(csvPath);
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(csvPath, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND))) {
+            if (isNewFile) {
+                StringBuilder header = new StringBuilder("timeMillis,frames");
+                for (FramePhase phase : PHASES) {
+                    header.append(',').append(phase).append("_p50_us")
+                            .append(',').append(phase).append("_p99_us")
+                            .append(',').append(phase).append("_max_us");
+                }
+                writer.println(header);
+            }
+            StringBuilder row = new StringBuilder();
+            row.append(System.currentTimeMillis()).append(',').append(framesInWindow);
+            for (FramePhase phase : PHASES) {
+                LatencyHistogram histogram = histograms[phase.ordinal()];
+                row.append(String.format(Locale.ROOT, ",%.1f,%.1f,%.1f",
+                        histogram.getPercentile(MEDIAN_PERCENTILE) / NANOS_IN_MICRO,
+                        histogram.getPercentile(TAIL_PERCENTILE) / NANOS_IN_MICRO,
+                        histogram.getMax() / NANOS_IN_MICRO));
+            }
+            writer.println(row);
+        } catch (IOException e) {
+            System.err.println("frame profiler: can't write " + csvPath + ", CSV export stopped: " + e);
+            csvPath = null;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package bricker.profiling;
+
+import java.util.Arrays;
+
+/**
+ * A fixed-size histogram of durations in nanoseconds, for reporting percentiles.
+ * The buckets are log-linear: every power of two is split into 16 equal buckets, so a recorded
+ * duration is reported with an error of at most 1/16 (about 6%), from nanoseconds to minutes,
+ * in less than a thousand counters. Recording is a few arithmetic operations and doesn't allocate.
+ *
+ * @author Amit Tzur and Zohar Mattatia
+ */
+public class LatencyHistogram {
+    // =========================== private constants =========================== //
+    /* log2 of the number of buckets each power of two is split into */
+    private static final int SUB_BUCKET_BITS = 4;
+    /* number of buckets each power of two is split into */
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    /* number of bits in a long */
+    private static final int LONG_BITS = 64;
+    /* number of buckets - the values below SUB_BUCKETS have a bucket each,
+     and every power of two above them has SUB_BUCKETS buckets */
+    private static final int BUCKETS = (LONG_BITS - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+
+    // =========================== fields =========================== //
+    /* number of recorded durations in each bucket */
+    private final long[] counts = new long[BUCKETS];
+    /* number of recorded durations */
+    private long totalCount = 0;
+    /* the longest recorded duration */
+    private long max = 0;
+
+    /**
+     * Records a duration.
+     *
+     * @param nanos The duration in nanoseconds - negative durations are recorded as 0.
+     */
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        counts[bucketOf(value)]++;
+        totalCount++;
+        max = Math.max(max, value);
+    }
+
+    /**
+     * Gets the duration at a percentile of the recorded durations.
+     *
+     * @param percentile The percentile, between 0 and 100.
+     * @return The upper bound of the bucket holding the percentile (never above the maximum),
+     * or 0 if nothing was recorded.
+     */
+    public long getPercentile(double percentile) {
+        if (totalCount == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * totalCount));
+        long seen = 0;
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            seen += counts[bucket];
+            if (seen >= rank) {
+                return Math.min(max, upperBoundOf(bucket));
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Getter for the longest recorded duration.
+     *
+     * @return The longest duration in nanoseconds, or 0 if nothing was recorded.
+     */
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * Getter for the number of recorded durations.
+     *
+     * @return The number of recorded durations.
+     */
+    public long getCount() {
+        return totalCount;
+    }
+
+    /**
+     * Clears all the recorded durations.
+     */
+    public void reset() {
+        Arrays.fill(counts, 0);
+        totalCount = 0;
+        max = 0;
+    }
+
+    /**
+     * Gets the bucket of a duration.
+     *
+     * @param value The non-negative duration.
+     * @return The index of its bucket.
+     */
+    private static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int magnitude = LONG_BITS - 1 - Long.numberOfLeadingZeros(value);
+        int shift = magnitude - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) & (SUB_BUCKETS - 1);
+        return (shift + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * Gets the largest duration that falls in a bucket.
+     *
+     * @param bucket The index of the bucket.
+     * @return The largest duration of the bucket.
+     */
+    private static long upperBoundOf(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int shift = bucket / SUB_BUCKETS - 1;
+        long subBucket = bucket % SUB_BUCKETS;
+        long lowerBound = (SUB_BUCKETS + subBucket) << shift;
+        return lowerBound + (1L << shift) - 1;
+    }
+}
@@ -0,0 +1,171 @@
+package bricker.profiling;
+
+import danogl.GameObject;
+import danogl.collisions.GameObjectCollection;
+import danogl.util.Vector2;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Audits the lifecycle of the game objects, to catch objects that are never removed.
+ * The transient objects remove themselves under their own rules - a puck once it falls below the window,
+ * a heart once it falls out of it, an extra paddle once it was hit enough - so a puck bouncing
+ * sideways forever, or an extra paddle that is never hit, stays in the collection for good.
+ * Every SAMPLE_TICKS ticks the auditor counts the live objects of every layer and of every type,
+ * and the tick each object was first seen at. Pucks and hearts are reused from pools, and the extra paddle
+ * is one object turned on and off, so an object is born again whenever it was missing from the previous
+ * sample - only the objects of the last sample are remembered, so the audit never keeps a removed object
+ * alive for more than a sample. An object removed and added back between two samples counts as a survivor.
+ * A type whose population only grew over the last GROWTH_SAMPLES samples is flagged, with a warning when
+ * it first is, and the report lists every type with its oldest survivor.
+ * <p>
+ * The auditor is switched on with the system property bricker.audit=true.
+ *
+ * @author Amit Tzur and Zohar Mattatia
+ */
+public class LifecycleAuditor {
+    // =========================== public constants =========================== //
+    /* system property switching the auditor on */
+    public static final String ENABLED_PROPERTY = "bricker.audit";
+    /* whether the auditor is on - read once, at startup */
+    public static final boolean ENABLED = Boolean.getBoolean(ENABLED_PROPERTY);
+
+    // =========================== private constants =========================== //
+    /* number of ticks between two samples - a second at 60 fps */
+    private static final int SAMPLE_TICKS = 60;
+    /* number of samples a population must grow through to be flagged */
+    private static final int GROWTH_SAMPLES = 10;
+
+    // =========================== fields =========================== //
+    /* the audited collection */
+    private final GameObjectCollection gameObjects;
+    /* the audited layers of the collection */
+    private final int[] layers;
+    /* the live count of each layer, in the last sample - matching layers */
+    private final int[] layerCounts;
+    /* the largest count of each layer - matching layers */
+    private final int[] layerPeaks;
+    /* the birth tick of every object of the last sample - by identity, as game objects are reused */
+    private Map<GameObject, Long> birthTicks = new IdentityHashMap<>();
+    /* the birth tick of every object of the sample in progress - swapped with birthTicks at its end */
+    private Map<GameObject, Long> sampleBirthTicks = new IdentityHashMap<>();
+    /* the population of every type seen, in the order they were first seen */
+    private final Map<Class<?>, TypeCensus> censusByType = new LinkedHashMap<>();
+    /* number of ticks audited */
+    private long ticks = 0;
+
+    /**
+     * Constructor for LifecycleAuditor.
+     *
+     * @param gameObjects The audited collection.
+     * @param layers      The audited layers of the collection.
+     */
+    public LifecycleAuditor(GameObjectCollection gameObjects, int... layers) {
+        this.gameObjects = gameObjects;
+        this.layers = layers.clone();
+        this.layerCounts = new int[layers.length];
+        this.layerPeaks = new int[layers.length];
+    }
+
+    /**
+     * Counts a tick, and samples the collection every SAMPLE_TICKS ticks.
+     * Called once at the end of every frame.
+     */
+    public void tick() {
+        ticks++;
+        if (ticks % SAMPLE_TICKS == 0) {
+            sample();
+        }
+    }
+
+    /**
+     * Samples the collection: counts the live objects of every layer and type, and warns about the
+     * types that just started to only grow.
+     */
+    public void sample() {
+        for (TypeCensus census : censusByType.values()) {
+            census.startSample();
+        }
+        for (int i = 0; i < layers.length; i++) {
+            int count = 0;
+            for (GameObject gameObject : gameObjects.objectsInLayer(layers[i])) {
+                count++;
+                countObject(gameObject);
+            }
+            layerCounts[i] = count;
+            layerPeaks[i] = Math.max(layerPeaks[i], count);
+        }
+        // the objects missing from this sample are forgotten, and born again if they come back
+        Map<GameObject, Long> previousBirthTicks = birthTicks;
+        birthTicks = sampleBirthTicks;
+        sampleBirthTicks = previousBirthTicks;
+        sampleBirthTicks.clear();
+        for (TypeCensus census : censusByType.values()) {
+            boolean wasGrowing = census.isGrowing();
+            census.endSample();
+            if (census.isGrowing() && !wasGrowing) {
+                System.err.printf("audit: %s only grew over the last %d samples, from %d to %d%n",
+                        census.getTypeName(), GROWTH_SAMPLES, census.getWindowStartCount(), census.getCount());
+            }
+        }
+    }
+
+    /**
+     * Forgets everything audited so far, for a game that starts over on the same objects - the bricks and
+     * paddles it keeps are born again with it.
+     */
+    public void reset() {
+        birthTicks.clear();
+        sampleBirthTicks.clear();
+        censusByType.clear();
+        Arrays.fill(layerCounts, 0);
+        Arrays.fill(layerPeaks, 0);
+        ticks = 0;
+    }
+
+    /**
+     * Returns a report of the last sample - the live count of every layer, and of every type with its
+     * oldest survivor.
+     *
+     * @return The report string, one line per layer and type.
+     */
+    @Override
+    public String toString() {
+        StringBuilder report = new StringBuilder(String.format("audit: tick %d%n", ticks));
+        for (int i = 0; i < layers.length; i++) {
+            report.append(String.format("  layer %d: %d (peak %d)%n", layers[i], layerCounts[i], layerPeaks[i]));
+        }
+        for (TypeCensus census : censusByType.values()) {
+            report.append("  ").append(census.report(ticks)).append(System.lineSeparator());
+        }
+        return report.toString();
+    }
+
+    /**
+     * Counts a live object in the census of its type, with the birth tick it had in the previous sample,
+     * or the current tick if it was not in it.
+     *
+     * @param gameObject The live object.
+     */
+    private void countObject(GameObject gameObject) {
+        Long birthTick = birthTicks.get(gameObject);
+        if (birthTick == null) {
+            birthTick = ticks;
+        }
+        sampleBirthTicks.put(gameObject, birthTick);
+        Class<?> type = gameObject.getClass();
+        TypeCensus census = censusByType.get(type);
+        if (census == null) {
+            // anonymous classes have no simple name
+            String name = type.getSimpleName().isEmpty() ? type.getName() : type.getSimpleName();
+            census = new TypeCensus(name, GROWTH_SAMPLES);
+            census.startSample();
+            censusByType.put(type, census);
+        }
+        Vector2 topLeft = gameObject.getTopLeftCorner();
+        census.count(birthTick, topLeft.x(), topLeft.y());
+    }
+}
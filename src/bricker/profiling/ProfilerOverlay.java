@@ -0,0 +1,52 @@
+package bricker.profiling;
+
+import danogl.GameObject;
+import danogl.gui.rendering.TextRenderable;
+import danogl.util.Vector2;
+
+import java.awt.*;
+
+/**
+ * An on-screen line of text showing the frame profiler's summary of the last window.
+ * Meant for the UI layer, next to the lives display. The text is replaced only when a new
+ * window's summary is ready, not on every frame.
+ *
+ * @author Amit Tzur and Zohar Mattatia
+ */
+public class ProfilerOverlay extends GameObject {
+    //============================ fields =========================== //
+    /* the text of the overlay */
+    private final TextRenderable textRenderable;
+    /* the summary currently shown */
+    private String shownSummary;
+
+    /**
+     * Constructor for ProfilerOverlay.
+     *
+     * @param topLeftCorner The top-left corner of the overlay.
+     * @param dimensions    The dimensions of the overlay's text.
+     */
+    public ProfilerOverlay(Vector2 topLeftCorner, Vector2 dimensions) {
+        super(topLeftCorner, dimensions, null);
+        this.shownSummary = FrameProfiler.current().getSummary();
+        this.textRenderable = new TextRenderable(shownSummary);
+        this.textRenderable.setColor(Color.WHITE);
+        renderer().setRenderable(textRenderable);
+    }
+
+    /**
+     * Updates the overlay's text if the profiler has a new summary.
+     *
+     * @param deltaTime The time elapsed since the last update.
+     */
+    @Override
+    public void update(float deltaTime) {
+        super.update(deltaTime);
+        String summary = FrameProfiler.current().getSummary();
+        // the summary is replaced by a new string only when a window rolls over
+        if (summary != shownSummary) {
+            shownSummary = summary;
+            textRenderable.setString(summary);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package bricker.profiling;
+
+/**
+ * The live population of one game object type over the samples of a lifecycle auditor.
+ * Keeps the count of the last samples in a ring, to tell whether the population only grows,
+ * and the oldest instance alive in the last sample.
+ *
+ * @author Amit Tzur and Zohar Mattatia
+ */
+class TypeCensus {
+    // =========================== fields =========================== //
+    /* the name of the type */
+    private final String typeName;
+    /* the counts of the last samples, as a ring - the oldest count is overwritten */
+    private final int[] history;
+    /* number of samples taken of the type */
+    private long samples = 0;
+    /* the count of the sample in progress */
+    private int count = 0;
+    /* the largest count of a sample */
+    private int peak = 0;
+    /* the birth tick of the oldest instance of the sample in progress, or of the last sample */
+    private long oldestBirthTick = Long.MAX_VALUE;
+    /* the left edge of the oldest instance, when it was sampled */
+    private float oldestX = 0;
+    /* the top edge of the oldest instance, when it was sampled */
+    private float oldestY = 0;
+
+    /**
+     * Constructor for TypeCensus.
+     *
+     * @param typeName      The name of the type.
+     * @param growthSamples Number of samples a population must grow through to be growing.
+     */
+    TypeCensus(String typeName, int growthSamples) {
+        this.typeName = typeName;
+        this.history = new int[growthSamples];
+    }
+
+    /**
+     * Starts a sample - no instance is counted yet.
+     */
+    void startSample() {
+        count = 0;
+        oldestBirthTick = Long.MAX_VALUE;
+    }
+
+    /**
+     * Counts a live instance in the sample in progress.
+     *
+     * @param birthTick The tick the instance was first seen at.
+     * @param x         The left edge of the instance.
+     * @param y         The top edge of the instance.
+     */
+    void count(long birthTick, float x, float y) {
+        count++;
+        if (birthTick < oldestBirthTick) {
+            oldestBirthTick = birthTick;
+            oldestX = x;
+            oldestY = y;
+        }
+    }
+
+    /**
+     * Ends the sample in progress, adding its count to the history.
+     */
+    void endSample() {
+        history[(int) (samples % history.length)] = count;
+        samples++;
+        peak = Math.max(peak, count);
+    }
+
+    /**
+     * Checks if the population only grew over the last samples: it never shrank from one sample to the
+     * next, and the last sample has more instances than the first.
+     *
+     * @return True if the population is growing, false otherwise or before enough samples were taken.
+     */
+    boolean isGrowing() {
+        if (samples < history.length) {
+            return false;
+        }
+        int first = (int) (samples % history.length);
+        int previous = history[first];
+        for (int i = 1; i < history.length; i++) {
+            int current = history[(first + i) % history.length];
+            if (current < previous) {
+                return false;
+            }
+            previous = current;
+        }
+        return previous > history[first];
+    }
+
+    /**
+     * Getter for the name of the type.
+     *
+     * @return The name of the type.
+     */
+    String getTypeName() {
+        return typeName;
+    }
+
+    /**
+     * Getter for the count of the last sample.
+     *
+     * @return The number of live instances.
+     */
+    int getCount() {
+        return count;
+    }
+
+    /**
+     * Getter for the count of the sample taken growthSamples samples ago - the start of the growth window.
+     *
+     * @return The number of live instances then.
+     */
+    int getWindowStartCount() {
+        return history[(int) (samples % history.length)];
+    }
+
+    /**
+     * Returns a one line report of the population, with its oldest instance.
+     *
+     * @param tick The current tick - the ages are measured to it.
+     * @return The report string.
+     */
+    String report(long tick) {
+        if (count == 0) {
+            return String.format("%s: 0 (peak %d)", typeName, peak);
+        }
+        return String.format("%s: %d (peak %d), oldest %d ticks at (%.0f, %.0f)%s",
+                typeName, count, peak, tick - oldestBirthTick, oldestX, oldestY,
+                isGrowing() ? " GROWING" : "");
+    }
+}
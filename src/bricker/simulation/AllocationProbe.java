@@ -0,0 +1,194 @@
+package bricker.simulation;
+
+import bricker.input.KeyInput;
+import bricker.main.BrickerGame;
+import bricker.main.GameOutcome;
+import danogl.GameObject;
+import danogl.collisions.GameObjectCollection;
+
+import java.awt.event.KeyEvent;
+import java.lang.management.ManagementFactory;
+
+/**
+ * Measures the bytes allocated per tick on the update path of the game.
+ * Runs headless games and measures every tick with the JVM's per-thread allocation counter.
+ * The ticks that add objects to the game or serve the ball - spawned pucks, dropped hearts, an activated
+ * extra paddle, a lost or gained life - are expected to allocate and are skipped. Every other tick is
+ * measured, including the ticks where the ball bounces off a brick and removes it, whose average is
+ * also reported on its own.
+ * danogl's vectors are immutable and it creates a collision object per contact, so even the steady
+ * path allocates a little: the probe only gates the allocations when it is given a budget - measured
+ * on the same JVM and danogl version - and exits with status 1 if the average is above it,
+ * so it can gate a build or a soak run.
+ *
+ * @author Amit Tzur and Zohar Mattatia
+ */
+public class AllocationProbe {
+    // =========================== private constants =========================== //
+    /* default number of brick columns */
+    private static final int DEFAULT_BRICK_COLUMNS = 8;
+    /* default number of brick rows */
+    private static final int DEFAULT_BRICK_ROWS = 7;
+    /* ticks run before measuring, so the JIT compiles the update path */
+    private static final int WARMUP_TICKS = 50_000;
+    /* ticks to measure */
+    private static final int MEASURED_TICKS = 20_000;
+    /* exit status when the budget is exceeded */
+    private static final int FAILURE_EXIT_STATUS = 1;
+
+    // =========================== fields =========================== //
+    /* the JVM's thread bean, which counts the bytes allocated by each thread */
+    private final com.sun.management.ThreadMXBean threadBean =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    /* number of brick columns of the probed games */
+    private final int brickColumns;
+    /* number of brick rows of the probed games */
+    private final int brickRows;
+    /* the currently probed game - replaced when it ends */
+    private HeadlessSimulation simulation;
+    /* the seed of the next probed game */
+    private long nextSeed = 0;
+    /* number of measured ticks where a brick was removed, in the last measure */
+    private int brickTicks = 0;
+    /* bytes allocated by the measured ticks where a brick was removed, in the last measure */
+    private long brickTickBytes = 0;
+
+    /**
+     * Constructor for AllocationProbe.
+     *
+     * @param brickColumns Number of brick columns of the probed games.
+     * @param brickRows    Number of brick rows of the probed games.
+     */
+    public AllocationProbe(int brickColumns, int brickRows) {
+        this.brickColumns = brickColumns;
+        this.brickRows = brickRows;
+        this.simulation = newSimulation();
+    }
+
+    /**
+     * Measures the average bytes allocated per tick, skipping the ticks that add objects or serve the ball.
+     *
+     * @param warmupTicks   Ticks to run before measuring.
+     * @param measuredTicks Ticks to measure.
+     * @return The average number of bytes allocated per measured tick.
+     */
+    public double measureBytesPerTick(int warmupTicks, int measuredTicks) {
+        for (int i = 0; i < warmupTicks; i++) {
+            nextTick();
+        }
+        long totalBytes = 0;
+        int counted = 0;
+        brickTicks = 0;
+        brickTickBytes = 0;
+        while (counted < measuredTicks) {
+            BrickerGame game = simulation.getGame();
+            int bricksBefore = game.getRemainingBricks();
+            int livesBefore = game.getLives();
+            long pucksBefore = game.getStats().getPucksSpawned();
+            int objectsBefore = countObjects();
+
+            long before = threadBean.getCurrentThreadAllocatedBytes();
+            GameOutcome outcome = simulation.tick();
+            long allocated = threadBean.getCurrentThreadAllocatedBytes() - before;
+
+            if (outcome != GameOutcome.RUNNING) {
+                simulation = newSimulation();
+                continue;
+            }
+            boolean isSpawnOrServe = game.getLives() != livesBefore
+                    || game.getStats().getPucksSpawned() != pucksBefore
+                    || countObjects() > objectsBefore;
+            if (isSpawnOrServe) {
+                continue;
+            }
+            totalBytes += allocated;
+            counted++;
+            if (game.getRemainingBricks() != bricksBefore) {
+                brickTicks++;
+                brickTickBytes += allocated;
+            }
+        }
+        return (double) totalBytes / counted;
+    }
+
+    /**
+     * Getter for the number of measured ticks where a brick was removed, in the last measure.
+     *
+     * @return The number of brick ticks.
+     */
+    public int getBrickTicks() {
+        return brickTicks;
+    }
+
+    /**
+     * Getter for the average bytes allocated by the measured ticks where a brick was removed,
+     * in the last measure.
+     *
+     * @return The average number of bytes, or 0 if no brick was removed.
+     */
+    public double getBytesPerBrickTick() {
+        return brickTicks == 0 ? 0 : (double) brickTickBytes / brickTicks;
+    }
+
+    /**
+     * Runs a single unmeasured tick, starting a new game if the current one ended.
+     */
+    private void nextTick() {
+        if (simulation.tick() != GameOutcome.RUNNING) {
+            simulation = newSimulation();
+        }
+    }
+
+    /**
+     * Counts the objects of the current game, in all its layers. Called outside the measured window.
+     *
+     * @return The number of game objects.
+     */
+    private int countObjects() {
+        GameObjectCollection gameObjects = simulation.getGameObjects();
+        int count = 0;
+        for (int layer : BrickerGame.getLayers()) {
+            for (GameObject ignored : gameObjects.objectsInLayer(layer)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Creates a new probed game. The left key is held down, so the paddle's movement
+     * and edge handling are part of the measured path.
+     *
+     * @return The new simulation.
+     */
+    private HeadlessSimulation newSimulation() {
+        KeyInput holdLeft = keyCode -> keyCode == KeyEvent.VK_LEFT;
+        return new HeadlessSimulation(brickColumns, brickRows, holdLeft,
+                HeadlessSimulation.DEFAULT_DELTA_TIME, nextSeed++);
+    }
+
+    /**
+     * Runs the probe, and fails if a budget is given and the measured ticks allocate above it.
+     * Arguments (all optional): brick columns, brick rows, allowed bytes per tick.
+     *
+     * @param args Command-line arguments
+     */
+    public static void main(String[] args) {
+        int columns = args.length >= 2 ? Integer.parseInt(args[0]) : DEFAULT_BRICK_COLUMNS;
+        int rows = args.length >= 2 ? Integer.parseInt(args[1]) : DEFAULT_BRICK_ROWS;
+
+        AllocationProbe probe = new AllocationProbe(columns, rows);
+        double bytesPerTick = probe.measureBytesPerTick(WARMUP_TICKS, MEASURED_TICKS);
+        System.out.printf("bytesPerTick=%.1f bytesPerBrickTick=%.1f (%d brick ticks)%n",
+                bytesPerTick, probe.getBytesPerBrickTick(), probe.getBrickTicks());
+        if (args.length < 3) {
+            return;
+        }
+        long budget = Long.parseLong(args[2]);
+        System.out.printf("budget=%d%n", budget);
+        if (bytesPerTick > budget) {
+            System.out.println("FAILED: the update path allocates above the budget");
+            System.exit(FAILURE_EXIT_STATUS);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package bricker.simulation;
+
+import bricker.input.KeyInput;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Runs many independent headless games in parallel, across all the cores, and aggregates their statistics.
+ * Game i is played with the seed baseSeed + i and with the grid size i (cyclically) of the given sizes,
+ * so a batch is reproducible, and any single game of it can be replayed alone by its seed.
+ * Every game owns all of its state - its game object collection, random source, counters and pools -
+ * so the games don't interfere with each other, and the throughput grows with the number of cores.
+ *
+ * @author Amit Tzur and Zohar Mattatia
+ */
+public class BatchRunner {
+    // =========================== private constants =========================== //
+    /* default number of games */
+    private static final int DEFAULT_GAMES = 1000;
+    /* default grid sizes, as columns x rows separated by commas */
+    private static final String DEFAULT_GRID_SIZES = "8x7";
+    /* default maximal number of ticks of a game */
+    private static final long DEFAULT_MAX_TICKS = 100_000;
+    /* default seed of the first game */
+    private static final long DEFAULT_BASE_SEED = 1;
+    /* separator of the grid sizes */
+    private static final String GRID_SIZES_SEPARATOR = ",";
+    /* separator of the columns and rows of a grid size */
+    private static final String GRID_SIZE_SEPARATOR = "x";
+    /* nanoseconds in a second - for the throughput report */
+    private static final double NANOS_IN_SECOND = 1e9;
+
+    // =========================== fields =========================== //
+    /* the grid sizes of the games, as {columns, rows} */
+    private final int[][] gridSizes;
+    /* maximal number of ticks of a game */
+    private final long maxTicks;
+    /* seed of the first game */
+    private final long baseSeed;
+
+    /**
+     * Constructor for BatchRunner.
+     *
+     * @param gridSizes The grid sizes of the games, as {columns, rows}.
+     * @param maxTicks  Maximal number of ticks of a game.
+     * @param baseSeed  Seed of the first game.
+     */
+    public BatchRunner(int[][] gridSizes, long maxTicks, long baseSeed) {
+        this.gridSizes = gridSizes;
+        this.maxTicks = maxTicks;
+        this.baseSeed = baseSeed;
+    }
+
+    /**
+     * Runs a batch of games in parallel.
+     *
+     * @param games   Number of games.
+     * @param threads Number of worker threads.
+     * @return The aggregated statistics of the games.
+     * @throws InterruptedException If interrupted while waiting for the games.
+     * @throws ExecutionException   If a game failed.
+     */
+    public BatchStats run(int games, int threads) throws InterruptedException, ExecutionException {
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            return pool.submit(() -> IntStream.range(0, games)
+                    .parallel()
+                    .mapToObj(this::playGame)
+                    .collect(BatchStats::new, BatchStats::add, BatchStats::combine)).get();
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Plays a single game of the batch until it ends or reaches the maximal number of ticks.
+     *
+     * @param index The index of the game in the batch.
+     * @return The game, after it was played.
+     */
+    private HeadlessSimulation playGame(int index) {
+        int[] size = gridSizes[index % gridSizes.length];
+        HeadlessSimulation simulation = new HeadlessSimulation(size[0], size[1], KeyInput.NONE,
+                HeadlessSimulation.DEFAULT_DELTA_TIME, baseSeed + index);
+        simulation.run(maxTicks);
+        return simulation;
+    }
+
+    /**
+     * Parses grid sizes written as columns x rows, separated by commas (for example "8x7,16x10").
+     *
+     * @param text The grid sizes.
+     * @return The grid sizes, as {columns, rows}.
+     */
+    private static int[][] parseGridSizes(String text) {
+        String[] sizes = text.split(GRID_SIZES_SEPARATOR);
+        int[][] gridSizes = new int[sizes.length][];
+        for (int i = 0; i < sizes.length; i++) {
+            String[] parts = sizes[i].trim().split(GRID_SIZE_SEPARATOR);
+            gridSizes[i] = new int[]{Integer.parseInt(parts[0]), Integer.parseInt(parts[1])};
+        }
+        return gridSizes;
+    }
+
+    /**
+     * Runs a batch of games and prints their statistics and the throughput.
+     * Arguments (all optional): number of games, grid sizes (for example "8x7,16x10"),
+     * maximal ticks of a game, seed of the first game, number of threads (all the cores by default).
+     *
+     * @param args Command-line arguments
+     * @throws InterruptedException If interrupted while waiting for the games.
+     * @throws ExecutionException   If a game failed.
+     */
+    public static void main(String[] args) throws InterruptedException, ExecutionException {
+        int games = args.length >= 1 ? Integer.parseInt(args[0]) : DEFAULT_GAMES;
+        int[][] gridSizes = parseGridSizes(args.length >= 2 ? args[1] : DEFAULT_GRID_SIZES);
+        long maxTicks = args.length >= 3 ? Long.parseLong(args[2]) : DEFAULT_MAX_TICKS;
+        long baseSeed = args.length >= 4 ? Long.parseLong(args[3]) : DEFAULT_BASE_SEED;
+        int threads = args.length >= 5 ? Integer.parseInt(args[4]) : Runtime.getRuntime().availableProcessors();
+
+        long start = System.nanoTime();
+        BatchStats stats = new BatchRunner(gridSizes, maxTicks, baseSeed).run(games, threads);
+        double seconds = (System.nanoTime() - start) / NANOS_IN_SECOND;
+        System.out.println(stats);
+        System.out.printf("threads=%d seconds=%.2f gamesPerSecond=%.1f ticksPerSecond=%.0f%n",
+                threads, seconds, stats.getGames() / seconds, stats.getTicks() / seconds);
+    }
+}
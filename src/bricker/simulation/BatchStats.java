@@ -0,0 +1,113 @@
+package bricker.simulation;
+
+import bricker.main.GameOutcome;
+import bricker.main.GameStats;
+
+/**
+ * Aggregated statistics of a batch of headless games.
+ * Each worker thread accumulates the games it ran into its own instance, and the instances
+ * are combined at the end - so the games never share mutable state.
+ *
+ * @author Amit Tzur and Zohar Mattatia
+ */
+public class BatchStats {
+    // =========================== fields =========================== //
+    /* number of games */
+    private long games = 0;
+    /* number of won games */
+    private long wins = 0;
+    /* number of lost games */
+    private long losses = 0;
+    /* total ticks of all the games */
+    private long ticks = 0;
+    /* total ticks of the won games - until their bricks were cleared */
+    private long ticksToClear = 0;
+    /* total pucks spawned in all the games */
+    private long pucksSpawned = 0;
+    /* total explosions in all the games */
+    private long explosions = 0;
+
+    /**
+     * Adds a finished (or stopped) game to the statistics.
+     *
+     * @param simulation The game.
+     */
+    public void add(HeadlessSimulation simulation) {
+        games++;
+        ticks += simulation.getTicks();
+        if (simulation.getOutcome() == GameOutcome.WON) {
+            wins++;
+            ticksToClear += simulation.getTicks();
+        } else if (simulation.getOutcome() == GameOutcome.LOST) {
+            losses++;
+        }
+        GameStats stats = simulation.getGame().getStats();
+        pucksSpawned += stats.getPucksSpawned();
+        explosions += stats.getExplosions();
+    }
+
+    /**
+     * Adds the statistics of other games to these statistics.
+     *
+     * @param other The statistics of the other games.
+     */
+    public void combine(BatchStats other) {
+        games += other.games;
+        wins += other.wins;
+        losses += other.losses;
+        ticks += other.ticks;
+        ticksToClear += other.ticksToClear;
+        pucksSpawned += other.pucksSpawned;
+        explosions += other.explosions;
+    }
+
+    /**
+     * Getter for the number of games.
+     *
+     * @return The number of games.
+     */
+    public long getGames() {
+        return games;
+    }
+
+    /**
+     * Getter for the total ticks of all the games.
+     *
+     * @return The total ticks.
+     */
+    public long getTicks() {
+        return ticks;
+    }
+
+    /**
+     * Gets the share of the games that were won.
+     *
+     * @return The win rate, between 0 and 1 (0 if there are no games).
+     */
+    public double getWinRate() {
+        return games == 0 ? 0 : (double) wins / games;
+    }
+
+    /**
+     * Gets the mean number of ticks it took the won games to clear their bricks.
+     *
+     * @return The mean ticks to clear (0 if no game was won).
+     */
+    public double getMeanTicksToClear() {
+        return wins == 0 ? 0 : (double) ticksToClear / wins;
+    }
+
+    /**
+     * Returns a multi-line report of the statistics.
+     *
+     * @return The report string.
+     */
+    @Override
+    public String toString() {
+        double perGame = games == 0 ? 0 : 1.0 / games;
+        return String.format("games=%d won=%d lost=%d unfinished=%d winRate=%.3f%n" +
+                        "meanTicksToClear=%.1f meanTicks=%.1f pucksPerGame=%.2f explosionsPerGame=%.2f",
+                games, wins, losses, games - wins - losses, getWinRate(),
+                getMeanTicksToClear(), ticks * perGame, pucksSpawned * perGame, explosions * perGame);
+    }
+}
@@ -0,0 +1,262 @@
+package bricker.simulation;
+
+import bricker.assets.HeadlessAssets;
+import bricker.input.AutopilotInput;
+import bricker.input.KeyInput;
+import bricker.levels.Level;
+import bricker.main.BrickerGame;
+import bricker.main.GameConstants;
+import bricker.main.GameRandom;
+import bricker.main.GameOutcome;
+import bricker.profiling.FramePhase;
+import bricker.profiling.FrameProfiler;
+import bricker.profiling.LifecycleAuditor;
+import danogl.collisions.GameObjectCollection;
+import danogl.collisions.Layer;
+import danogl.util.Vector2;
+
+/**
+ * Runs a Bricker game without a window, an audio device or danogl's render loop.
+ * The game objects live in a game object collection owned by the simulation, and every tick
+ * advances them by a fixed delta time, as fast as the CPU allows.
+ * Used for soak runs and for driving the game logic from tools.
+ *
+ * @author Amit Tzur and Zohar Mattatia
+ */
+public class HeadlessSimulation {
+    // =========================== public constants =========================== //
+    /* the delta time of a single tick - a 60 fps frame */
+    public static final float DEFAULT_DELTA_TIME = 1f / 60;
+
+    // =========================== private constants =========================== //
+    /* default number of brick columns for the command line run */
+    private static final int DEFAULT_BRICK_COLUMNS = 8;
+    /* default number of brick rows for the command line run */
+    private static final int DEFAULT_BRICK_ROWS = 7;
+    /* default maximal number of ticks for the command line run */
+    private static final long DEFAULT_MAX_TICKS = 100_000;
+    /* default seed for the command line run */
+    private static final long DEFAULT_SEED = 1;
+    /* nanoseconds in a second - for the ticks per second report */
+    private static final double NANOS_IN_SECOND = 1e9;
+
+    // =========================== fields =========================== //
+    /* the collection holding the game objects of the simulated game */
+    private final GameObjectCollection gameObjects;
+    /* the simulated game */
+    private final BrickerGame game;
+    /* the fixed delta time of every tick */
+    private final float deltaTime;
+    /* the input of the game if it is an autopilot, which picks its keys every tick - null otherwise */
+    private final AutopilotInput autopilot;
+    /* audits the lifecycle of the game objects, or null if the auditor is off */
+    private final LifecycleAuditor auditor;
+    /* number of ticks run so far */
+    private long ticks = 0;
+    /* the outcome of the game after the last tick */
+    private GameOutcome outcome = GameOutcome.RUNNING;
+
+    /**
+     * Constructor for HeadlessSimulation.
+     * Creates and initializes a new game in a fresh game object collection.
+     *
+     * @param brickColumns Number of brick columns.
+     * @param brickRows    Number of brick rows.
+     * @param input        Keyboard state read by the game.
+     * @param deltaTime    The fixed delta time of every tick.
+     * @param seed         The seed of the game - the same seed and input give the same game.
+     */
+    public HeadlessSimulation(int brickColumns, int brickRows, KeyInput input, float deltaTime, long seed) {
+        this(brickColumns, brickRows, input, deltaTime, seed, GameConstants.DEFAULT_WINDOW_DIMENSIONS);
+    }
+
+    /**
+     * Constructor for HeadlessSimulation, with a given window size.
+     * Creates and initializes a new game in a fresh game object collection.
+     *
+     * @param brickColumns     Number of brick columns.
+     * @param brickRows        Number of brick rows.
+     * @param input            Keyboard state read by the game.
+     * @param deltaTime        The fixed delta time of every tick.
+     * @param seed             The seed of the game - the same seed and input give the same game.
+     * @param windowDimensions Dimensions of the simulated window.
+     */
+    public HeadlessSimulation(int brickColumns,
+                              int brickRows,
+                              KeyInput input,
+                              float deltaTime,
+                              long seed,
+                              Vector2 windowDimensions) {
+        this(brickColumns, brickRows, null, input, deltaTime, seed, windowDimensions);
+    }
+
+    /**
+     * Constructor for HeadlessSimulation, for a game on a given level.
+     * Creates and initializes a new game in a fresh game object collection.
+     *
+     * @param level            The layout of the bricks.
+     * @param input            Keyboard state read by the game.
+     * @param deltaTime        The fixed delta time of every tick.
+     * @param seed             The seed of the game - the same seed and input give the same game.
+     * @param windowDimensions Dimensions of the simulated window.
+     */
+    public HeadlessSimulation(Level level, KeyInput input, float deltaTime, long seed, Vector2 windowDimensions) {
+        this(level.getColumns(), level.getRows(), level, input, deltaTime, seed, windowDimensions);
+    }
+
+    /**
+     * Constructor for HeadlessSimulation, shared by the public constructors.
+     *
+     * @param brickColumns     Number of brick columns.
+     * @param brickRows        Number of brick rows.
+     * @param level            The layout of the bricks - null for a randomly sampled layout.
+     * @param input            Keyboard state read by the game.
+     * @param deltaTime        The fixed delta time of every tick.
+     * @param seed             The seed of the game - the same seed and input give the same game.
+     * @param windowDimensions Dimensions of the simulated window.
+     */
+    private HeadlessSimulation(int brickColumns,
+                               int brickRows,
+                               Level level,
+                               KeyInput input,
+                               float deltaTime,
+                               long seed,
+                               Vector2 windowDimensions) {
+        this.gameObjects = new GameObjectCollection();
+        this.deltaTime = deltaTime;
+        this.autopilot = input instanceof AutopilotInput ? (AutopilotInput) input : null;
+        this.game = level != null
+                ? new BrickerGame(gameObjects, new HeadlessAssets(), input, windowDimensions,
+                level, new GameRandom(seed))
+                : new BrickerGame(gameObjects, new HeadlessAssets(), input, windowDimensions,
+                brickColumns, brickRows, new GameRandom(seed));
+        this.game.initialize();
+        this.auditor = LifecycleAuditor.ENABLED ? new LifecycleAuditor(gameObjects, BrickerGame.getLayers()) : null;
+    }
+
+    /**
+     * Advances the game by a single tick of the fixed delta time.
+     * Does nothing once the game has ended.
+     *
+     * @return The outcome of the game after the tick.
+     */
+    public GameOutcome tick() {
+        return tick(deltaTime);
+    }
+
+    /**
+     * Advances the game by a single tick - updating the game objects and then the game rules.
+     * Does nothing once the game has ended.
+     *
+     * @param tickDeltaTime The delta time of this tick - a replayed tick has its recorded one.
+     * @return The outcome of the game after the tick.
+     */
+    public GameOutcome tick(float tickDeltaTime) {
+        if (outcome != GameOutcome.RUNNING) {
+            return outcome;
+        }
+        if (autopilot != null) {
+            autopilot.startTick(gameObjects.objectsInLayer(Layer.DEFAULT));
+        }
+        FrameProfiler.frameStart();
+        long profileStart = FrameProfiler.phaseStart();
+        gameObjects.update(tickDeltaTime);
+        FrameProfiler.phaseEnd(FramePhase.UPDATE, profileStart);
+
+        profileStart = FrameProfiler.phaseStart();
+        outcome = game.update();
+        FrameProfiler.phaseEnd(FramePhase.GAME_RULES, profileStart);
+        FrameProfiler.frameEnd();
+        if (auditor != null) {
+            auditor.tick();
+        }
+        ticks++;
+        return outcome;
+    }
+
+    /**
+     * Runs ticks until the game ends or the maximal number of ticks is reached.
+     *
+     * @param maxTicks The maximal number of ticks to run.
+     * @return The outcome of the game after the last tick.
+     */
+    public GameOutcome run(long maxTicks) {
+        while (outcome == GameOutcome.RUNNING && ticks < maxTicks) {
+            tick();
+        }
+        return outcome;
+    }
+
+    /**
+     * Getter for the number of ticks run so far.
+     *
+     * @return The number of ticks run so far.
+     */
+    public long getTicks() {
+        return ticks;
+    }
+
+    /**
+     * Getter for the simulated game.
+     *
+     * @return The simulated game.
+     */
+    public BrickerGame getGame() {
+        return game;
+    }
+
+    /**
+     * Getter for the collection holding the game objects of the simulated game.
+     *
+     * @return The game object collection.
+     */
+    GameObjectCollection getGameObjects() {
+        return gameObjects;
+    }
+
+    /**
+     * Getter for the lifecycle auditor of the game objects.
+     *
+     * @return The auditor, or null if it is off.
+     */
+    public LifecycleAuditor getAuditor() {
+        return auditor;
+    }
+
+    /**
+     * Getter for the outcome of the game after the last tick.
+     *
+     * @return The outcome of the game.
+     */
+    public GameOutcome getOutcome() {
+        return outcome;
+    }
+
+    /**
+     * Runs a single headless game with no user input and prints its outcome and speed.
+     * With the bricker.autopilot system property set, the game is played by the autopilot instead.
+     * With the bricker.audit system property set, the lifecycle audit of the game objects is printed too.
+     * Arguments (all optional): brick columns, brick rows, maximal number of ticks, seed.
+     *
+     * @param args Command-line arguments
+     */
+    public static void main(String[] args) {
+        int columns = args.length >= 2 ? Integer.parseInt(args[0]) : DEFAULT_BRICK_COLUMNS;
+        int rows = args.length >= 2 ? Integer.parseInt(args[1]) : DEFAULT_BRICK_ROWS;
+        long maxTicks = args.length >= 3 ? Long.parseLong(args[2]) : DEFAULT_MAX_TICKS;
+        long seed = args.length >= 4 ? Long.parseLong(args[3]) : DEFAULT_SEED;
+
+        KeyInput input = Boolean.getBoolean(AutopilotInput.ENABLED_PROPERTY)
+                ? new AutopilotInput(GameConstants.DEFAULT_WINDOW_DIMENSIONS.x())
+                : KeyInput.NONE;
+        HeadlessSimulation simulation = new HeadlessSimulation(columns, rows, input, DEFAULT_DELTA_TIME, seed);
+        long start = System.nanoTime();
+        GameOutcome outcome = simulation.run(maxTicks);
+        double seconds = (System.nanoTime() - start) / NANOS_IN_SECOND;
+        System.out.printf("outcome=%s ticks=%d ticksPerSecond=%.0f%n",
+                outcome, simulation.getTicks(), simulation.getTicks() / seconds);
+        if (simulation.getAuditor() != null) {
+            System.out.print(simulation.getAuditor());
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package bricker.simulation;
+
+import bricker.input.InputLog;
+import bricker.input.ReplayInput;
+import bricker.levels.Level;
+import bricker.levels.LevelFiles;
+import bricker.main.GameOutcome;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+
+/**
+ * Replays a recorded session headless, as fast as the CPU allows.
+ * The game is created with the recorded seed, grid size and window, and every tick gets the recorded
+ * keys and delta time - so it plays out the same as it did in the window, in a fraction of the time.
+ * A session played on a level is replayed only on that level, and a session played on a random layout
+ * only without one.
+ *
+ * @author Amit Tzur and Zohar Mattatia
+ */
+public class InputReplay {
+    // =========================== private constants =========================== //
+    /* nanoseconds in a second - for the ticks per second report */
+    private static final double NANOS_IN_SECOND = 1e9;
+
+    // =========================== fields =========================== //
+    /* the replayed input */
+    private final ReplayInput input;
+    /* the game the input is replayed into */
+    private final HeadlessSimulation simulation;
+
+    /**
+     * Constructor for InputReplay. Creates the recorded game.
+     *
+     * @param log The recorded session.
+     * @throws IllegalArgumentException If the session was played on a level.
+     */
+    public InputReplay(InputLog log) {
+        if (log.hasLevel()) {
+            throw new IllegalArgumentException("the session was played on a level - replay it on that level");
+        }
+        this.input = log.replay();
+        this.simulation = new HeadlessSimulation(log.getBrickColumns(), log.getBrickRows(), input,
+                HeadlessSimulation.DEFAULT_DELTA_TIME, log.getSeed(), log.getWindowDimensions());
+    }
+
+    /**
+     * Constructor for InputReplay, for a session recorded on a level. Creates the recorded game.
+     *
+     * @param log   The recorded session.
+     * @param level The level the session was played on.
+     * @throws IllegalArgumentException If the session wasn't played on this level.
+     */
+    public InputReplay(InputLog log, Level level) {
+        if (!log.isPlayedOn(level)) {
+            throw new IllegalArgumentException(log.hasLevel()
+                    ? "the session was played on a different level"
+                    : "the session was played on a random layout - replay it without a level");
+        }
+        this.input = log.replay();
+        this.simulation = new HeadlessSimulation(level, input,
+                HeadlessSimulation.DEFAULT_DELTA_TIME, log.getSeed(), log.getWindowDimensions());
+    }
+
+    /**
+     * Replays the whole session, or until the game ends.
+     *
+     * @return The outcome of the game after the last replayed tick.
+     */
+    public GameOutcome run() {
+        GameOutcome outcome = GameOutcome.RUNNING;
+        while (outcome == GameOutcome.RUNNING && input.hasNextTick()) {
+            outcome = simulation.tick(input.nextTick());
+        }
+        return outcome;
+    }
+
+    /**
+     * Getter for the game the input is replayed into.
+     *
+     * @return The simulation.
+     */
+    public HeadlessSimulation getSimulation() {
+        return simulation;
+    }
+
+    /**
+     * Replays a recorded session and prints its outcome and speed.
+     * Arguments: the path of the input log, and the path of the level if it was played on one.
+     *
+     * @param args Command-line arguments
+     * @throws IOException If the log or the level can't be read.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("usage: InputReplay <input log> [level]");
+            return;
+        }
+        InputLog log = InputLog.read(Paths.get(args[0]));
+        System.out.println(log);
+
+        InputReplay replay;
+        try {
+            replay = args.length >= 2
+                    ? new InputReplay(log, LevelFiles.load(Paths.get(args[1])))
+                    : new InputReplay(log);
+        } catch (IllegalArgumentException e) {
+            System.err.println("can't replay " + args[0] + ": " + e.getMessage());
+            return;
+        }
+        long start = System.nanoTime();
+        GameOutcome outcome = replay.run();
+        double seconds = (System.nanoTime() - start) / NANOS_IN_SECOND;
+        long ticks = replay.getSimulation().getTicks();
+        System.out.printf("outcome=%s ticks=%d of %d ticksPerSecond=%.0f%n",
+                outcome, ticks, log.getTicks(), ticks / seconds);
+    }
+}